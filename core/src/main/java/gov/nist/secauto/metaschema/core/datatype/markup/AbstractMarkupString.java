@@ -40,6 +40,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -51,6 +52,7 @@ import javax.xml.stream.XMLStreamWriter;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 @SuppressWarnings("PMD.CouplingBetweenObjects")
 public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYPE>>
@@ -67,7 +69,14 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
   // private static final String DEFAULT_HTML_PREFIX = "";
 
   @NonNull
-  private final Document document;
+  private final Lazy<Document> document;
+  /**
+   * The Markdown text the markup was created from, or {@code null} if the
+   * markup was not created from Markdown or if the AST graph has been handed out
+   * and may have been modified.
+   */
+  @Nullable
+  private volatile String markdownSource;
 
   /**
    * Construct a new markup string based on the provided flexmark AST graph.
@@ -76,17 +85,86 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
    *          the AST graph representing Markdown text
    */
   protected AbstractMarkupString(@NonNull Document document) {
-    this.document = document;
+    this.document = ObjectUtils.notNull(Lazy.lazy(() -> document));
+    this.markdownSource = null;
+  }
+
+  /**
+   * Construct a new markup string whose flexmark AST graph is produced when it
+   * is first needed.
+   * <p>
+   * This allows markup that is only read and never accessed to avoid the cost
+   * of parsing.
+   *
+   * @param documentSupplier
+   *          used to produce the AST graph representing Markdown text
+   */
+  protected AbstractMarkupString(@NonNull Supplier<Document> documentSupplier) {
+    this(documentSupplier, null);
+  }
+
+  /**
+   * Construct a new markup string whose flexmark AST graph is produced when it
+   * is first needed.
+   * <p>
+   * If the markup is created from Markdown text, the text is retained and is
+   * used as the result of {@link #toMarkdown()} until the AST graph is handed
+   * out for modification. This allows Markdown to be written back out without
+   * parsing and formatting it, giving the same result whether or not the AST
+   * graph has been produced.
+   *
+   * @param documentSupplier
+   *          used to produce the AST graph representing Markdown text
+   * @param markdownSource
+   *          the Markdown text the AST graph is parsed from, or {@code null} if
+   *          the markup is not created from Markdown
+   */
+  protected AbstractMarkupString(
+      @NonNull Supplier<Document> documentSupplier,
+      @Nullable String markdownSource) {
+    this.document = ObjectUtils.notNull(Lazy.lazy(documentSupplier));
+    this.markdownSource = markdownSource;
+  }
+
+  /**
+   * Determine if the flexmark AST graph for this markup has been produced.
+   *
+   * @return {@code true} if the AST graph has been produced, or {@code false}
+   *         if producing it has been deferred until it is needed
+   */
+  public boolean isParsed() {
+    return document.isAvailable();
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Since the caller may modify the returned AST graph, {@link #toMarkdown()}
+   * will format the AST graph from then on instead of returning the Markdown
+   * text the markup was created from.
+   */
   @Override
   public Document getDocument() {
-    return document;
+    markdownSource = null;
+    return getParsedDocument();
+  }
+
+  /**
+   * Get the AST graph for read-only use, producing it if needed.
+   * <p>
+   * Unlike {@link #getDocument()}, this keeps the Markdown text the markup was
+   * created from as the result of {@link #toMarkdown()}.
+   *
+   * @return the AST graph
+   */
+  @NonNull
+  private Document getParsedDocument() {
+    return ObjectUtils.notNull(document.get());
   }
 
   @Override
   public boolean isEmpty() {
-    return getDocument().getFirstChild() == null;
+    return getParsedDocument().getFirstChild() == null;
   }
 
   /**
@@ -159,7 +237,7 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
 
     String retval;
 
-    Document document = getDocument();
+    Document document = getParsedDocument();
     if (document.hasChildren()) {
 
       XMLOutputFactory2 factory = (XMLOutputFactory2) XMLOutputFactory.newInstance();
@@ -193,29 +271,34 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
     // }
     // return QUOTE_TAG_REPLACEMENT_PATTERN.matcher(html)
     // .replaceAll("&quot;");
-    String html = getFlexmarkFactory().getHtmlRenderer().render(getDocument());
+    String html = getFlexmarkFactory().getHtmlRenderer().render(getParsedDocument());
     return ObjectUtils.notNull(QUOTE_TAG_REPLACEMENT_PATTERN.matcher(html)
         .replaceAll("&quot;"));
   }
 
   @Override
   public String toMarkdown() {
-    return toMarkdown(getFlexmarkFactory().getFormatter());
+    String retval = markdownSource;
+    // the source is only dropped once the AST may have been modified
+    if (retval == null) {
+      retval = toMarkdown(getFlexmarkFactory().getFormatter());
+    }
+    return retval;
   }
 
   @Override
   public String toMarkdown(Formatter formatter) {
-    return ObjectUtils.notNull(formatter.render(getDocument()));
+    return ObjectUtils.notNull(formatter.render(getParsedDocument()));
   }
 
   @Override
   public String toText() {
-    return ObjectUtils.notNull(new TextCollectingVisitor().collectAndGetText(document));
+    return ObjectUtils.notNull(new TextCollectingVisitor().collectAndGetText(getParsedDocument()));
   }
 
   @Override
   public void writeXHtml(String namespace, XMLStreamWriter2 streamWriter) throws XMLStreamException {
-    Document document = getDocument();
+    Document document = getParsedDocument();
     if (document.hasChildren()) {
       IMarkupWriter<XMLStreamWriter, XMLStreamException> writer = new MarkupXmlStreamWriter(
           namespace,
@@ -232,7 +315,7 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
   @Override
   public void writeXHtml(String namespace, XMLEventFactory2 eventFactory, XMLEventWriter eventWriter)
       throws XMLStreamException {
-    Document document = getDocument();
+    Document document = getParsedDocument();
     if (document.hasChildren()) {
 
       IMarkupWriter<XMLEventWriter, XMLStreamException> writer = new MarkupXmlEventWriter(
@@ -242,7 +325,7 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
           eventFactory);
 
       IMarkupVisitor<XMLEventWriter, XMLStreamException> visitor = new MarkupVisitor<>(isBlock());
-      visitor.visitDocument(getDocument(), writer);
+      visitor.visitDocument(document, writer);
     } else {
       eventWriter.add(eventFactory.createSpace(""));
     }
@@ -252,8 +335,9 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
   @SuppressWarnings("null")
   @Override
   public Stream<Node> getNodesAsStream() {
-    return Stream.concat(Stream.of(getDocument()),
-        StreamSupport.stream(getDocument().getDescendants().spliterator(), false));
+    Document document = getDocument();
+    return Stream.concat(Stream.of(document),
+        StreamSupport.stream(document.getDescendants().spliterator(), false));
   }
 
   @Override
@@ -280,6 +364,6 @@ public abstract class AbstractMarkupString<TYPE extends AbstractMarkupString<TYP
 
   @Override
   public String toString() {
-    return AstCollectingVisitor.asString(getDocument());
+    return AstCollectingVisitor.asString(getParsedDocument());
   }
 }
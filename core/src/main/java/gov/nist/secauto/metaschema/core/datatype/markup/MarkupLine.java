@@ -17,10 +17,12 @@ import com.vladsch.flexmark.util.misc.Extension;
 import gov.nist.secauto.metaschema.core.datatype.markup.flexmark.FlexmarkConfiguration;
 import gov.nist.secauto.metaschema.core.datatype.markup.flexmark.FlexmarkFactory;
 import gov.nist.secauto.metaschema.core.datatype.markup.flexmark.SuppressPTagExtension;
+import gov.nist.secauto.metaschema.core.datatype.markup.flexmark.XmlMarkupParser;
 
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -57,6 +59,8 @@ public final class MarkupLine
    * @param html
    *          the HTML
    * @return the markup instance
+   * @throws IllegalStateException
+   *           if the HTML contains more than one block
    */
   @NonNull
   public static MarkupLine fromHtml(@NonNull String html) {
@@ -64,16 +68,55 @@ public final class MarkupLine
         parseHtml(html, FLEXMARK_FACTORY.getFlexmarkHtmlConverter(), FLEXMARK_FACTORY.getMarkdownParser()));
   }
 
+  /**
+   * Convert the provided HTML string, which has already been checked to contain
+   * at most one block, into markup.
+   * <p>
+   * The HTML is not parsed until the markup's AST is first needed. Since the
+   * single block check is only repeated then, this is intended for HTML whose
+   * structure was checked as it was read, such as by
+   * {@link XmlMarkupParser#parseMarkupline(org.codehaus.stax2.XMLEventReader2)}.
+   * Use {@link #fromHtml(String)} for other HTML.
+   *
+   * @param html
+   *          the HTML
+   * @return the markup instance
+   */
+  @NonNull
+  public static MarkupLine fromCheckedHtml(@NonNull String html) {
+    return new MarkupLine(() -> checkLine(
+        parseHtml(html, FLEXMARK_FACTORY.getFlexmarkHtmlConverter(), FLEXMARK_FACTORY.getMarkdownParser())));
+  }
+
   /**
    * Convert the provided markdown string into markup.
+   * <p>
+   * Markdown on a single line is not parsed until the markup's AST is first
+   * needed. Markdown spanning multiple lines may contain more than one block, so
+   * it is parsed and checked immediately.
    *
    * @param markdown
    *          the markup
    * @return the markup instance
+   * @throws IllegalStateException
+   *           if the markdown contains more than one block
    */
   @NonNull
   public static MarkupLine fromMarkdown(@NonNull String markdown) {
-    return new MarkupLine(parseMarkdown(markdown, FLEXMARK_FACTORY.getMarkdownParser()));
+    MarkupLine retval;
+    if (isSingleLine(markdown)) {
+      retval = new MarkupLine(
+          () -> checkLine(parseMarkdown(markdown, FLEXMARK_FACTORY.getMarkdownParser())),
+          markdown);
+    } else {
+      retval = new MarkupLine(parseMarkdown(markdown, FLEXMARK_FACTORY.getMarkdownParser()));
+    }
+    return retval;
+  }
+
+  private static boolean isSingleLine(@NonNull String markdown) {
+    String content = markdown.trim();
+    return content.indexOf('\n') < 0 && content.indexOf('\r') < 0;
   }
 
   @Override
@@ -88,18 +131,49 @@ public final class MarkupLine
    *          the parsed markup AST
    */
   protected MarkupLine(@NonNull Document astNode) {
-    super(astNode);
+    super(checkLine(astNode));
+  }
+
+  /**
+   * Construct a new single line markup instance whose AST is produced when it
+   * is first needed.
+   *
+   * @param astSupplier
+   *          used to produce the markup AST, which must be checked using
+   *          {@link #checkLine(Document)}
+   */
+  private MarkupLine(@NonNull Supplier<Document> astSupplier) {
+    super(astSupplier);
+  }
+
+  /**
+   * Construct a new single line markup instance whose AST is parsed from the
+   * provided Markdown when it is first needed.
+   *
+   * @param astSupplier
+   *          used to parse the markup AST, which must be checked using
+   *          {@link #checkLine(Document)}
+   * @param markdown
+   *          the Markdown the AST is parsed from
+   */
+  private MarkupLine(@NonNull Supplier<Document> astSupplier, @NonNull String markdown) {
+    super(astSupplier, markdown);
+  }
+
+  @NonNull
+  private static Document checkLine(@NonNull Document astNode) {
     Node child = astNode.getFirstChild();
     if (child instanceof Block && child.getNext() != null) {
       throw new IllegalStateException("multiple blocks not allowed");
     } // else empty markdown
+    return astNode;
   }
 
   @Override
   public MarkupLine copy() {
     // TODO: find a way to do a deep copy
     // this is a shallow copy that uses the same underlying Document object
-    return new MarkupLine(getDocument());
+    return new MarkupLine(this::getDocument);
   }
 
   @Override
@@ -9,6 +9,8 @@ import com.vladsch.flexmark.util.ast.Document;
 
 import gov.nist.secauto.metaschema.core.datatype.markup.flexmark.FlexmarkFactory;
 
+import java.util.function.Supplier;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 public class MarkupMultiline
@@ -19,6 +21,8 @@ public class MarkupMultiline
 
   /**
    * Convert the provided HTML string into markup.
+   * <p>
+   * The HTML is not parsed until the markup's AST is first needed.
    *
    * @param html
    *          the HTML
@@ -27,7 +31,7 @@ public class MarkupMultiline
   @NonNull
   public static MarkupMultiline fromHtml(@NonNull String html) {
     return new MarkupMultiline(
-        parseHtml(
+        () -> parseHtml(
             html,
             FLEXMARK_FACTORY.getFlexmarkHtmlConverter(),
             FLEXMARK_FACTORY.getMarkdownParser()));
@@ -35,6 +39,8 @@ public class MarkupMultiline
 
   /**
    * Convert the provided markdown string into markup.
+   * <p>
+   * The markdown is not parsed until the markup's AST is first needed.
    *
    * @param markdown
    *          the markup
@@ -43,7 +49,8 @@ public class MarkupMultiline
   @NonNull
   public static MarkupMultiline fromMarkdown(@NonNull String markdown) {
     return new MarkupMultiline(
-        parseMarkdown(markdown, FLEXMARK_FACTORY.getMarkdownParser()));
+        () -> parseMarkdown(markdown, FLEXMARK_FACTORY.getMarkdownParser()),
+        markdown);
   }
 
   /**
@@ -56,6 +63,30 @@ public class MarkupMultiline
     super(astNode);
   }
 
+  /**
+   * Construct a new multiline markup instance whose AST is produced when it is
+   * first needed.
+   *
+   * @param astSupplier
+   *          used to produce the markup AST
+   */
+  protected MarkupMultiline(@NonNull Supplier<Document> astSupplier) {
+    super(astSupplier);
+  }
+
+  /**
+   * Construct a new multiline markup instance whose AST is parsed from the
+   * provided Markdown when it is first needed.
+   *
+   * @param astSupplier
+   *          used to parse the markup AST
+   * @param markdown
+   *          the Markdown the AST is parsed from
+   */
+  protected MarkupMultiline(@NonNull Supplier<Document> astSupplier, @NonNull String markdown) {
+    super(astSupplier, markdown);
+  }
+
   @Override
   public FlexmarkFactory getFlexmarkFactory() {
     return FLEXMARK_FACTORY;
@@ -65,7 +96,7 @@ public class MarkupMultiline
   public MarkupMultiline copy() {
     // TODO: find a way to do a deep copy
     // this is a shallow copy that uses the same underlying Document object
-    return new MarkupMultiline(getDocument());
+    return new MarkupMultiline(this::getDocument);
   }
 
   @Override
@@ -50,6 +50,11 @@ public final class XmlMarkupParser {
           "table",
           "img"));
 
+  /**
+   * Used to parse contents without limiting the number of blocks.
+   */
+  private static final int UNLIMITED_BLOCKS = Integer.MAX_VALUE;
+
   @NonNull
   private static final XmlMarkupParser SINGLETON = new XmlMarkupParser();
 
@@ -70,18 +75,22 @@ public final class XmlMarkupParser {
 
   /**
    * Parse a single line of markup from XHTML.
+   * <p>
+   * Since the markup is parsed when it is first used, content that would
+   * produce more than one block is rejected here instead.
    *
    * @param reader
    *          the XML event stream reader
    * @return the markup string
    * @throws XMLStreamException
-   *           if an error occurred while parsing
+   *           if an error occurred while parsing, or if the content contains
+   *           more than one block
    */
   public MarkupLine parseMarkupline(XMLEventReader2 reader) throws XMLStreamException { // NOPMD - acceptable
     StringBuilder buffer = new StringBuilder();
-    parseContents(reader, null, buffer);
+    parseContents(reader, null, buffer, 1);
     String html = buffer.toString().trim();
-    return html.isEmpty() ? null : MarkupLine.fromHtml(html);
+    return html.isEmpty() ? null : MarkupLine.fromCheckedHtml(html);
   }
 
   /**
@@ -190,7 +199,7 @@ public final class XmlMarkupParser {
       buffer.append('>');
 
       // parse until the start's END_ELEMENT is reached
-      parseContents(reader, start, buffer);
+      parseContents(reader, start, buffer, UNLIMITED_BLOCKS);
 
       buffer
           .append("</")
@@ -209,8 +218,31 @@ public final class XmlMarkupParser {
     }
   }
 
-  private void parseContents(XMLEventReader2 reader, StartElement start, StringBuilder buffer)
+  /**
+   * Parse the contents of an element, making sure the contents form no more
+   * than the provided number of blocks.
+   * <p>
+   * Each block element in the contents forms a block, as does each run of text
+   * and inline elements between them.
+   *
+   * @param reader
+   *          the XML event stream reader
+   * @param start
+   *          the element whose contents are parsed, or {@code null} if the
+   *          contents are at the top level
+   * @param buffer
+   *          the markup string buffer
+   * @param maxBlocks
+   *          the maximum number of blocks allowed, or {@link #UNLIMITED_BLOCKS}
+   * @throws XMLStreamException
+   *           if an error occurred while parsing, or if the contents contain
+   *           more than the allowed number of blocks
+   */
+  private void parseContents(XMLEventReader2 reader, StartElement start, StringBuilder buffer, int maxBlocks)
       throws XMLStreamException {
+    int blocks = 0;
+    boolean inlineRun = false;
+
     // if (LOGGER.isDebugEnabled()) {
     // LOGGER.debug("parseContents(enter): {}",
     // XmlEventUtil.toString(reader.peek()));
@@ -227,7 +259,15 @@ public final class XmlMarkupParser {
 
       if (event.isStartElement()) {
         StartElement nextStart = event.asStartElement();
-        // QName nextName = nextStart.getName();
+        String name = nextStart.getName().getLocalPart();
+        // an image is rendered inline
+        if (BLOCK_ELEMENTS.contains(name) && !"img".equals(name)) {
+          blocks++;
+          inlineRun = false;
+        } else if (!inlineRun) {
+          blocks++;
+          inlineRun = true;
+        }
         parseStartElement(reader, nextStart, buffer);
 
         // if (LOGGER.isDebugEnabled()) {
@@ -241,9 +281,17 @@ public final class XmlMarkupParser {
         // reader.nextEvent();
       } else if (event.isCharacters()) {
         Characters characters = event.asCharacters();
+        if (!inlineRun && !characters.isWhiteSpace()) {
+          blocks++;
+          inlineRun = true;
+        }
         buffer.append(Escaping.escapeHtml(characters.getData(), true));
         reader.nextEvent();
       }
+
+      if (blocks > maxBlocks) {
+        throw new XMLStreamException("multiple blocks not allowed", event.getLocation());
+      }
     }
 
     assert start == null
@@ -22,7 +22,6 @@ import java.time.Clock;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -89,7 +88,7 @@ public class DynamicContext { // NOPMD - intentional data class
 
       this.implicitTimeZone = ObjectUtils.notNull(clock.getZone());
       this.currentDateTime = ObjectUtils.notNull(ZonedDateTime.now(clock));
-      this.availableDocuments = new HashMap<>();
+      this.availableDocuments = new ConcurrentHashMap<>();
       this.functionResultCache = ObjectUtils.notNull(Caffeine.newBuilder()
           .maximumSize(5000)
           .expireAfterAccess(10, TimeUnit.MINUTES)
@@ -202,16 +201,24 @@ public class DynamicContext { // NOPMD - intentional data class
   /**
    * Cache a function call result for a that has the property
    * {@link FunctionProperty#DETERMINISTIC}.
+   * <p>
+   * The context may be shared by threads evaluating the same call concurrently.
+   * In that case, the first result cached is kept and returned to all callers.
    *
    * @param callingContext
    *          the calling context information that distinguishes the call from any
    *          other call
    * @param result
    *          the function call result
+   * @return the cached result, which is the provided result unless another
+   *         result was cached first
    */
-  public void cacheResult(@NonNull CallingContext callingContext, @NonNull ISequence<?> result) {
-    ISequence<?> old = sharedState.functionResultCache.put(callingContext, result);
-    assert old == null;
+  @NonNull
+  public ISequence<?> cacheResult(@NonNull CallingContext callingContext, @NonNull ISequence<?> result) {
+    // a compute method is not used, since evaluating the function can make
+    // nested calls that update the same cache
+    ISequence<?> existing = sharedState.functionResultCache.putIfAbsent(callingContext, result);
+    return existing == null ? result : existing;
   }
 
   /**
@@ -244,6 +251,33 @@ public class DynamicContext { // NOPMD - intentional data class
     return this;
   }
 
+  /**
+   * Used to enable the evaluation of Metapath expressions using a compiled form of
+   * the expression.
+   *
+   * @return this dynamic context
+   * @see MetapathEvaluationFeature#METAPATH_COMPILE_EXPRESSIONS
+   */
+  @NonNull
+  public DynamicContext enableExpressionCompilation() {
+    this.sharedState.configuration.enableFeature(MetapathEvaluationFeature.METAPATH_COMPILE_EXPRESSIONS);
+    return this;
+  }
+
+  /**
+   * Used to disable the evaluation of Metapath expressions using a compiled form
+   * of the expression.
+   * <p>
+   * This is the default behavior if unchanged.
+   *
+   * @return this dynamic context
+   */
+  @NonNull
+  public DynamicContext disableExpressionCompilation() {
+    this.sharedState.configuration.disableFeature(MetapathEvaluationFeature.METAPATH_COMPILE_EXPRESSIONS);
+    return this;
+  }
+
   /**
    * Get the Metapath evaluation configuration.
    *
@@ -95,7 +95,18 @@ public interface ISequence<ITEM extends IItem> extends List<ITEM>, IPrintable, I
    *           {@code true}
    */
   static <T extends IItem> T getFirstItem(@NonNull ISequence<T> items, boolean requireSingleton) {
-    return getFirstItem(items.safeStream(), requireSingleton);
+    // use positional access to avoid reading more of a lazily evaluated sequence
+    // than is needed
+    T retval = null;
+    if (!items.isEmpty()) {
+      if (requireSingleton && items.size() > 1) {
+        throw new InvalidTypeMetapathException(
+            null,
+            String.format("sequence expected to contain only one item, but found multiple"));
+      }
+      retval = items.get(0);
+    }
+    return retval;
   }
 
   /**
@@ -311,6 +322,35 @@ public interface ISequence<ITEM extends IItem> extends List<ITEM>, IPrintable, I
     return new StreamSequence<>(items);
   }
 
+  /**
+   * Returns an unmodifiable sequence backed by the provided {@code items}.
+   * <p>
+   * Unlike {@link #copyOf(Collection)}, the items are not copied. The provided
+   * list must not be modified after calling this method.
+   *
+   * @param <T>
+   *          the type of items contained in the sequence.
+   * @param items
+   *          the items to add to the sequence
+   * @return the new sequence
+   */
+  @NonNull
+  static <T extends IItem> ISequence<T> ofList(@NonNull List<T> items) {
+    ISequence<T> retval;
+    switch (items.size()) {
+    case 0:
+      retval = empty();
+      break;
+    case 1:
+      retval = new SingletonSequence<>(ObjectUtils.notNull(items.get(0)));
+      break;
+    default:
+      retval = new SequenceN<>(items);
+      break;
+    }
+    return retval;
+  }
+
   /**
    * Returns an unmodifiable sequence containing zero elements.
    *
@@ -26,6 +26,19 @@ public final class MetapathEvaluationFeature<V>
   public static final MetapathEvaluationFeature<Boolean> METAPATH_EVALUATE_PREDICATES
       = new MetapathEvaluationFeature<>("evaluate-predicates", Boolean.class, true);
 
+  /**
+   * If enabled, evaluate Metapath expressions using a compiled form of the
+   * expression tree, otherwise interpret the expression tree directly.
+   * <p>
+   * The compiled form produces the same results, but avoids much of the overhead
+   * of interpretation for commonly used expressions.
+   *
+   * @see gov.nist.secauto.metaschema.core.metapath.cst.ExpressionCompiler
+   */
+  @NonNull
+  public static final MetapathEvaluationFeature<Boolean> METAPATH_COMPILE_EXPRESSIONS
+      = new MetapathEvaluationFeature<>("compile-expressions", Boolean.class, false);
+
   private MetapathEvaluationFeature(
       @NonNull String name,
       @NonNull Class<V> valueClass,
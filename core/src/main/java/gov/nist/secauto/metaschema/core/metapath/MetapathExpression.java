@@ -5,13 +5,20 @@
 
 package gov.nist.secauto.metaschema.core.metapath;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
 import gov.nist.secauto.metaschema.core.metapath.antlr.FailingErrorListener;
 import gov.nist.secauto.metaschema.core.metapath.antlr.Metapath10;
 import gov.nist.secauto.metaschema.core.metapath.antlr.Metapath10Lexer;
 import gov.nist.secauto.metaschema.core.metapath.antlr.ParseTreePrinter;
 import gov.nist.secauto.metaschema.core.metapath.cst.BuildCSTVisitor;
 import gov.nist.secauto.metaschema.core.metapath.cst.CSTPrinter;
+import gov.nist.secauto.metaschema.core.metapath.cst.ExpressionCompiler;
+import gov.nist.secauto.metaschema.core.metapath.cst.FocusIndependenceAnalyzer;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpression;
+import gov.nist.secauto.metaschema.core.metapath.cst.SubtreeAccessAnalyzer;
 import gov.nist.secauto.metaschema.core.metapath.cst.path.ContextItem;
 import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.library.FnBoolean;
@@ -28,6 +35,7 @@ import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,9 +44,13 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 /**
  * Supports compiling and executing Metapath expressions.
@@ -77,12 +89,26 @@ public class MetapathExpression {
   public static final MetapathExpression CONTEXT_NODE
       = new MetapathExpression(".", ContextItem.instance(), StaticContext.instance());
 
+  /**
+   * The maximum number of compiled expressions retained by the compilation
+   * cache.
+   */
+  private static final int COMPILATION_CACHE_SIZE = 5000;
+  @NonNull
+  private static final Cache<Pair<String, StaticContext>, MetapathExpression> COMPILATION_CACHE
+      = ObjectUtils.notNull(Caffeine.newBuilder()
+          .maximumSize(COMPILATION_CACHE_SIZE)
+          .recordStats()
+          .build());
+
   @NonNull
   private final String path;
   @NonNull
   private final IExpression expression;
   @NonNull
   private final StaticContext staticContext;
+  @NonNull
+  private final Lazy<ExpressionCompiler.IEvaluator> compiledExpression;
 
   /**
    * Compiles a Metapath expression string.
@@ -116,51 +142,85 @@ public class MetapathExpression {
     if (".".equals(path)) {
       retval = CONTEXT_NODE;
     } else {
-      try {
-        Metapath10Lexer lexer = new Metapath10Lexer(CharStreams.fromString(path));
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(new FailingErrorListener());
-
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        Metapath10 parser = new Metapath10(tokens);
-        parser.removeErrorListeners();
-        parser.addErrorListener(new FailingErrorListener());
-        parser.setErrorHandler(new DefaultErrorStrategy() {
-
-          @Override
-          public void sync(Parser recognizer) {
-            // disable
-          }
-        });
-
-        ParseTree tree = ObjectUtils.notNull(parser.expr());
-
-        if (LOGGER.isDebugEnabled()) {
-          try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            try (PrintStream ps = new PrintStream(os, true, StandardCharsets.UTF_8)) {
-              ParseTreePrinter printer = new ParseTreePrinter(ps);
-              printer.print(tree, Metapath10.ruleNames);
-              ps.flush();
-            }
-            LOGGER.atDebug().log(String.format("Metapath AST:%n%s", os.toString(StandardCharsets.UTF_8)));
-          } catch (IOException ex) {
-            LOGGER.atError().withThrowable(ex).log("An unexpected error occurred while closing the steam.");
-          }
+      Pair<String, StaticContext> key = ObjectUtils.notNull(Pair.of(path, context));
+      MetapathExpression cached = COMPILATION_CACHE.getIfPresent(key);
+      if (cached == null) {
+        // compile outside of the cache to allow concurrent compilation
+        retval = parse(path, context);
+        COMPILATION_CACHE.put(key, retval);
+      } else {
+        retval = cached;
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Get the statistics for the cache of compiled Metapath expressions used by
+   * {@link #compile(String, StaticContext)}.
+   * <p>
+   * Expressions are cached based on the expression string and an equal
+   * {@link StaticContext}.
+   *
+   * @return the cache statistics
+   */
+  @NonNull
+  public static CacheStats getCompilationCacheStats() {
+    return ObjectUtils.notNull(COMPILATION_CACHE.stats());
+  }
+
+  /**
+   * Remove all compiled Metapath expressions from the compilation cache.
+   */
+  public static void clearCompilationCache() {
+    COMPILATION_CACHE.invalidateAll();
+  }
+
+  @NonNull
+  private static MetapathExpression parse(@NonNull String path, @NonNull StaticContext context) {
+    try {
+      Metapath10Lexer lexer = new Metapath10Lexer(CharStreams.fromString(path));
+      lexer.removeErrorListeners();
+      lexer.addErrorListener(new FailingErrorListener());
+
+      CommonTokenStream tokens = new CommonTokenStream(lexer);
+      Metapath10 parser = new Metapath10(tokens);
+      parser.removeErrorListeners();
+      parser.addErrorListener(new FailingErrorListener());
+      parser.setErrorHandler(new DefaultErrorStrategy() {
+
+        @Override
+        public void sync(Parser recognizer) {
+          // disable
         }
+      });
 
-        IExpression expr = new BuildCSTVisitor(context).visit(tree);
+      ParseTree tree = ObjectUtils.notNull(parser.expr());
 
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.atDebug().log(String.format("Metapath CST:%n%s", CSTPrinter.toString(expr)));
+      if (LOGGER.isDebugEnabled()) {
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+          try (PrintStream ps = new PrintStream(os, true, StandardCharsets.UTF_8)) {
+            ParseTreePrinter printer = new ParseTreePrinter(ps);
+            printer.print(tree, Metapath10.ruleNames);
+            ps.flush();
+          }
+          LOGGER.atDebug().log(String.format("Metapath AST:%n%s", os.toString(StandardCharsets.UTF_8)));
+        } catch (IOException ex) {
+          LOGGER.atError().withThrowable(ex).log("An unexpected error occurred while closing the steam.");
         }
-        retval = new MetapathExpression(path, expr, context);
-      } catch (MetapathException | ParseCancellationException ex) {
-        String msg = String.format("Unable to compile Metapath '%s'", path);
-        LOGGER.atError().withThrowable(ex).log(msg);
-        throw new StaticMetapathException(StaticMetapathException.INVALID_PATH_GRAMMAR, msg, ex);
       }
+
+      IExpression expr = new BuildCSTVisitor(context).visit(tree);
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.atDebug().log(String.format("Metapath CST:%n%s", CSTPrinter.toString(expr)));
+      }
+      return new MetapathExpression(path, expr, context);
+    } catch (MetapathException | ParseCancellationException ex) {
+      String msg = String.format("Unable to compile Metapath '%s'", path);
+      LOGGER.atError().withThrowable(ex).log(msg);
+      throw new StaticMetapathException(StaticMetapathException.INVALID_PATH_GRAMMAR, msg, ex);
     }
-    return retval;
   }
 
   /**
@@ -180,6 +240,7 @@ public class MetapathExpression {
     this.path = path;
     this.expression = expr;
     this.staticContext = staticContext;
+    this.compiledExpression = ObjectUtils.notNull(Lazy.lazy(() -> ExpressionCompiler.compile(expr)));
   }
 
   /**
@@ -212,6 +273,50 @@ public class MetapathExpression {
     return staticContext;
   }
 
+  /**
+   * Determine if the result of evaluating this expression is independent of the
+   * evaluation focus.
+   * <p>
+   * Such an expression produces the same result for any focus, which allows the
+   * result to be computed once and reused.
+   *
+   * @param invariantVariables
+   *          the names of variables whose values are known to not depend on the
+   *          focus
+   * @return {@code true} if the expression is focus independent, or
+   *         {@code false} otherwise
+   * @see FocusIndependenceAnalyzer
+   */
+  public boolean isFocusIndependent(@NonNull Set<QName> invariantVariables) {
+    return FocusIndependenceAnalyzer.isFocusIndependent(getASTNode(), invariantVariables);
+  }
+
+  /**
+   * Determine if evaluating this expression only accesses the evaluation focus
+   * and the nodes below it.
+   *
+   * @param unavailableVariables
+   *          the names of variables that are bound outside of the focus' subtree
+   * @return {@code true} if the expression is limited to the focus' subtree, or
+   *         {@code false} otherwise
+   * @see SubtreeAccessAnalyzer
+   */
+  public boolean isSubtreeLocal(@NonNull Set<QName> unavailableVariables) {
+    return SubtreeAccessAnalyzer.isSubtreeLocal(getASTNode(), unavailableVariables);
+  }
+
+  /**
+   * Get the names of the nodes this expression may access by name.
+   *
+   * @return the set of names, or {@code null} if the expression may access nodes
+   *         without naming them
+   * @see SubtreeAccessAnalyzer
+   */
+  @Nullable
+  public Set<QName> getAccessedNames() {
+    return SubtreeAccessAnalyzer.getAccessedNames(getASTNode());
+  }
+
   @Override
   public String toString() {
     return CSTPrinter.toString(getASTNode());
@@ -410,7 +515,11 @@ public class MetapathExpression {
       @Nullable IItem focus,
       @NonNull DynamicContext dynamicContext) {
     try {
-      return (ISequence<T>) getASTNode().accept(dynamicContext, ISequence.of(focus));
+      ISequence<?> focusSequence = ISequence.of(focus);
+      return (ISequence<T>) (dynamicContext.getConfiguration()
+          .isFeatureEnabled(MetapathEvaluationFeature.METAPATH_COMPILE_EXPRESSIONS)
+              ? compiledExpression.get().evaluate(dynamicContext, focusSequence)
+              : getASTNode().accept(dynamicContext, focusSequence));
     } catch (MetapathException ex) { // NOPMD - intentional
       throw new MetapathException(
           String.format("An error occurred while evaluating the expression '%s'. %s",
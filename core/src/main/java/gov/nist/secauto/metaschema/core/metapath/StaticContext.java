@@ -11,6 +11,7 @@ import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.net.URI;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -319,6 +320,32 @@ public final class StaticContext {
     return ns == null ? XMLConstants.NULL_NS_URI : ns;
   }
 
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        baseUri,
+        knownNamespaces,
+        defaultModelNamespace,
+        defaultFunctionNamespace,
+        useWildcardWhenNamespaceNotDefaulted);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof StaticContext)) {
+      return false;
+    }
+    StaticContext other = (StaticContext) obj;
+    return useWildcardWhenNamespaceNotDefaulted == other.useWildcardWhenNamespaceNotDefaulted
+        && Objects.equals(baseUri, other.baseUri)
+        && knownNamespaces.equals(other.knownNamespaces)
+        && Objects.equals(defaultModelNamespace, other.defaultModelNamespace)
+        && Objects.equals(defaultFunctionNamespace, other.defaultFunctionNamespace);
+  }
+
   /**
    * Get a new static context builder that is pre-populated with the setting of
    * this static context.
@@ -9,7 +9,9 @@ import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -36,8 +38,9 @@ public class Except
 
   @Override
   protected ISequence<?> applyFilterTo(@NonNull ISequence<?> result, @NonNull List<? extends IItem> items) {
-    return ISequence.of(ObjectUtils.notNull(result.stream()
-        .filter(item -> !items.contains(item))));
+    Set<IItem> excluded = new HashSet<>(items);
+    return ExpressionUtils.toDistinctSequence(ObjectUtils.notNull(result.stream()
+        .filter(item -> !excluded.contains(item))));
   }
 
   @Override
@@ -0,0 +1,342 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
+import gov.nist.secauto.metaschema.core.metapath.MetapathEvaluationFeature;
+import gov.nist.secauto.metaschema.core.metapath.MetapathException;
+import gov.nist.secauto.metaschema.core.metapath.cst.comparison.GeneralComparison;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.ContextItem;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Flag;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.ModelInstance;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.NameTest;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RelativeSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.function.ComparisonFunctions;
+import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+import gov.nist.secauto.metaschema.core.metapath.function.library.FnBoolean;
+import gov.nist.secauto.metaschema.core.metapath.function.library.FnData;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
+import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IAnyAtomicItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IBooleanItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IDecimalItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IIntegerItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IFlagNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IModelNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Compiles a Metapath expression tree into a tree of evaluators.
+ * <p>
+ * Common expression shapes, such as relative paths of named steps, flag value
+ * comparisons, {@code fn:count} calls and predicates, are compiled into
+ * specialized evaluators that operate directly on lists instead of on
+ * {@link java.util.stream.Stream} pipelines. Literal operands are evaluated and
+ * atomized once, at compilation time. Any other expression is evaluated by the
+ * expression tree itself, so the compiled form always produces the same result
+ * as the interpreted form.
+ *
+ * @see MetapathEvaluationFeature#METAPATH_COMPILE_EXPRESSIONS
+ */
+public final class ExpressionCompiler {
+  @NonNull
+  private static final QName COUNT_FUNCTION
+      = new QName(MetapathConstants.NS_METAPATH_FUNCTIONS.toASCIIString(), "count");
+
+  /**
+   * Evaluates a compiled expression.
+   */
+  @FunctionalInterface
+  public interface IEvaluator {
+    /**
+     * Evaluate the compiled expression against the provided focus.
+     *
+     * @param dynamicContext
+     *          the dynamic evaluation context
+     * @param focus
+     *          the outer focus of the expression
+     * @return the result of evaluation
+     */
+    @NonNull
+    ISequence<?> evaluate(@NonNull DynamicContext dynamicContext, @NonNull ISequence<?> focus);
+  }
+
+  private ExpressionCompiler() {
+    // disable construction
+  }
+
+  /**
+   * Compile the provided expression.
+   *
+   * @param expr
+   *          the expression to compile
+   * @return the compiled evaluator
+   */
+  @NonNull
+  public static IEvaluator compile(@NonNull IExpression expr) {
+    IEvaluator retval;
+    ISequence<?> literal = literalValue(expr);
+    if (literal != null) {
+      retval = (dynamicContext, focus) -> literal;
+    } else if (expr instanceof ContextItem) {
+      retval = expr::accept;
+    } else if (expr instanceof RelativeSlashPath) {
+      retval = compileRelativeSlashPath((RelativeSlashPath) expr);
+    } else if (expr instanceof ModelInstance && ((ModelInstance) expr).getTest() instanceof NameTest) {
+      retval = compileModelInstance(((NameTest) ((ModelInstance) expr).getTest()).getName());
+    } else if (expr instanceof Flag && ((Flag) expr).getTest() instanceof NameTest) {
+      retval = compileFlag(((NameTest) ((Flag) expr).getTest()).getName());
+    } else if (expr instanceof PredicateExpression) {
+      retval = compilePredicate((PredicateExpression) expr);
+    } else if (expr instanceof GeneralComparison) {
+      retval = compileGeneralComparison((GeneralComparison) expr);
+    } else if (expr instanceof And) {
+      retval = compileAnd(compileAll(expr.getChildren()));
+    } else if (expr instanceof Or) {
+      retval = compileOr(compileAll(expr.getChildren()));
+    } else if (expr instanceof StaticFunctionCall) {
+      retval = compileFunctionCall((StaticFunctionCall) expr);
+    } else {
+      // evaluate using the expression tree
+      retval = expr::accept;
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static List<IEvaluator> compileAll(@NonNull List<? extends IExpression> expressions) {
+    List<IEvaluator> retval = new ArrayList<>(expressions.size());
+    for (IExpression expr : expressions) {
+      assert expr != null;
+      retval.add(compile(expr));
+    }
+    return retval;
+  }
+
+  /**
+   * Get the value of a literal expression, which does not depend on the dynamic
+   * context or focus.
+   *
+   * @param expr
+   *          the expression
+   * @return the value, or {@code null} if the expression is not a literal
+   */
+  @Nullable
+  private static ISequence<?> literalValue(@NonNull IExpression expr) {
+    ISequence<?> retval;
+    if (expr instanceof StringLiteral) {
+      retval = ISequence.of(IStringItem.valueOf(((StringLiteral) expr).getValue()));
+    } else if (expr instanceof IntegerLiteral) {
+      retval = ISequence.of(IIntegerItem.valueOf(((IntegerLiteral) expr).getValue()));
+    } else if (expr instanceof DecimalLiteral) {
+      retval = ISequence.of(IDecimalItem.valueOf(((DecimalLiteral) expr).getValue()));
+    } else {
+      retval = null;
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static IEvaluator compileRelativeSlashPath(@NonNull RelativeSlashPath expr) {
+    IEvaluator left = compile(expr.getLeft());
+    IEvaluator right = compile(expr.getRight());
+    return (dynamicContext, focus) -> {
+      ISequence<?> leftResult = left.evaluate(dynamicContext, focus);
+      return leftResult.isEmpty()
+          ? ISequence.empty()
+          : right.evaluate(dynamicContext, leftResult);
+    };
+  }
+
+  @NonNull
+  private static IEvaluator compileModelInstance(@NonNull QName name) {
+    return (dynamicContext, focus) -> {
+      List<IModelNodeItem<?, ?>> retval = new ArrayList<>();
+      for (IItem item : focus.getValue()) {
+        INodeItem node = ItemUtils.checkItemIsNodeItemForStep(item);
+        retval.addAll(node.getModelItemsByName(name));
+      }
+      return ISequence.ofList(retval);
+    };
+  }
+
+  @NonNull
+  private static IEvaluator compileFlag(@NonNull QName name) {
+    return (dynamicContext, focus) -> {
+      List<IFlagNodeItem> retval = new ArrayList<>();
+      for (IItem item : focus.getValue()) {
+        INodeItem node = ItemUtils.checkItemIsNodeItemForStep(item);
+        IFlagNodeItem flag = node.getFlagByName(name);
+        if (flag != null) {
+          retval.add(flag);
+        }
+      }
+      return ISequence.ofList(retval);
+    };
+  }
+
+  @NonNull
+  private static IEvaluator compilePredicate(@NonNull PredicateExpression expr) {
+    IEvaluator base = compile(expr.getBase());
+
+    // positional predicates are resolved to a single position by the expression
+    int position = expr.getPosition();
+    List<IExpression> filterExprs = expr.getFilters();
+    int size = filterExprs.size();
+    IEvaluator[] filters = new IEvaluator[size];
+    for (int i = 0; i < size; i++) {
+      IExpression filterExpr = filterExprs.get(i);
+      assert filterExpr != null;
+      filters[i] = compile(filterExpr);
+    }
+
+    return (dynamicContext, focus) -> {
+      ISequence<?> retval = base.evaluate(dynamicContext, focus);
+
+      if (dynamicContext.getConfiguration().isFeatureEnabled(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES)) {
+        if (position == PredicateExpression.NO_POSITION) {
+          List<IItem> matches = new ArrayList<>();
+          for (IItem item : retval.getValue()) {
+            assert item != null;
+            if (matches(filters, dynamicContext, item)) {
+              matches.add(item);
+            }
+          }
+          retval = ISequence.ofList(matches);
+        } else {
+          IItem item = PredicateExpression.getItemAtPosition(retval, position);
+          retval = item == null || !matches(filters, dynamicContext, item)
+              ? ISequence.empty()
+              : ISequence.of(item);
+        }
+      }
+      return retval;
+    };
+  }
+
+  private static boolean matches(
+      @NonNull IEvaluator[] filters,
+      @NonNull DynamicContext dynamicContext,
+      @NonNull IItem item) {
+    boolean retval = true;
+    for (IEvaluator filter : filters) {
+      if (!FnBoolean.fnBoolean(filter.evaluate(dynamicContext, ISequence.of(item))).toBoolean()) {
+        retval = false;
+        break;
+      }
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static IEvaluator compileGeneralComparison(@NonNull GeneralComparison expr) {
+    ComparisonFunctions.Operator operator = expr.getOperator();
+    IEvaluator left = compileAtomized(expr.getLeft());
+    IEvaluator right = compileAtomized(expr.getRight());
+
+    return (dynamicContext, focus) -> {
+      @SuppressWarnings("unchecked")
+      ISequence<? extends IAnyAtomicItem> leftItems
+          = (ISequence<? extends IAnyAtomicItem>) left.evaluate(dynamicContext, focus);
+      @SuppressWarnings("unchecked")
+      ISequence<? extends IAnyAtomicItem> rightItems
+          = (ISequence<? extends IAnyAtomicItem>) right.evaluate(dynamicContext, focus);
+      return ISequence.of(ComparisonFunctions.generalCompairison(leftItems, operator, rightItems));
+    };
+  }
+
+  /**
+   * Compile an expression whose result is atomized.
+   * <p>
+   * The atomized value of a literal is computed once.
+   *
+   * @param expr
+   *          the expression to compile
+   * @return the evaluator producing the atomized result
+   */
+  @NonNull
+  private static IEvaluator compileAtomized(@NonNull IExpression expr) {
+    ISequence<?> literal = literalValue(expr);
+
+    IEvaluator retval;
+    if (literal != null) {
+      ISequence<?> value = ISequence.copyOf(FnData.fnData(literal).getValue());
+      retval = (dynamicContext, focus) -> value;
+    } else {
+      IEvaluator evaluator = compile(expr);
+      retval = (dynamicContext, focus) -> FnData.fnData(evaluator.evaluate(dynamicContext, focus));
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static IEvaluator compileAnd(@NonNull List<IEvaluator> children) {
+    return (dynamicContext, focus) -> {
+      boolean retval = true;
+      for (IEvaluator child : children) {
+        if (!FnBoolean.fnBooleanAsPrimitive(child.evaluate(dynamicContext, focus))) {
+          retval = false;
+          break;
+        }
+      }
+      return ISequence.of(IBooleanItem.valueOf(retval));
+    };
+  }
+
+  @NonNull
+  private static IEvaluator compileOr(@NonNull List<IEvaluator> children) {
+    return (dynamicContext, focus) -> {
+      boolean retval = false;
+      for (IEvaluator child : children) {
+        if (FnBoolean.fnBooleanAsPrimitive(child.evaluate(dynamicContext, focus))) {
+          retval = true;
+          break;
+        }
+      }
+      return ISequence.of(IBooleanItem.valueOf(retval));
+    };
+  }
+
+  @NonNull
+  private static IEvaluator compileFunctionCall(@NonNull StaticFunctionCall expr) {
+    IFunction function;
+    try {
+      function = expr.getFunction();
+    } catch (MetapathException ex) {
+      // report the missing function when evaluated, as the expression tree does
+      return expr::accept;
+    }
+
+    List<IEvaluator> arguments = compileAll(expr.getChildren());
+
+    IEvaluator retval;
+    if (COUNT_FUNCTION.equals(function.getQName()) && arguments.size() == 1) {
+      IEvaluator argument = arguments.get(0);
+      retval = (dynamicContext, focus) -> ISequence.of(
+          IIntegerItem.valueOf(argument.evaluate(dynamicContext, focus).size()));
+    } else {
+      retval = (dynamicContext, focus) -> {
+        List<ISequence<?>> values = new ArrayList<>(arguments.size());
+        for (IEvaluator argument : arguments) {
+          values.add(argument.evaluate(dynamicContext, focus));
+        }
+        return function.execute(values, dynamicContext, focus);
+      };
+    }
+    return retval;
+  }
+}
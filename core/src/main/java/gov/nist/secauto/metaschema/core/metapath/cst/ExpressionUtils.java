@@ -5,10 +5,17 @@
 
 package gov.nist.secauto.metaschema.core.metapath.cst;
 
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -18,6 +25,29 @@ public final class ExpressionUtils {
     // disable
   }
 
+  /**
+   * Produce a sequence containing the distinct items from the provided stream,
+   * as required by the sequence combining operators.
+   * <p>
+   * Duplicate items are identified using a hash set. If all items are nodes,
+   * the resulting items are in document order. Otherwise, the items are in the
+   * order they are first encountered.
+   *
+   * @param items
+   *          the items to combine
+   * @return the resulting sequence
+   */
+  @NonNull
+  public static ISequence<?> toDistinctSequence(@NonNull Stream<? extends IItem> items) {
+    List<IItem> retval = new ArrayList<>(items.collect(Collectors.toCollection(LinkedHashSet::new)));
+
+    if (retval.size() > 1 && retval.stream().allMatch(INodeItem.class::isInstance)) {
+      Comparator<INodeItem> comparator = INodeItem.documentOrder();
+      retval.sort((first, second) -> comparator.compare((INodeItem) first, (INodeItem) second));
+    }
+    return ISequence.ofCollection(retval);
+  }
+
   /**
    * Analyze an expression to determine its static result type.
    *
@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Axis;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.ContextItem;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Flag;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.ModelInstance;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.NameTest;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RelativeDoubleSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RelativeSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootDoubleSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootSlashOnlyPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Step;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Wildcard;
+import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Determines if the result of evaluating an expression is independent of the
+ * evaluation focus.
+ * <p>
+ * The analysis is conservative. An expression is considered focus independent
+ * only if it does not access the context item or any nodes, only calls
+ * deterministic functions that do not depend on the focus or dynamic context,
+ * and only references variables from a provided set of names whose values are
+ * known to be invariant. Variables bound within the expression, such as by a
+ * {@code let} or {@code for} clause, are treated as focus dependent.
+ */
+public final class FocusIndependenceAnalyzer {
+  private FocusIndependenceAnalyzer() {
+    // disable construction
+  }
+
+  /**
+   * Determine if the provided expression is focus independent.
+   *
+   * @param expr
+   *          the expression to analyze
+   * @param invariantVariables
+   *          the names of variables whose values are known to be invariant
+   * @return {@code true} if the result of evaluating the expression does not
+   *         depend on the evaluation focus, or {@code false} otherwise
+   */
+  public static boolean isFocusIndependent(
+      @NonNull IExpression expr,
+      @NonNull Set<QName> invariantVariables) {
+    Boolean result = expr.accept(new Visitor(), invariantVariables);
+    return result == null || result;
+  }
+
+  @SuppressWarnings("PMD.ExcessivePublicCount")
+  private static final class Visitor
+      extends AbstractExpressionVisitor<Boolean, Set<QName>> {
+
+    @Override
+    protected boolean shouldVisitNextChild(
+        IExpression parent,
+        IExpression child,
+        Boolean result,
+        Set<QName> context) {
+      // stop once a dependency is found
+      return result == null || result;
+    }
+
+    @Override
+    protected Boolean aggregateResult(Boolean result, Boolean nextResult, Set<QName> context) {
+      return (result == null || result) && (nextResult == null || nextResult);
+    }
+
+    @Override
+    protected Boolean defaultResult() {
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitFunctionCall(StaticFunctionCall expr, Set<QName> context) {
+      IFunction function = expr.getFunction();
+      return function.isDeterministic()
+          && !function.isContextDepenent()
+          && !function.isFocusDepenent()
+          && visitChildren(expr, context);
+    }
+
+    @Override
+    public Boolean visitVariableReference(VariableReference expr, Set<QName> context) {
+      return context.contains(expr.getName());
+    }
+
+    @Override
+    public Boolean visitFunctionCallAccessor(FunctionCallAccessor expr, Set<QName> context) {
+      // the function is not known statically
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitUnaryLookup(UnaryLookup expr, Set<QName> context) {
+      // applies to the context item
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitContextItem(ContextItem expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitAxis(Axis expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitStep(Step expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitFlag(Flag expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitModelInstance(ModelInstance expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitName(NameTest expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitWildcard(Wildcard expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRelativeDoubleSlashPath(RelativeDoubleSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRelativeSlashPath(RelativeSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRootDoubleSlashPath(RootDoubleSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRootSlashOnlyPath(RootSlashOnlyPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRootSlashPath(RootSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+  }
+}
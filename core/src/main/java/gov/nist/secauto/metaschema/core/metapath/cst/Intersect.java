@@ -9,7 +9,9 @@ import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -36,9 +38,9 @@ public class Intersect
 
   @Override
   protected ISequence<?> applyFilterTo(@NonNull ISequence<?> result, @NonNull List<? extends IItem> items) {
-    return ISequence.of(ObjectUtils.notNull(result.stream()
-        .distinct()
-        .filter(items::contains)));
+    Set<IItem> retained = new HashSet<>(items);
+    return ExpressionUtils.toDistinctSequence(ObjectUtils.notNull(result.stream()
+        .filter(retained::contains)));
   }
 
   @Override
@@ -10,23 +10,35 @@ import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.MetapathEvaluationFeature;
 import gov.nist.secauto.metaschema.core.metapath.function.library.FnBoolean;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import nl.talsmasoftware.lazy4j.Lazy;
 
 public class PredicateExpression implements IExpression {
+  /**
+   * Indicates that none of the predicates are positional.
+   */
+  static final int NO_POSITION = 0;
+  /**
+   * Indicates that the positional predicates cannot match any item.
+   */
+  static final int NO_MATCH = -1;
+
   @NonNull
   private final IExpression base;
   @NonNull
   private final List<IExpression> predicates;
+  @NonNull
+  private final Lazy<Plan> plan;
 
   /**
    * Construct a new predicate expression.
@@ -39,6 +51,37 @@ public class PredicateExpression implements IExpression {
   public PredicateExpression(@NonNull IExpression base, @NonNull List<IExpression> predicates) {
     this.base = base;
     this.predicates = predicates;
+    this.plan = ObjectUtils.notNull(Lazy.lazy(this::newPlan));
+  }
+
+  /**
+   * Analyze the predicates to determine how they can be evaluated.
+   * <p>
+   * Integer literal predicates select an item by its position in the base
+   * result, so they can be resolved to a single position ahead of time.
+   *
+   * @return the plan
+   */
+  @NonNull
+  private Plan newPlan() {
+    int position = NO_POSITION;
+    List<IExpression> filters = new ArrayList<>();
+    for (IExpression predicateExpr : ObjectUtils.notNull(getPredicates().stream().collect(Collectors.toList()))) {
+      if (predicateExpr instanceof IntegerLiteral) {
+        BigInteger value = ((IntegerLiteral) predicateExpr).getValue();
+        int predicatePosition = value.signum() > 0 && value.bitLength() < Integer.SIZE
+            ? value.intValue()
+            : NO_MATCH;
+        if (position == NO_POSITION) {
+          position = predicatePosition;
+        } else if (position != predicatePosition) {
+          position = NO_MATCH;
+        }
+      } else {
+        filters.add(predicateExpr);
+      }
+    }
+    return new Plan(position, CollectionUtil.unmodifiableList(filters));
   }
 
   /**
@@ -61,6 +104,27 @@ public class PredicateExpression implements IExpression {
     return predicates;
   }
 
+  /**
+   * Get the one-based position of the only item that can be selected by the
+   * positional predicates.
+   *
+   * @return the position, {@link #NO_POSITION} if there are no positional
+   *         predicates, or {@link #NO_MATCH} if no item can be selected
+   */
+  int getPosition() {
+    return ObjectUtils.notNull(plan.get()).position;
+  }
+
+  /**
+   * Retrieve the predicates that are not positional.
+   *
+   * @return the list of predicates
+   */
+  @NonNull
+  List<IExpression> getFilters() {
+    return ObjectUtils.notNull(plan.get()).filters;
+  }
+
   @Override
   public List<? extends IExpression> getChildren() {
     return ObjectUtils.notNull(
@@ -75,41 +139,56 @@ public class PredicateExpression implements IExpression {
     ISequence<?> retval = getBase().accept(dynamicContext, focus);
 
     if (dynamicContext.getConfiguration().isFeatureEnabled(MetapathEvaluationFeature.METAPATH_EVALUATE_PREDICATES)) {
-      // evaluate the predicates for this step
-      AtomicInteger index = new AtomicInteger();
-
-      Stream<? extends IItem> stream = ObjectUtils.notNull(
-          retval.stream().map(item -> {
-            // build a positional index of the items
-            return Map.entry(BigInteger.valueOf(index.incrementAndGet()), item);
-          }).filter(entry -> {
-            @SuppressWarnings("null")
-            @NonNull
-            IItem item = entry.getValue();
-
-            // return false if any predicate evaluates to false
-            return !predicates.stream()
-                .map(predicateExpr -> {
-                  boolean bool;
-                  if (predicateExpr instanceof IntegerLiteral) {
-                    // reduce the result to the matching item
-                    BigInteger predicateIndex = ((IntegerLiteral) predicateExpr).getValue();
-
-                    // get the position of the item
-                    final BigInteger position = entry.getKey();
-
-                    // it is a match if the position matches
-                    bool = position.equals(predicateIndex);
-                  } else {
-                    ISequence<?> innerFocus = ISequence.of(item);
-                    ISequence<?> predicateResult = predicateExpr.accept(dynamicContext, innerFocus);
-                    bool = FnBoolean.fnBoolean(predicateResult).toBoolean();
-                  }
-                  return bool;
-                }).anyMatch(x -> !x);
-          }).map(Entry::getValue));
-
-      retval = ISequence.of(stream);
+      int position = getPosition();
+      if (position == NO_POSITION) {
+        // filter lazily, allowing evaluation to stop once enough items are found
+        retval = ISequence.of(ObjectUtils.notNull(retval.stream()
+            .filter(item -> {
+              assert item != null;
+              return matches(dynamicContext, item);
+            })));
+      } else {
+        // only the item at the position can match
+        IItem item = getItemAtPosition(retval, position);
+        retval = item == null || !matches(dynamicContext, item)
+            ? ISequence.empty()
+            : ISequence.of(item);
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Get the item at the provided position using direct access.
+   *
+   * @param sequence
+   *          the sequence to get the item from
+   * @param position
+   *          the one-based position of the item, or {@link #NO_MATCH}
+   * @return the item, or {@code null} if the sequence has no item at the
+   *         position
+   */
+  @Nullable
+  static IItem getItemAtPosition(@NonNull ISequence<?> sequence, int position) {
+    IItem retval = null;
+    if (position > 0) {
+      List<? extends IItem> items = sequence.getValue();
+      if (position <= items.size()) {
+        retval = items.get(position - 1);
+      }
+    }
+    return retval;
+  }
+
+  private boolean matches(@NonNull DynamicContext dynamicContext, @NonNull IItem item) {
+    // return false if any predicate evaluates to false
+    boolean retval = true;
+    for (IExpression predicateExpr : getFilters()) {
+      ISequence<?> predicateResult = predicateExpr.accept(dynamicContext, ISequence.of(item));
+      if (!FnBoolean.fnBoolean(predicateResult).toBoolean()) {
+        retval = false;
+        break;
+      }
     }
     return retval;
   }
@@ -119,4 +198,22 @@ public class PredicateExpression implements IExpression {
     return visitor.visitPredicate(this, context);
   }
 
+  private static final class Plan {
+    /**
+     * The one-based position selected by the positional predicates, or
+     * {@link #NO_POSITION} or {@link #NO_MATCH}.
+     */
+    private final int position;
+    /**
+     * The predicates that are not positional.
+     */
+    @NonNull
+    private final List<IExpression> filters;
+
+    private Plan(int position, @NonNull List<IExpression> filters) {
+      this.position = position;
+      this.filters = filters;
+    }
+  }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Axis;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.NameTest;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RelativeDoubleSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootDoubleSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootSlashOnlyPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.RootSlashPath;
+import gov.nist.secauto.metaschema.core.metapath.cst.path.Wildcard;
+import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Determines which nodes an expression may access, relative to the evaluation
+ * focus.
+ * <p>
+ * The analysis is conservative and is used to decide if a part of a document
+ * can be evaluated without the rest of the document being available.
+ */
+public final class SubtreeAccessAnalyzer {
+  /**
+   * The axes that only select the focus or nodes below it.
+   */
+  @NonNull
+  private static final Set<Axis> DOWNWARD_AXES = EnumSet.of(
+      Axis.SELF,
+      Axis.FLAG,
+      Axis.CHILDREN,
+      Axis.DESCENDANT,
+      Axis.DESCENDANT_OR_SELF);
+  /**
+   * The axes that may select any node below the focus.
+   */
+  @NonNull
+  private static final Set<Axis> UNBOUNDED_AXES = EnumSet.of(
+      Axis.DESCENDANT,
+      Axis.DESCENDANT_OR_SELF);
+  /**
+   * The function that evaluates a path provided as a string at runtime.
+   */
+  @NonNull
+  private static final QName RECURSE_DEPTH_FUNCTION
+      = new QName(MetapathConstants.NS_METAPATH_FUNCTIONS_EXTENDED.toASCIIString(), "recurse-depth");
+
+  private SubtreeAccessAnalyzer() {
+    // disable construction
+  }
+
+  /**
+   * Determine if the provided expression only accesses the focus and the nodes
+   * below it.
+   * <p>
+   * Such an expression produces the same result when only the subtree rooted at
+   * the focus is available.
+   *
+   * @param expr
+   *          the expression to analyze
+   * @param unavailableVariables
+   *          the names of variables that are bound outside of the subtree
+   * @return {@code true} if the expression is limited to the focus' subtree, or
+   *         {@code false} otherwise
+   */
+  public static boolean isSubtreeLocal(
+      @NonNull IExpression expr,
+      @NonNull Set<QName> unavailableVariables) {
+    Boolean result = expr.accept(new LocalityVisitor(), unavailableVariables);
+    return result == null || result;
+  }
+
+  /**
+   * Get the names of the nodes the provided expression may access by name.
+   *
+   * @param expr
+   *          the expression to analyze
+   * @return the set of names, or {@code null} if the expression may access nodes
+   *         without naming them, such as by using a wildcard or the descendant
+   *         axis
+   */
+  @Nullable
+  public static Set<QName> getAccessedNames(@NonNull IExpression expr) {
+    Set<QName> names = new HashSet<>();
+    Boolean result = expr.accept(new NameVisitor(), names);
+    return result == null || result ? names : null;
+  }
+
+  private static boolean isDynamicFunction(@NonNull IFunction function) {
+    return RECURSE_DEPTH_FUNCTION.equals(function.getQName());
+  }
+
+  /**
+   * A visitor that produces {@code true} as long as no access outside the
+   * subtree is found.
+   */
+  private abstract static class AbstractAccessVisitor<CONTEXT>
+      extends AbstractExpressionVisitor<Boolean, CONTEXT> {
+
+    @Override
+    protected boolean shouldVisitNextChild(
+        IExpression parent,
+        IExpression child,
+        Boolean result,
+        CONTEXT context) {
+      // stop once an access outside the subtree is found
+      return result == null || result;
+    }
+
+    @Override
+    protected Boolean aggregateResult(Boolean result, Boolean nextResult, CONTEXT context) {
+      return (result == null || result) && (nextResult == null || nextResult);
+    }
+
+    @Override
+    protected Boolean defaultResult() {
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitFunctionCall(StaticFunctionCall expr, CONTEXT context) {
+      return !isDynamicFunction(expr.getFunction()) && visitChildren(expr, context);
+    }
+
+    @Override
+    public Boolean visitFunctionCallAccessor(FunctionCallAccessor expr, CONTEXT context) {
+      // the function is not known statically
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRootDoubleSlashPath(RootDoubleSlashPath expr, CONTEXT context) {
+      return Boolean.FALSE;
+    }
+  }
+
+  private static final class LocalityVisitor
+      extends AbstractAccessVisitor<Set<QName>> {
+
+    @Override
+    public Boolean visitVariableReference(VariableReference expr, Set<QName> context) {
+      return !context.contains(expr.getName());
+    }
+
+    @Override
+    public Boolean visitAxis(Axis expr, Set<QName> context) {
+      return DOWNWARD_AXES.contains(expr);
+    }
+
+    @Override
+    public Boolean visitRootSlashOnlyPath(RootSlashOnlyPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitRootSlashPath(RootSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+  }
+
+  private static final class NameVisitor
+      extends AbstractAccessVisitor<Set<QName>> {
+
+    @Override
+    public Boolean visitName(NameTest expr, Set<QName> context) {
+      context.add(expr.getName());
+      return Boolean.TRUE;
+    }
+
+    @Override
+    public Boolean visitWildcard(Wildcard expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public Boolean visitAxis(Axis expr, Set<QName> context) {
+      return !UNBOUNDED_AXES.contains(expr);
+    }
+
+    @Override
+    public Boolean visitRelativeDoubleSlashPath(RelativeDoubleSlashPath expr, Set<QName> context) {
+      return Boolean.FALSE;
+    }
+  }
+}
@@ -11,7 +11,6 @@ import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -53,12 +52,10 @@ public class Union
     focus.getValue();
 
     // now process the union
-    @NonNull
-    Stream<? extends IItem> retval = ObjectUtils.notNull(getChildren().stream()
+    return ExpressionUtils.toDistinctSequence(ObjectUtils.notNull(getChildren().stream()
         .flatMap(child -> {
           ISequence<?> result = child.accept(dynamicContext, focus);
           return result.stream();
-        }).distinct());
-    return ISequence.of(retval);
+        })));
   }
 }
@@ -8,15 +8,35 @@ package gov.nist.secauto.metaschema.core.metapath.cst.path;
 import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.cst.AbstractExpression;
+import gov.nist.secauto.metaschema.core.metapath.cst.AbstractNamedInstanceExpression;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpression;
 import gov.nist.secauto.metaschema.core.metapath.cst.IPathExpression;
+import gov.nist.secauto.metaschema.core.metapath.cst.PredicateExpression;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
 import gov.nist.secauto.metaschema.core.metapath.item.node.ICycledAssemblyNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IFlagNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IModelNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+import gov.nist.secauto.metaschema.core.model.IModelDefinition;
+import gov.nist.secauto.metaschema.core.model.util.DefinitionReachabilityIndex;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -34,6 +54,11 @@ public abstract class AbstractPathExpression<RESULT_TYPE extends IItem>
   /**
    * Evaluate the {@code nodeContext} and its ancestors against the provided
    * {@code expression}, keeping any matching nodes.
+   * <p>
+   * The search is performed using an explicit stack, avoiding deep recursion on
+   * deeply nested content. If the expression can only match nodes with a given
+   * name, the content of nodes whose definition cannot contain such a node is
+   * not searched.
    *
    * @param expression
    *          the expression to evaluate
@@ -51,34 +76,154 @@ public abstract class AbstractPathExpression<RESULT_TYPE extends IItem>
     // ensure the sequence is backed by a list
     outerFocus.getValue();
 
-    // check the current focus
-    @SuppressWarnings("unchecked")
-    Stream<? extends INodeItem> nodeMatches
-        = (Stream<? extends INodeItem>) expression.accept(dynamicContext, outerFocus).stream();
+    Iterator<INodeItem> iterator = new SearchIterator(
+        expression,
+        dynamicContext,
+        outerFocus,
+        newSearchFilter(expression));
+    return ObjectUtils.notNull(StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+        false).distinct());
+  }
 
-    Stream<? extends INodeItem> childMatches = outerFocus.stream()
-        .map(ItemUtils::checkItemIsNodeItemForStep)
-        .flatMap(focusedNode -> {
+  /**
+   * Create a filter that identifies the nodes whose content may contain a match
+   * for the provided expression.
+   * <p>
+   * This is possible when the expression starts by selecting a child model
+   * instance or flag with a specific name. Otherwise all nodes are searched.
+   *
+   * @param expression
+   *          the search expression
+   * @return the filter
+   */
+  @NonNull
+  private static Predicate<INodeItem> newSearchFilter(@NonNull IExpression expression) {
+    // find the first step of the expression
+    IExpression first = expression;
+    while (first instanceof AbstractRelativePathExpression || first instanceof PredicateExpression) {
+      first = first instanceof PredicateExpression
+          ? ((PredicateExpression) first).getBase()
+          : ((AbstractRelativePathExpression) first).getLeft();
+    }
 
-          Stream<? extends INodeItem> matches;
-          if (focusedNode instanceof ICycledAssemblyNodeItem) {
-            // prevent stack overflow
-            matches = Stream.empty();
+    Predicate<INodeItem> retval = node -> true;
+    QName name = null;
+    boolean isFlag = false;
+    if (first instanceof AbstractNamedInstanceExpression
+        && ((AbstractNamedInstanceExpression<?>) first).getTest() instanceof NameTest) {
+      name = ((NameTest) ((AbstractNamedInstanceExpression<?>) first).getTest()).getName();
+      isFlag = first instanceof Flag;
+    } else if (first instanceof Step
+        && ((Step) first).getStep() instanceof NameTest
+        && (((Step) first).getAxis() == Axis.CHILDREN || ((Step) first).getAxis() == Axis.FLAG)) {
+      name = ((NameTest) ((Step) first).getStep()).getName();
+      isFlag = ((Step) first).getAxis() == Axis.FLAG;
+    }
+
+    if (name != null) {
+      QName matchName = name;
+      boolean matchFlag = isFlag;
+      retval = node -> {
+        boolean keep;
+        if (node instanceof IFlagNodeItem) {
+          // flags have no children or flags
+          keep = false;
+        } else if (node instanceof IDefinitionNodeItem) {
+          Object definition = ((IDefinitionNodeItem<?, ?>) node).getDefinition();
+          if (definition instanceof IModelDefinition) {
+            keep = matchFlag
+                ? DefinitionReachabilityIndex.canContainFlagInstance((IModelDefinition) definition, matchName)
+                : DefinitionReachabilityIndex.canContainModelInstance((IModelDefinition) definition, matchName);
           } else {
-            assert focusedNode != null; // may be null?
-            // create a stream of flags and model elements to check
-            Stream<? extends INodeItem> flags = focusedNode.flags();
-            Stream<? extends INodeItem> modelItems = focusedNode.modelItems();
-
-            matches = searchExpression(
-                expression,
-                dynamicContext,
-                ISequence.of(ObjectUtils.notNull(Stream.concat(flags, modelItems))));
+            // unable to determine
+            keep = true;
+          }
+        } else {
+          keep = true;
+        }
+        return keep;
+      };
+    }
+    return retval;
+  }
+
+  /**
+   * Iterates over the matches for an expression evaluated against a focus and
+   * the focus's descendants.
+   * <p>
+   * The expression is evaluated against the focus, followed by the flags and
+   * model items of each focus node in turn.
+   */
+  private static final class SearchIterator implements Iterator<INodeItem> {
+    @NonNull
+    private final IExpression expression;
+    @NonNull
+    private final DynamicContext dynamicContext;
+    @NonNull
+    private final Predicate<INodeItem> filter;
+    @NonNull
+    private final Deque<List<? extends IItem>> pending = new ArrayDeque<>();
+    @NonNull
+    private Iterator<? extends IItem> current = Collections.emptyIterator();
+
+    private SearchIterator(
+        @NonNull IExpression expression,
+        @NonNull DynamicContext dynamicContext,
+        @NonNull ISequence<?> focus,
+        @NonNull Predicate<INodeItem> filter) {
+      this.expression = expression;
+      this.dynamicContext = dynamicContext;
+      this.filter = filter;
+      this.pending.push(focus.getValue());
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext() && !pending.isEmpty()) {
+        List<? extends IItem> focus = ObjectUtils.notNull(pending.pop());
+
+        // check the current focus
+        current = ObjectUtils.notNull(expression.accept(dynamicContext, ISequence.ofList(focus)).getValue().iterator());
+
+        // queue the children of each focus node, so they are searched in order
+        List<List<INodeItem>> children = new ArrayList<>(focus.size());
+        for (IItem item : focus) {
+          INodeItem focusedNode = ItemUtils.checkItemIsNodeItemForStep(item);
+          // skip cycled nodes to prevent an infinite search
+          if (!(focusedNode instanceof ICycledAssemblyNodeItem) && filter.test(focusedNode)) {
+            List<INodeItem> nodes = new ArrayList<>();
+            for (INodeItem child : focusedNode.getFlags()) {
+              if (filter.test(child)) {
+                nodes.add(child);
+              }
+            }
+            for (List<? extends IModelNodeItem<?, ?>> modelItems : focusedNode.getModelItems()) {
+              for (INodeItem child : modelItems) {
+                if (filter.test(child)) {
+                  nodes.add(child);
+                }
+              }
+            }
+            if (!nodes.isEmpty()) {
+              children.add(nodes);
+            }
           }
-          return matches;
-        });
+        }
+        for (int i = children.size() - 1; i >= 0; i--) {
+          pending.push(ObjectUtils.notNull(children.get(i)));
+        }
+      }
+      return current.hasNext();
+    }
 
-    return ObjectUtils.notNull(Stream.concat(nodeMatches, childMatches).distinct());
+    @Override
+    public INodeItem next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return ItemUtils.checkItemIsNodeItemForStep(current.next());
+    }
   }
 
   /**
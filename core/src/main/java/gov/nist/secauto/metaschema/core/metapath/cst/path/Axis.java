@@ -9,15 +9,27 @@ import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpression;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpressionVisitor;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
+import gov.nist.secauto.metaschema.core.metapath.item.node.DocumentOrderIndex;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IModelNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import javax.xml.namespace.QName;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 @SuppressWarnings("PMD.ShortClassName") // intentional
@@ -74,13 +86,209 @@ public enum Axis implements IExpression {
     return visitor.visitAxis(this, context);
   }
 
+  /**
+   * Determine if the axis selects distinct nodes when applied to distinct focus
+   * nodes.
+   *
+   * @return {@code true} if the selected nodes are distinct, or {@code false}
+   *         otherwise
+   */
+  private boolean isDistinctForDistinctFocus() {
+    return this == SELF || this == FLAG || this == CHILDREN;
+  }
+
+  /**
+   * Add the nodes selected by this axis from the provided {@code focus} to the
+   * provided list, in document order.
+   * <p>
+   * This supports the axes identified by {@link #isDistinctForDistinctFocus()}.
+   *
+   * @param focus
+   *          the node to operate on
+   * @param results
+   *          the list to add the selected nodes to
+   */
+  private void addSelected(@NonNull INodeItem focus, @NonNull List<INodeItem> results) {
+    switch (this) {
+    case SELF:
+      results.add(focus);
+      break;
+    case FLAG:
+      results.addAll(focus.getFlags());
+      break;
+    case CHILDREN:
+      for (List<? extends IModelNodeItem<?, ?>> modelItems : focus.getModelItems()) {
+        results.addAll(modelItems);
+      }
+      break;
+    default:
+      throw new UnsupportedOperationException(name());
+    }
+  }
+
+  /**
+   * Determine if this axis can directly select nodes by name using
+   * {@link #acceptNamed(ISequence, QName)}.
+   *
+   * @return {@code true} if named selection is supported, or {@code false}
+   *         otherwise
+   */
+  boolean isNamedSelectionSupported() {
+    return this == SELF || this == FLAG || this == CHILDREN || this == DESCENDANT || this == DESCENDANT_OR_SELF;
+  }
+
+  /**
+   * Evaluate this axis against the provided focus, selecting only the nodes with
+   * the provided name.
+   * <p>
+   * The result is the same as evaluating a {@link NameTest} against the result
+   * of {@link #accept(DynamicContext, ISequence)}, but uses the per-name lookups
+   * provided by the nodes to avoid visiting every node on the axis.
+   *
+   * @param outerFocus
+   *          the focus to evaluate against
+   * @param name
+   *          the name of the nodes to select
+   * @return the selected nodes
+   * @throws UnsupportedOperationException
+   *           if named selection is not supported by this axis
+   * @see #isNamedSelectionSupported()
+   */
+  @NonNull
+  ISequence<? extends INodeItem> acceptNamed(@NonNull ISequence<?> outerFocus, @NonNull QName name) {
+    List<? extends IItem> focus = outerFocus.getValue();
+
+    ISequence<? extends INodeItem> retval;
+    if (focus.isEmpty()) {
+      retval = ISequence.empty();
+    } else if (focus.size() == 1) {
+      List<INodeItem> results = new ArrayList<>();
+      addSelectedNamed(ItemUtils.checkItemIsNodeItemForStep(focus.get(0)), name, results);
+      retval = ISequence.ofList(results);
+    } else {
+      // overlapping descendants of different focus nodes can produce duplicates,
+      // which are dropped keeping the first occurrence
+      Collection<INodeItem> results = isDistinctForDistinctFocus() ? new ArrayList<>() : new LinkedHashSet<>();
+      Set<INodeItem> visited = new HashSet<>();
+      List<INodeItem> selected = new ArrayList<>();
+      for (IItem item : focus) {
+        INodeItem node = ItemUtils.checkItemIsNodeItemForStep(item);
+        if (visited.add(node)) {
+          addSelectedNamed(node, name, selected);
+          results.addAll(selected);
+          selected.clear();
+        }
+      }
+      retval = ISequence.ofList(new ArrayList<>(results));
+    }
+    return retval;
+  }
+
+  private void addSelectedNamed(@NonNull INodeItem focus, @NonNull QName name, @NonNull List<INodeItem> results) {
+    switch (this) {
+    case SELF:
+      if (isNamed(focus, name)) {
+        results.add(focus);
+      }
+      break;
+    case FLAG: {
+      INodeItem flag = focus.getFlagByName(name);
+      if (flag != null) {
+        results.add(flag);
+      }
+      break;
+    }
+    case CHILDREN:
+      results.addAll(focus.getModelItemsByName(name));
+      break;
+    case DESCENDANT_OR_SELF:
+      if (isNamed(focus, name)) {
+        results.add(focus);
+      }
+      addDescendantsNamed(focus, name, results);
+      break;
+    case DESCENDANT:
+      addDescendantsNamed(focus, name, results);
+      break;
+    default:
+      throw new UnsupportedOperationException(name());
+    }
+  }
+
+  private static boolean isNamed(@NonNull INodeItem item, @NonNull QName name) {
+    return item instanceof IDefinitionNodeItem && name.equals(((IDefinitionNodeItem<?, ?>) item).getQName());
+  }
+
+  /**
+   * Add the descendants of the provided {@code focus} with the provided name to
+   * the provided list, in document order.
+   * <p>
+   * If the focus is a document, the document's name index is used. If the
+   * focus is within a document, the named nodes in the document are narrowed to
+   * the focus's subtree using the document order index. Otherwise the
+   * descendants are visited directly.
+   *
+   * @param focus
+   *          the node to get the descendants of
+   * @param name
+   *          the name of the nodes to select
+   * @param results
+   *          the list to add the selected nodes to
+   */
+  private static void addDescendantsNamed(
+      @NonNull INodeItem focus,
+      @NonNull QName name,
+      @NonNull List<INodeItem> results) {
+    IDocumentNodeItem document = focus.getDocumentNodeItem();
+    if (document == null) {
+      addDescendantsNamedBySearch(focus, name, results);
+    } else if (focus.equals(document)) {
+      results.addAll(document.getDescendantsByName(name));
+    } else {
+      DocumentOrderIndex index = document.getDocumentOrderIndex();
+      if (index.contains(focus)) {
+        // the named nodes are in document order, so the focus's descendants
+        // can be found by their position
+        results.addAll(index.descendantsWithin(document.getDescendantsByName(name), focus));
+      } else {
+        addDescendantsNamedBySearch(focus, name, results);
+      }
+    }
+  }
+
+  private static void addDescendantsNamedBySearch(
+      @NonNull INodeItem focus,
+      @NonNull QName name,
+      @NonNull List<INodeItem> results) {
+    focus.descendant()
+        .filter(item -> isNamed(ObjectUtils.notNull(item), name))
+        .forEachOrdered(results::add);
+  }
+
   @Override
   public ISequence<? extends INodeItem> accept(
       DynamicContext dynamicContext,
       ISequence<?> outerFocus) {
+    List<? extends IItem> focus = outerFocus.getValue();
+
     ISequence<? extends INodeItem> retval;
-    if (outerFocus.isEmpty()) {
+    if (focus.isEmpty()) {
       retval = ISequence.empty();
+    } else if (isDistinctForDistinctFocus()) {
+      List<INodeItem> results = new ArrayList<>();
+      if (focus.size() == 1) {
+        addSelected(ItemUtils.checkItemIsNodeItemForStep(focus.get(0)), results);
+      } else {
+        // only duplicates in the focus can produce duplicate results
+        Set<INodeItem> visited = new HashSet<>();
+        for (IItem item : focus) {
+          INodeItem node = ItemUtils.checkItemIsNodeItemForStep(item);
+          if (visited.add(node)) {
+            addSelected(node, results);
+          }
+        }
+      }
+      retval = ISequence.ofList(results);
     } else {
       retval = ISequence.of(ObjectUtils.notNull(outerFocus.stream()
           .map(ItemUtils::checkItemIsNodeItemForStep)
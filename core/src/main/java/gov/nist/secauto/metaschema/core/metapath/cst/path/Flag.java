@@ -9,11 +9,14 @@ import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.cst.AbstractNamedInstanceExpression;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpressionVisitor;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IFlagNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 import javax.xml.namespace.QName;
@@ -48,12 +51,28 @@ public class Flag // NOPMD - intentional name
   public ISequence<? extends IFlagNodeItem> accept(
       DynamicContext dynamicContext,
       ISequence<?> focus) {
-    return ISequence.of(ObjectUtils.notNull(focus.stream()
-        .map(ItemUtils::checkItemIsNodeItemForStep)
-        .flatMap(item -> {
-          assert item != null;
-          return match(item);
-        })));
+    ISequence<? extends IFlagNodeItem> retval;
+    INodeTestExpression test = getTest();
+    if (test instanceof NameTest) {
+      // avoid building a stream for the common case of a named flag
+      QName name = ((NameTest) test).getName();
+      List<IFlagNodeItem> items = new ArrayList<>();
+      for (IItem item : focus.getValue()) {
+        IFlagNodeItem flag = ItemUtils.checkItemIsNodeItemForStep(item).getFlagByName(name);
+        if (flag != null) {
+          items.add(flag);
+        }
+      }
+      retval = ISequence.ofList(items);
+    } else {
+      retval = ISequence.of(ObjectUtils.notNull(focus.stream()
+          .map(ItemUtils::checkItemIsNodeItemForStep)
+          .flatMap(item -> {
+            assert item != null;
+            return match(item);
+          })));
+    }
+    return retval;
   }
 
   /**
@@ -9,11 +9,13 @@ import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.cst.AbstractNamedInstanceExpression;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpressionVisitor;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IModelNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -50,12 +52,25 @@ public class ModelInstance
   public ISequence<? extends IModelNodeItem<?, ?>> accept(
       DynamicContext dynamicContext,
       ISequence<?> focus) {
-    return ISequence.of(ObjectUtils.notNull(focus.stream()
-        .map(ItemUtils::checkItemIsNodeItemForStep)
-        .flatMap(item -> {
-          assert item != null;
-          return match(dynamicContext, item);
-        })));
+    ISequence<? extends IModelNodeItem<?, ?>> retval;
+    INodeTestExpression test = getTest();
+    if (test instanceof NameTest) {
+      // avoid building a stream for the common case of a named child
+      QName name = ((NameTest) test).getName();
+      List<IModelNodeItem<?, ?>> items = new ArrayList<>();
+      for (IItem item : focus.getValue()) {
+        items.addAll(ItemUtils.checkItemIsNodeItemForStep(item).getModelItemsByName(name));
+      }
+      retval = ISequence.ofList(items);
+    } else {
+      retval = ISequence.of(ObjectUtils.notNull(focus.stream()
+          .map(ItemUtils::checkItemIsNodeItemForStep)
+          .flatMap(item -> {
+            assert item != null;
+            return match(dynamicContext, item);
+          })));
+    }
+    return retval;
   }
 
   /**
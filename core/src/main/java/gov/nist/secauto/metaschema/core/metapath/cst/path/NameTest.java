@@ -8,11 +8,15 @@ package gov.nist.secauto.metaschema.core.metapath.cst.path;
 import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.cst.IExpressionVisitor;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.ItemUtils;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -58,12 +62,16 @@ public class NameTest
   public ISequence<? extends INodeItem> accept(
       DynamicContext dynamicContext,
       ISequence<?> focus) {
-    return ISequence.of(ObjectUtils.notNull(focus.stream()
-        .map(ItemUtils::checkItemIsNodeItemForStep)
-        .filter(this::match)));
+    List<INodeItem> retval = new ArrayList<>();
+    for (IItem item : focus.getValue()) {
+      INodeItem node = ItemUtils.checkItemIsNodeItemForStep(item);
+      if (match(node)) {
+        retval.add(node);
+      }
+    }
+    return ISequence.ofList(retval);
   }
 
-  @SuppressWarnings("PMD.UnusedPrivateMethod")
   private boolean match(INodeItem item) {
     return item instanceof IDefinitionNodeItem
         && getName().equals(((IDefinitionNodeItem<?, ?>) item).getQName());
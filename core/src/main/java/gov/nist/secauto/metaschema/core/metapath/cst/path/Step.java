@@ -84,8 +84,18 @@ public class Step implements IExpression { // NOPMD - intentional
 
   @Override
   public ISequence<?> accept(DynamicContext dynamicContext, ISequence<?> focus) {
-    ISequence<? extends INodeItem> axisResult = getAxis().accept(dynamicContext, focus);
-    return getStep().accept(dynamicContext, axisResult);
+    Axis axis = getAxis();
+    INodeTestExpression test = getStep();
+
+    ISequence<?> retval;
+    if (test instanceof NameTest && axis.isNamedSelectionSupported()) {
+      // push the name test into the axis to use the name-based lookups
+      retval = axis.acceptNamed(focus, ((NameTest) test).getName());
+    } else {
+      ISequence<? extends INodeItem> axisResult = axis.accept(dynamicContext, focus);
+      retval = test.accept(dynamicContext, axisResult);
+    }
+    return retval;
   }
 
   @SuppressWarnings("null")
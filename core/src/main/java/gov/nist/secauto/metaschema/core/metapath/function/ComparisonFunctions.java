@@ -21,8 +21,12 @@ import gov.nist.secauto.metaschema.core.metapath.item.atomic.INumericItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IUntypedAtomicItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IYearMonthDurationItem;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -58,6 +62,12 @@ public final class ComparisonFunctions {
     GE;
   }
 
+  /**
+   * The maximum number of item pairs that are compared pair-wise in a general
+   * comparison, before comparing the items based on their values.
+   */
+  private static final int PAIRWISE_COMPARISON_LIMIT = 16;
+
   private ComparisonFunctions() {
     // disable construction
   }
@@ -81,6 +91,13 @@ public final class ComparisonFunctions {
 
   /**
    * Compare the sets of atomic items.
+   * <p>
+   * The comparison is {@code true} if any pair of left and right items compare
+   * as {@code true}. The evaluation strategy is chosen based on the items being
+   * compared. Small sets are compared pair-wise, stopping at the first matching
+   * pair. Larger sets of string items are compared based on their values, using
+   * a hash lookup for equality and the minimum and maximum values for ordering
+   * comparisons, which avoids comparing every pair of items.
    *
    * @param leftItems
    *          the first set of items to compare
@@ -91,15 +108,59 @@ public final class ComparisonFunctions {
    * @return a or an empty {@link ISequence} if either item is {@code null}
    */
   @NonNull
-  public static IBooleanItem generalCompairison( // NOPMD - acceptable complexity
+  public static IBooleanItem generalCompairison(
       @NonNull ISequence<? extends IAnyAtomicItem> leftItems,
       @NonNull Operator operator,
       @NonNull ISequence<? extends IAnyAtomicItem> rightItems) {
+    List<? extends IAnyAtomicItem> left = leftItems.getValue();
+    List<? extends IAnyAtomicItem> right = rightItems.getValue();
+
+    IBooleanItem retval;
+    if ((long) left.size() * right.size() > PAIRWISE_COMPARISON_LIMIT
+        && isStringItems(left)
+        && isStringItems(right)) {
+      retval = IBooleanItem.valueOf(stringGeneralComparison(
+          ObjectUtils.notNull(left),
+          operator,
+          ObjectUtils.notNull(right)));
+    } else {
+      retval = pairwiseGeneralComparison(ObjectUtils.notNull(left), operator, ObjectUtils.notNull(right));
+    }
+    return retval;
+  }
 
-    IBooleanItem retval = IBooleanItem.FALSE;
-    for (IAnyAtomicItem left : leftItems.getValue()) {
+  private static boolean isStringItems(@NonNull List<? extends IAnyAtomicItem> items) {
+    boolean retval = true;
+    for (IAnyAtomicItem item : items) {
+      if (!(item instanceof IStringItem)) {
+        retval = false;
+        break;
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Compare each pair of left and right items, until a pair compares as
+   * {@code true}.
+   *
+   * @param leftItems
+   *          the first set of items to compare
+   * @param operator
+   *          the comparison operator
+   * @param rightItems
+   *          the second set of items to compare
+   * @return the comparison result
+   */
+  @SuppressWarnings("PMD.OnlyOneReturn")
+  @NonNull
+  private static IBooleanItem pairwiseGeneralComparison(
+      @NonNull List<? extends IAnyAtomicItem> leftItems,
+      @NonNull Operator operator,
+      @NonNull List<? extends IAnyAtomicItem> rightItems) {
+    for (IAnyAtomicItem left : leftItems) {
       assert left != null;
-      for (IAnyAtomicItem right : rightItems.getValue()) {
+      for (IAnyAtomicItem right : rightItems) {
         assert right != null;
         IAnyAtomicItem leftCast;
         IAnyAtomicItem rightCast;
@@ -122,13 +183,105 @@ public final class ComparisonFunctions {
         assert leftCast != null;
         IBooleanItem result = compare(leftCast, operator, rightCast);
         if (IBooleanItem.TRUE.equals(result)) {
-          retval = IBooleanItem.TRUE;
+          return IBooleanItem.TRUE;
+        }
+      }
+    }
+    return IBooleanItem.FALSE;
+  }
+
+  /**
+   * Compare two non-empty sets of string items based on their string values.
+   * <p>
+   * This produces the same result as comparing each pair of items using
+   * {@link #stringCompare(IStringItem, Operator, IStringItem)}.
+   *
+   * @param leftItems
+   *          the first set of items to compare
+   * @param operator
+   *          the comparison operator
+   * @param rightItems
+   *          the second set of items to compare
+   * @return the comparison result
+   */
+  private static boolean stringGeneralComparison(
+      @NonNull List<? extends IAnyAtomicItem> leftItems,
+      @NonNull Operator operator,
+      @NonNull List<? extends IAnyAtomicItem> rightItems) {
+    boolean retval;
+    switch (operator) {
+    case EQ: {
+      // build the hash set from the smaller side, and probe it using the larger side
+      boolean leftSmaller = leftItems.size() <= rightItems.size();
+      Set<String> values = toStringValues(leftSmaller ? leftItems : rightItems);
+      retval = false;
+      for (IAnyAtomicItem item : leftSmaller ? rightItems : leftItems) {
+        if (values.contains(item.asString())) {
+          retval = true;
+          break;
         }
       }
+      break;
+    }
+    case NE: {
+      // a differing pair exists, unless all items have the same value
+      Set<String> values = toStringValues(leftItems);
+      values.addAll(toStringValues(rightItems));
+      retval = values.size() > 1;
+      break;
+    }
+    case LT:
+      retval = minStringValue(leftItems).compareTo(maxStringValue(rightItems)) < 0;
+      break;
+    case LE:
+      retval = minStringValue(leftItems).compareTo(maxStringValue(rightItems)) <= 0;
+      break;
+    case GT:
+      retval = maxStringValue(leftItems).compareTo(minStringValue(rightItems)) > 0;
+      break;
+    case GE:
+      retval = maxStringValue(leftItems).compareTo(minStringValue(rightItems)) >= 0;
+      break;
+    default:
+      throw new IllegalArgumentException(
+          String.format("Unsupported operator '%s'", operator.name())); // NOPMD
     }
     return retval;
   }
 
+  @NonNull
+  private static Set<String> toStringValues(@NonNull List<? extends IAnyAtomicItem> items) {
+    Set<String> retval = new HashSet<>(); // NOPMD - not concurrent
+    for (IAnyAtomicItem item : items) {
+      retval.add(item.asString());
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static String minStringValue(@NonNull List<? extends IAnyAtomicItem> items) {
+    String retval = null;
+    for (IAnyAtomicItem item : items) {
+      String value = item.asString();
+      if (retval == null || value.compareTo(retval) < 0) {
+        retval = value;
+      }
+    }
+    return ObjectUtils.notNull(retval);
+  }
+
+  @NonNull
+  private static String maxStringValue(@NonNull List<? extends IAnyAtomicItem> items) {
+    String retval = null;
+    for (IAnyAtomicItem item : items) {
+      String value = item.asString();
+      if (retval == null || value.compareTo(retval) > 0) {
+        retval = value;
+      }
+    }
+    return ObjectUtils.notNull(retval);
+  }
+
   /**
    * Attempts to cast the provided {@code other} item to the type of the
    * {@code item}.
@@ -43,6 +43,12 @@ public class DefaultFunction
   private final ISequenceType result;
   @NonNull
   private final IFunctionExecutor handler;
+  /**
+   * Results are cached only for deterministic functions that do not accept
+   * arbitrary items. Items passed to such arguments are not converted, so they
+   * can be read lazily, which building a cache key would prevent.
+   */
+  private final boolean cacheable;
 
   /**
    * Construct a new function signature.
@@ -70,6 +76,9 @@ public class DefaultFunction
     this.properties = Collections.unmodifiableSet(properties);
     this.result = result;
     this.handler = handler;
+    this.cacheable = properties.contains(FunctionProperty.DETERMINISTIC)
+        && arguments.stream()
+            .noneMatch(argument -> IItem.class.equals(argument.getSequenceType().getType()));
   }
 
   @Override
@@ -124,12 +133,14 @@ public class DefaultFunction
     // apply occurrence
     ISequence<?> retval = argument.getSequenceType().getOccurrence().getSequenceHandler().handle(parameter);
 
-    // apply function conversion and type promotion to the parameter
-    if (!retval.isEmpty()) {
+    // apply function conversion and type promotion to the parameter; any item is
+    // allowed without conversion, which leaves a lazily evaluated sequence unread
+    // for functions that only need some of the items
+    Class<? extends IItem> argumentClass = argument.getSequenceType().getType();
+    if (!IItem.class.equals(argumentClass) && !retval.isEmpty()) {
       retval = convertSequence(argument, retval);
 
       // verify resulting values
-      Class<? extends IItem> argumentClass = argument.getSequenceType().getType();
       for (IItem item : retval.getValue()) {
         Class<? extends IItem> itemClass = item.getClass();
         if (!argumentClass.isAssignableFrom(itemClass)) {
@@ -215,10 +226,9 @@ public class DefaultFunction
 
       CallingContext callingContext = null;
       ISequence<?> result = null;
-      if (isDeterministic()) {
+      if (cacheable) {
         // check cache
         callingContext = new CallingContext(convertedArguments, contextItem);
-        // TODO: implement something like computeIfAbsent
         // attempt to get the result from the cache
         result = dynamicContext.getCachedResult(callingContext);
       }
@@ -227,8 +237,8 @@ public class DefaultFunction
         result = handler.execute(this, convertedArguments, dynamicContext, contextItem);
 
         if (callingContext != null) {
-          // add result to cache
-          dynamicContext.cacheResult(callingContext, result);
+          // add result to cache, using the first result if another thread cached one
+          result = dynamicContext.cacheResult(callingContext, result);
         }
       }
 
@@ -26,6 +26,8 @@ import java.time.Period;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAmount;
 import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.LongBinaryOperator;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -756,13 +758,7 @@ public final class OperationFunctions { // NOPMD - intentional
     INumericItem retval;
     if (left instanceof IIntegerItem || right instanceof IIntegerItem) {
       // create an integer result
-      BigInteger integerLeft = left.asInteger();
-      BigInteger integerRight = right.asInteger();
-
-      @SuppressWarnings("null")
-      @NonNull
-      BigInteger result = integerLeft.add(integerRight);
-      retval = IIntegerItem.valueOf(result);
+      retval = integerOperation(left.asInteger(), right.asInteger(), Math::addExact, BigInteger::add);
     } else {
       // create a decimal result
       BigDecimal decimalLeft = left.asDecimal();
@@ -791,13 +787,7 @@ public final class OperationFunctions { // NOPMD - intentional
     INumericItem retval;
     if (left instanceof IIntegerItem || right instanceof IIntegerItem) {
       // create an integer result
-      BigInteger integerLeft = left.asInteger();
-      BigInteger integerRight = right.asInteger();
-
-      @SuppressWarnings("null")
-      @NonNull
-      BigInteger result = integerLeft.subtract(integerRight);
-      retval = IIntegerItem.valueOf(result);
+      retval = integerOperation(left.asInteger(), right.asInteger(), Math::subtractExact, BigInteger::subtract);
     } else {
       // create a decimal result
       BigDecimal decimalLeft = left.asDecimal();
@@ -826,10 +816,7 @@ public final class OperationFunctions { // NOPMD - intentional
     INumericItem retval;
     if (left instanceof IIntegerItem || right instanceof IIntegerItem) {
       // create an integer result
-      @SuppressWarnings("null")
-      @NonNull
-      BigInteger result = left.asInteger().multiply(right.asInteger());
-      retval = IIntegerItem.valueOf(result);
+      retval = integerOperation(left.asInteger(), right.asInteger(), Math::multiplyExact, BigInteger::multiply);
     } else {
       // create a decimal result
       BigDecimal decimalLeft = left.asDecimal();
@@ -843,6 +830,46 @@ public final class OperationFunctions { // NOPMD - intentional
     return retval;
   }
 
+  /**
+   * Apply an integer operation, using {@code long} arithmetic when both operands
+   * and the result fit in a {@code long}.
+   * <p>
+   * The {@link BigInteger} operation is only used when an operand is too large,
+   * or when the {@code long} operation overflows. Small results are returned as
+   * shared items, so most operations do not allocate.
+   *
+   * @param left
+   *          the first operand
+   * @param right
+   *          the second operand
+   * @param longOperation
+   *          the operation to apply to {@code long} operands, which must throw
+   *          an {@link ArithmeticException} on overflow
+   * @param bigOperation
+   *          the operation to apply to {@link BigInteger} operands
+   * @return the result
+   */
+  @NonNull
+  private static IIntegerItem integerOperation(
+      @NonNull BigInteger left,
+      @NonNull BigInteger right,
+      @NonNull LongBinaryOperator longOperation,
+      @NonNull BinaryOperator<BigInteger> bigOperation) {
+    IIntegerItem retval = null;
+    if (left.bitLength() < Long.SIZE && right.bitLength() < Long.SIZE) {
+      try {
+        retval = IIntegerItem.valueOf(longOperation.applyAsLong(left.longValue(), right.longValue()));
+      } catch (ArithmeticException ex) { // NOPMD - overflow is handled below
+        // the result does not fit in a long
+      }
+    }
+
+    if (retval == null) {
+      retval = IIntegerItem.valueOf(ObjectUtils.notNull(bigOperation.apply(left, right)));
+    }
+    return retval;
+  }
+
   /**
    * Based on XPath 3.1 <a href=
    * "https://www.w3.org/TR/xpath-functions-31/#func-numeric-divide">op:numeric-divide</a>.
@@ -962,13 +989,8 @@ public final class OperationFunctions { // NOPMD - intentional
   public static INumericItem opNumericUnaryMinus(@NonNull INumericItem item) {
     INumericItem retval;
     if (item instanceof IIntegerItem) {
-      // create a decimal result
-      BigInteger integer = item.asInteger();
-
-      @SuppressWarnings("null")
-      @NonNull
-      BigInteger result = integer.negate();
-      retval = IIntegerItem.valueOf(result);
+      // create an integer result
+      retval = integerOperation(BigInteger.ZERO, item.asInteger(), Math::subtractExact, BigInteger::subtract);
     } else if (item instanceof IDecimalItem) {
       // create a decimal result
       BigDecimal decimal = item.asDecimal();
@@ -12,11 +12,11 @@ import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
 import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.IArgument;
 import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentArrayItem;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.function.IArrayItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -84,10 +84,6 @@ public final class ArrayAppend {
   public static <T extends ICollectionValue> IArrayItem<T> append(
       @NonNull IArrayItem<T> array,
       @NonNull T appendage) {
-
-    List<T> copy = new ArrayList<>(array);
-    copy.add(appendage);
-
-    return IArrayItem.ofCollection(copy);
+    return PersistentArrayItem.from(array).append(appendage);
   }
 }
@@ -12,13 +12,13 @@ import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
 import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.IArgument;
 import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentArrayItem;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IIntegerItem;
 import gov.nist.secauto.metaschema.core.metapath.item.function.ArrayException;
 import gov.nist.secauto.metaschema.core.metapath.item.function.IArrayItem;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -124,18 +124,15 @@ public final class ArrayPut {
       @NonNull IArrayItem<T> array,
       int position,
       @NonNull T member) {
-    List<T> copy = new ArrayList<>(array);
     try {
-      copy.set(position - 1, member);
+      return PersistentArrayItem.from(array).with(position - 1, member);
     } catch (IndexOutOfBoundsException ex) {
       throw new ArrayException(
           ArrayException.INDEX_OUT_OF_BOUNDS,
           String.format("The position %d is outside the range of values for the array of size '%d'.",
               position,
-              copy.size()),
+              array.size()),
           ex);
     }
-
-    return IArrayItem.ofCollection(copy);
   }
 }
@@ -13,6 +13,8 @@ import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.IArgument;
 import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
 import gov.nist.secauto.metaschema.core.metapath.function.JsonFunctionException;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentHashMap;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentMapItem;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
@@ -25,6 +27,7 @@ import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -203,11 +206,20 @@ public final class MapMerge {
       }
     }
 
-    // merge the maps
-    return IMapItem.ofCollection(maps.stream()
-        .flatMap(map -> map.entrySet().stream())
-        // collect the entries into a new map
-        .collect(CustomCollectors.toMap(Map.Entry::getKey, Map.Entry::getValue, duplicates.getDuplicateHander(),
-            HashMap::new)));
+    // merge the maps, sharing the structure of the first map
+    CustomCollectors.DuplicateHandler<IMapKey, ICollectionValue> handler = duplicates.getDuplicateHander();
+    Iterator<? extends Map<IMapKey, ? extends ICollectionValue>> iterator = maps.iterator();
+    PersistentMapItem<ICollectionValue> first = PersistentMapItem.from(iterator.next());
+    PersistentHashMap<IMapKey, ICollectionValue> result = PersistentHashMap.copyOf(first.getValue());
+    while (iterator.hasNext()) {
+      for (Map.Entry<IMapKey, ? extends ICollectionValue> entry : iterator.next().entrySet()) {
+        IMapKey key = entry.getKey();
+        ICollectionValue existing = result.get(key);
+        result = result.plus(key, existing == null
+            ? entry.getValue()
+            : handler.handle(key, existing, entry.getValue()));
+      }
+    }
+    return result.isEmpty() ? IMapItem.empty() : new PersistentMapItem<>(result);
   }
 }
@@ -12,15 +12,13 @@ import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
 import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.IArgument;
 import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentMapItem;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.core.metapath.item.function.IMapItem;
-import gov.nist.secauto.metaschema.core.metapath.item.function.IMapKey;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -95,10 +93,6 @@ public final class MapPut {
       @NonNull IMapItem<V> map,
       @NonNull IAnyAtomicItem key,
       @NonNull V value) {
-    @SuppressWarnings("PMD.UseConcurrentHashMap")
-    Map<IMapKey, V> copy = new HashMap<>(map);
-    copy.put(key.asMapKey(), value);
-
-    return IMapItem.ofCollection(copy);
+    return PersistentMapItem.from(map).with(key.asMapKey(), value);
   }
 }
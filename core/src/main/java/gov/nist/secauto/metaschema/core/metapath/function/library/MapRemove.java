@@ -12,6 +12,7 @@ import gov.nist.secauto.metaschema.core.metapath.MetapathConstants;
 import gov.nist.secauto.metaschema.core.metapath.function.FunctionUtils;
 import gov.nist.secauto.metaschema.core.metapath.function.IArgument;
 import gov.nist.secauto.metaschema.core.metapath.function.IFunction;
+import gov.nist.secauto.metaschema.core.metapath.impl.PersistentMapItem;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.IAnyAtomicItem;
 import gov.nist.secauto.metaschema.core.metapath.item.function.IMapItem;
@@ -20,8 +21,6 @@ import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -87,14 +86,10 @@ public final class MapRemove {
   public static <V extends ICollectionValue> IMapItem<V> removeItems(
       @NonNull IMapItem<V> map,
       @NonNull Collection<? extends IAnyAtomicItem> keys) {
-    Set<IMapKey> keySet = keys.stream()
+    List<IMapKey> mapKeys = ObjectUtils.notNull(keys.stream()
         .map(IAnyAtomicItem::asMapKey)
-        .collect(Collectors.toSet());
+        .collect(Collectors.toList()));
 
-    Map<IMapKey, V> remaining = ObjectUtils.notNull(map.entrySet().stream()
-        .filter(entry -> !keySet.contains(entry.getKey()))
-        .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
-
-    return IMapItem.ofCollection(remaining);
+    return PersistentMapItem.from(map).without(mapKeys);
   }
 }
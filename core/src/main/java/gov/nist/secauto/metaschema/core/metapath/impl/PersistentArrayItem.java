@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.impl;
+
+import gov.nist.secauto.metaschema.core.metapath.ICollectionValue;
+import gov.nist.secauto.metaschema.core.metapath.item.function.IArrayItem;
+
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * An array item backed by a {@link PersistentVector}.
+ * <p>
+ * Appending or replacing members creates a new array item that shares most of
+ * its structure with this array item, which avoids copying all members when an
+ * array is built incrementally.
+ *
+ * @param <ITEM>
+ *          the Java type of the items
+ */
+public class PersistentArrayItem<ITEM extends ICollectionValue>
+    extends AbstractArrayItem<ITEM> {
+  @NonNull
+  private final PersistentVector<ITEM> items;
+
+  /**
+   * Get a persistent array item containing the members of the provided array.
+   * <p>
+   * If the provided array item is already persistent, it is returned as is.
+   *
+   * @param <T>
+   *          the Java type of the items
+   * @param array
+   *          the list containing the members
+   * @return the persistent array item
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  public static <T extends ICollectionValue> PersistentArrayItem<T> from(@NonNull List<? extends T> array) {
+    return array instanceof PersistentArrayItem
+        ? (PersistentArrayItem<T>) array
+        : new PersistentArrayItem<>(PersistentVector.copyOf(array));
+  }
+
+  /**
+   * Construct a new array item using the items from the provided list.
+   *
+   * @param items
+   *          a list containing the items to add to the array
+   */
+  public PersistentArrayItem(@NonNull PersistentVector<ITEM> items) {
+    this.items = items;
+  }
+
+  @Override
+  public List<ITEM> getValue() {
+    return items;
+  }
+
+  /**
+   * Get an array item containing the members of this array item, followed by
+   * the provided member.
+   *
+   * @param member
+   *          the member to append
+   * @return the new array item
+   */
+  @NonNull
+  public IArrayItem<ITEM> append(@NonNull ITEM member) {
+    return new PersistentArrayItem<>(items.plus(member));
+  }
+
+  /**
+   * Get an array item containing the members of this array item, with the
+   * member at the provided index replaced by the provided member.
+   *
+   * @param index
+   *          the zero-based index of the member to replace
+   * @param member
+   *          the replacement member
+   * @return the new array item
+   * @throws IndexOutOfBoundsException
+   *           if the index is not in the range of 0 to {@code size() - 1}
+   */
+  @NonNull
+  public IArrayItem<ITEM> with(int index, @NonNull ITEM member) {
+    return new PersistentArrayItem<>(items.with(index, member));
+  }
+}
@@ -0,0 +1,471 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.impl;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * An immutable map implemented as a hash array mapped trie.
+ * <p>
+ * The {@link #plus(Object, Object)} and {@link #minus(Object)} methods return
+ * a new map that shares all unchanged trie nodes with this map. Lookups and
+ * updates visit at most one node for each 5 bits of the key's hash code, so
+ * they complete in effectively constant time without copying the whole map.
+ *
+ * @param <K>
+ *          the map key Java type
+ * @param <V>
+ *          the map value Java type
+ */
+public final class PersistentHashMap<K, V>
+    extends ImmutableCollections.AbstractImmutableMap<K, V> {
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+
+  @NonNull
+  private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+  @Nullable
+  private final Node<K, V> root;
+  private final int size;
+
+  /**
+   * Get an empty map.
+   *
+   * @param <K>
+   *          the map key Java type
+   * @param <V>
+   *          the map value Java type
+   * @return the empty map
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  public static <K, V> PersistentHashMap<K, V> empty() {
+    return (PersistentHashMap<K, V>) EMPTY;
+  }
+
+  /**
+   * Get a map containing the entries of the provided map.
+   * <p>
+   * If the provided map is already a persistent map, it is returned as is.
+   *
+   * @param <K>
+   *          the map key Java type
+   * @param <V>
+   *          the map value Java type
+   * @param map
+   *          the map containing the entries to copy
+   * @return the new map
+   */
+  @SuppressWarnings({ "unchecked", "PMD.OnlyOneReturn" })
+  @NonNull
+  public static <K, V> PersistentHashMap<K, V> copyOf(@NonNull Map<? extends K, ? extends V> map) {
+    if (map instanceof PersistentHashMap) {
+      return (PersistentHashMap<K, V>) map;
+    }
+
+    PersistentHashMap<K, V> retval = empty();
+    for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      retval = retval.plus(entry.getKey(), entry.getValue());
+    }
+    return retval;
+  }
+
+  private PersistentHashMap(@Nullable Node<K, V> root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Get a map containing the entries of this map, with the provided key mapped
+   * to the provided value.
+   *
+   * @param key
+   *          the key to add or replace
+   * @param value
+   *          the value to map the key to
+   * @return the new map, or this map if the key is already mapped to the value
+   */
+  @NonNull
+  public PersistentHashMap<K, V> plus(@NonNull K key, V value) {
+    Node<K, V> current = root == null ? new BitmapNode<>(0, new Object[0]) : root;
+    boolean[] added = new boolean[1];
+    Node<K, V> newRoot = current.put(0, hash(key), new AbstractMap.SimpleImmutableEntry<>(key, value), added);
+    return newRoot == root ? this : new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+  }
+
+  /**
+   * Get a map containing the entries of this map, without the provided key.
+   *
+   * @param key
+   *          the key to remove
+   * @return the new map, or this map if the key is not in this map
+   */
+  @NonNull
+  public PersistentHashMap<K, V> minus(@NonNull Object key) {
+    PersistentHashMap<K, V> retval = this;
+    if (root != null) {
+      Node<K, V> newRoot = root.remove(0, hash(key), key);
+      if (newRoot != root) {
+        retval = newRoot == null ? empty() : new PersistentHashMap<>(newRoot, size - 1);
+      }
+    }
+    return retval;
+  }
+
+  @Nullable
+  private Map.Entry<K, V> findEntry(@Nullable Object key) {
+    return root == null || key == null ? null : root.find(0, hash(key), key);
+  }
+
+  @Override
+  public V get(Object key) {
+    Map.Entry<K, V> entry = findEntry(key);
+    return entry == null ? null : entry.getValue();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return findEntry(key) != null;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<K, V>> iterator() {
+        return new EntryIterator<>(root);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private static int hash(@NonNull Object key) {
+    int hash = key.hashCode();
+    // spread the higher bits, since only 5 bits are used at each level
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  @NonNull
+  private static Object[] insert(@NonNull Object[] array, int index, @NonNull Object value) {
+    Object[] retval = new Object[array.length + 1];
+    System.arraycopy(array, 0, retval, 0, index);
+    retval[index] = value;
+    System.arraycopy(array, index, retval, index + 1, array.length - index);
+    return retval;
+  }
+
+  @NonNull
+  private static Object[] replace(@NonNull Object[] array, int index, @NonNull Object value) {
+    Object[] retval = array.clone();
+    retval[index] = value;
+    return retval;
+  }
+
+  @NonNull
+  private static Object[] delete(@NonNull Object[] array, int index) {
+    Object[] retval = new Object[array.length - 1];
+    System.arraycopy(array, 0, retval, 0, index);
+    System.arraycopy(array, index + 1, retval, index, array.length - index - 1);
+    return retval;
+  }
+
+  /**
+   * A node in the trie.
+   * <p>
+   * Nodes are never modified after construction. Each slot of a node holds
+   * either a map entry or a child node.
+   */
+  private interface Node<K, V> {
+    @Nullable
+    Map.Entry<K, V> find(int shift, int hash, @NonNull Object key);
+
+    @NonNull
+    Node<K, V> put(int shift, int hash, @NonNull Map.Entry<K, V> entry, @NonNull boolean[] added);
+
+    /**
+     * Remove the key from this node.
+     *
+     * @return the new node, this node if the key was not found, or {@code null}
+     *         if the resulting node is empty
+     */
+    @Nullable
+    Node<K, V> remove(int shift, int hash, @NonNull Object key);
+
+    @NonNull
+    Object[] slots();
+  }
+
+  /**
+   * A node whose populated slots are identified by the bits of a bitmap.
+   */
+  private static final class BitmapNode<K, V> implements Node<K, V> {
+    private final int bitmap;
+    @NonNull
+    private final Object[] slots;
+
+    private BitmapNode(int bitmap, @NonNull Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    private int index(int bit) {
+      return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map.Entry<K, V> find(int shift, int hash, Object key) {
+      int bit = bit(hash, shift);
+      Map.Entry<K, V> retval = null;
+      if ((bitmap & bit) != 0) {
+        Object slot = slots[index(bit)];
+        if (slot instanceof Node) {
+          retval = ((Node<K, V>) slot).find(shift + BITS, hash, key);
+        } else if (key.equals(((Map.Entry<K, V>) slot).getKey())) {
+          retval = (Map.Entry<K, V>) slot;
+        }
+      }
+      return retval;
+    }
+
+    @SuppressWarnings({ "unchecked", "PMD.OnlyOneReturn" })
+    @Override
+    public Node<K, V> put(int shift, int hash, Map.Entry<K, V> entry, boolean[] added) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        added[0] = true;
+        return new BitmapNode<>(bitmap | bit, insert(slots, index, entry));
+      }
+
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Node) {
+        Node<K, V> child = (Node<K, V>) slot;
+        newSlot = child.put(shift + BITS, hash, entry, added);
+      } else {
+        Map.Entry<K, V> existing = (Map.Entry<K, V>) slot;
+        if (existing.getKey().equals(entry.getKey())) {
+          newSlot = Objects.equals(existing.getValue(), entry.getValue()) ? existing : entry;
+        } else {
+          // split the slot into a child node containing both entries
+          newSlot = newNode(shift + BITS, existing, hash(ObjectUtils.notNull(existing.getKey())), entry, hash, added);
+        }
+      }
+      return newSlot == slot ? this : new BitmapNode<>(bitmap, replace(slots, index, newSlot));
+    }
+
+    @NonNull
+    private static <K, V> Node<K, V> newNode(
+        int shift,
+        @NonNull Map.Entry<K, V> first,
+        int firstHash,
+        @NonNull Map.Entry<K, V> second,
+        int secondHash,
+        @NonNull boolean[] added) {
+      Node<K, V> retval;
+      if (firstHash == secondHash) {
+        added[0] = true;
+        retval = new CollisionNode<>(firstHash, new Object[] { first, second });
+      } else {
+        retval = new BitmapNode<K, V>(bit(firstHash, shift), new Object[] { first })
+            .put(shift, secondHash, second, added);
+      }
+      return retval;
+    }
+
+    @SuppressWarnings({ "unchecked", "PMD.OnlyOneReturn" })
+    @Override
+    public Node<K, V> remove(int shift, int hash, Object key) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return this;
+      }
+
+      int index = index(bit);
+      Object slot = slots[index];
+      Node<K, V> retval = this;
+      if (slot instanceof Node) {
+        Node<K, V> child = (Node<K, V>) slot;
+        Node<K, V> newChild = child.remove(shift + BITS, hash, key);
+        if (newChild == null) {
+          retval = removeSlot(bit, index);
+        } else if (newChild != child) {
+          retval = new BitmapNode<>(bitmap, replace(slots, index, newChild));
+        }
+      } else if (key.equals(((Map.Entry<K, V>) slot).getKey())) {
+        retval = removeSlot(bit, index);
+      }
+      return retval;
+    }
+
+    @Nullable
+    private Node<K, V> removeSlot(int bit, int index) {
+      return bitmap == bit ? null : new BitmapNode<>(bitmap ^ bit, delete(slots, index));
+    }
+
+    @Override
+    public Object[] slots() {
+      return slots;
+    }
+  }
+
+  /**
+   * A node holding the entries whose keys have the same hash code.
+   */
+  private static final class CollisionNode<K, V> implements Node<K, V> {
+    private final int hash;
+    @NonNull
+    private final Object[] entries;
+
+    private CollisionNode(int hash, @NonNull Object[] entries) {
+      this.hash = hash;
+      this.entries = entries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int indexOf(@NonNull Object key) {
+      int retval = -1;
+      for (int index = 0; index < entries.length && retval < 0; index++) {
+        if (key.equals(((Map.Entry<K, V>) entries[index]).getKey())) {
+          retval = index;
+        }
+      }
+      return retval;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Map.Entry<K, V> find(int shift, int hash, Object key) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      return index < 0 ? null : (Map.Entry<K, V>) entries[index];
+    }
+
+    @SuppressWarnings({ "unchecked", "PMD.OnlyOneReturn" })
+    @Override
+    public Node<K, V> put(int shift, int hash, Map.Entry<K, V> entry, boolean[] added) {
+      if (this.hash != hash) {
+        // nest this node in a bitmap node, which can hold both hashes
+        return new BitmapNode<K, V>(bit(this.hash, shift), new Object[] { this })
+            .put(shift, hash, entry, added);
+      }
+
+      int index = indexOf(ObjectUtils.notNull(entry.getKey()));
+      Node<K, V> retval;
+      if (index < 0) {
+        added[0] = true;
+        retval = new CollisionNode<>(hash, insert(entries, entries.length, entry));
+      } else if (Objects.equals(((Map.Entry<K, V>) entries[index]).getValue(), entry.getValue())) {
+        retval = this;
+      } else {
+        retval = new CollisionNode<>(hash, replace(entries, index, entry));
+      }
+      return retval;
+    }
+
+    @Override
+    public Node<K, V> remove(int shift, int hash, Object key) {
+      int index = this.hash == hash ? indexOf(key) : -1;
+      Node<K, V> retval;
+      if (index < 0) {
+        retval = this;
+      } else if (entries.length == 1) {
+        retval = null;
+      } else {
+        retval = new CollisionNode<>(hash, delete(entries, index));
+      }
+      return retval;
+    }
+
+    @Override
+    public Object[] slots() {
+      return entries;
+    }
+  }
+
+  /**
+   * Iterates over the entries of a trie in a depth-first traversal.
+   */
+  private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+    @NonNull
+    private final Deque<Iterator<Object>> stack = new ArrayDeque<>();
+    @Nullable
+    private Map.Entry<K, V> next;
+
+    private EntryIterator(@Nullable Node<K, V> root) {
+      if (root != null) {
+        stack.push(ObjectUtils.notNull(Arrays.asList(root.slots()).iterator()));
+      }
+      advance();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+      next = null;
+      while (next == null && !stack.isEmpty()) {
+        Iterator<Object> iterator = stack.peek();
+        if (iterator.hasNext()) {
+          Object slot = iterator.next();
+          if (slot instanceof Node) {
+            stack.push(ObjectUtils.notNull(Arrays.asList(((Node<K, V>) slot).slots()).iterator()));
+          } else {
+            next = (Map.Entry<K, V>) slot;
+          }
+        } else {
+          stack.pop();
+        }
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next != null;
+    }
+
+    @Override
+    public Map.Entry<K, V> next() {
+      Map.Entry<K, V> retval = next;
+      if (retval == null) {
+        throw new NoSuchElementException();
+      }
+      advance();
+      return retval;
+    }
+  }
+}
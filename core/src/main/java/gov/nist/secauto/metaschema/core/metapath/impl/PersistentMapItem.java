@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.impl;
+
+import gov.nist.secauto.metaschema.core.metapath.ICollectionValue;
+import gov.nist.secauto.metaschema.core.metapath.item.function.IMapItem;
+import gov.nist.secauto.metaschema.core.metapath.item.function.IMapKey;
+
+import java.util.Collection;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A map item backed by a {@link PersistentHashMap}.
+ * <p>
+ * Adding or removing entries creates a new map item that shares most of its
+ * structure with this map item, which avoids copying all entries when a map is
+ * built incrementally.
+ *
+ * @param <VALUE>
+ *          the Java type of the entry values
+ */
+public class PersistentMapItem<VALUE extends ICollectionValue>
+    extends AbstractMapItem<VALUE> {
+  @NonNull
+  private final PersistentHashMap<IMapKey, VALUE> entries;
+
+  /**
+   * Get a persistent map item containing the entries of the provided map.
+   * <p>
+   * If the provided map item is already persistent, it is returned as is.
+   *
+   * @param <V>
+   *          the Java type of the entry values
+   * @param map
+   *          the map containing the entries
+   * @return the persistent map item
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  public static <V extends ICollectionValue> PersistentMapItem<V> from(@NonNull Map<IMapKey, ? extends V> map) {
+    return map instanceof PersistentMapItem
+        ? (PersistentMapItem<V>) map
+        : new PersistentMapItem<>(PersistentHashMap.copyOf(map));
+  }
+
+  /**
+   * Construct a new map item using the entries from the provided map.
+   *
+   * @param entries
+   *          a map containing the entries to add to the map
+   */
+  public PersistentMapItem(@NonNull PersistentHashMap<IMapKey, VALUE> entries) {
+    this.entries = entries;
+  }
+
+  @Override
+  public Map<IMapKey, VALUE> getValue() {
+    return entries;
+  }
+
+  /**
+   * Get a map item containing the entries of this map item, with the provided
+   * key mapped to the provided value.
+   *
+   * @param key
+   *          the key to add or replace
+   * @param value
+   *          the value to map the key to
+   * @return the new map item
+   */
+  @NonNull
+  public IMapItem<VALUE> with(@NonNull IMapKey key, @NonNull VALUE value) {
+    PersistentHashMap<IMapKey, VALUE> result = entries.plus(key, value);
+    return result == entries ? this : new PersistentMapItem<>(result);
+  }
+
+  /**
+   * Get a map item containing the entries of this map item, without the
+   * provided keys.
+   *
+   * @param keys
+   *          the keys to remove
+   * @return the new map item
+   */
+  @NonNull
+  public IMapItem<VALUE> without(@NonNull Collection<? extends IMapKey> keys) {
+    PersistentHashMap<IMapKey, VALUE> result = entries;
+    for (IMapKey key : keys) {
+      result = result.minus(key);
+    }
+    return result == entries ? this : new PersistentMapItem<>(result);
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.impl;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * An immutable list implemented as a 32-way trie with a separate tail.
+ * <p>
+ * The {@link #plus(Object)} and {@link #with(int, Object)} methods return a
+ * new list that shares all unchanged trie nodes with this list. Appending only
+ * copies the tail, which holds up to the last 32 items, and replacing an item
+ * only copies the nodes on the path to that item. Both complete in effectively
+ * constant time without copying the whole list.
+ * <p>
+ * The mutating methods inherited from {@link AbstractList} are not supported.
+ *
+ * @param <T>
+ *          the Java type of the list items
+ */
+public final class PersistentVector<T>
+    extends AbstractList<T>
+    implements RandomAccess {
+  private static final int BITS = 5;
+  private static final int WIDTH = 1 << BITS;
+  private static final int MASK = WIDTH - 1;
+
+  @NonNull
+  private static final PersistentVector<?> EMPTY
+      = new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+  private final int size;
+  private final int shift;
+  @NonNull
+  private final Object[] root;
+  @NonNull
+  private final Object[] tail;
+
+  /**
+   * Get an empty list.
+   *
+   * @param <T>
+   *          the Java type of the list items
+   * @return the empty list
+   */
+  @SuppressWarnings("unchecked")
+  @NonNull
+  public static <T> PersistentVector<T> empty() {
+    return (PersistentVector<T>) EMPTY;
+  }
+
+  /**
+   * Get a list containing the items of the provided collection.
+   * <p>
+   * If the provided collection is already a persistent list, it is returned as
+   * is.
+   *
+   * @param <T>
+   *          the Java type of the list items
+   * @param items
+   *          the collection containing the items to copy
+   * @return the new list
+   */
+  @SuppressWarnings({ "unchecked", "PMD.OnlyOneReturn" })
+  @NonNull
+  public static <T> PersistentVector<T> copyOf(@NonNull Collection<? extends T> items) {
+    if (items instanceof PersistentVector) {
+      return (PersistentVector<T>) items;
+    }
+
+    PersistentVector<T> retval = empty();
+    for (T item : items) {
+      retval = retval.plus(item);
+    }
+    return retval;
+  }
+
+  private PersistentVector(int size, int shift, @NonNull Object[] root, @NonNull Object[] tail) {
+    this.size = size;
+    this.shift = shift;
+    this.root = root;
+    this.tail = tail;
+  }
+
+  /**
+   * Get the index of the first item in the tail.
+   *
+   * @return the index
+   */
+  private int tailOffset() {
+    return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public T get(int index) {
+    Objects.checkIndex(index, size);
+
+    Object[] node;
+    if (index >= tailOffset()) {
+      node = tail;
+    } else {
+      node = root;
+      for (int level = shift; level > 0; level -= BITS) {
+        node = (Object[]) node[(index >>> level) & MASK];
+      }
+    }
+    return (T) node[index & MASK];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Get a list containing the items of this list, followed by the provided
+   * item.
+   *
+   * @param item
+   *          the item to append
+   * @return the new list
+   */
+  @NonNull
+  public PersistentVector<T> plus(T item) {
+    PersistentVector<T> retval;
+    if (size - tailOffset() < WIDTH) {
+      // room in the tail
+      Object[] newTail = new Object[tail.length + 1];
+      System.arraycopy(tail, 0, newTail, 0, tail.length);
+      newTail[tail.length] = item;
+      retval = new PersistentVector<>(size + 1, shift, root, newTail);
+    } else {
+      // the tail is full, so push it into the trie
+      Object[] newRoot;
+      int newShift = shift;
+      if ((size >>> BITS) > (1 << shift)) {
+        // the trie is full, so add a level
+        newRoot = new Object[WIDTH];
+        newRoot[0] = root;
+        newRoot[1] = newPath(shift, tail);
+        newShift += BITS;
+      } else {
+        newRoot = pushTail(shift, root, tail);
+      }
+      retval = new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { item });
+    }
+    return retval;
+  }
+
+  @NonNull
+  private Object[] pushTail(int level, @NonNull Object[] parent, @NonNull Object[] tailNode) {
+    int index = ((size - 1) >>> level) & MASK;
+    Object[] retval = parent.clone();
+    if (level == BITS) {
+      retval[index] = tailNode;
+    } else {
+      Object[] child = (Object[]) parent[index];
+      retval[index] = child == null
+          ? newPath(level - BITS, tailNode)
+          : pushTail(level - BITS, child, tailNode);
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static Object[] newPath(int level, @NonNull Object[] node) {
+    Object[] retval = node;
+    for (int current = level; current > 0; current -= BITS) {
+      Object[] parent = new Object[WIDTH];
+      parent[0] = retval;
+      retval = parent;
+    }
+    return retval;
+  }
+
+  /**
+   * Get a list containing the items of this list, with the item at the provided
+   * index replaced by the provided item.
+   *
+   * @param index
+   *          the index of the item to replace
+   * @param item
+   *          the replacement item
+   * @return the new list
+   * @throws IndexOutOfBoundsException
+   *           if the index is not in the range of 0 to {@code size() - 1}
+   */
+  @NonNull
+  public PersistentVector<T> with(int index, T item) {
+    Objects.checkIndex(index, size);
+
+    PersistentVector<T> retval;
+    if (index >= tailOffset()) {
+      Object[] newTail = tail.clone();
+      newTail[index & MASK] = item;
+      retval = new PersistentVector<>(size, shift, root, newTail);
+    } else {
+      retval = new PersistentVector<>(size, shift, replace(shift, root, index, item), tail);
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static Object[] replace(int level, @NonNull Object[] node, int index, Object item) {
+    Object[] retval = node.clone();
+    if (level == 0) {
+      retval[index & MASK] = item;
+    } else {
+      int childIndex = (index >>> level) & MASK;
+      retval[childIndex] = replace(level - BITS, (Object[]) node[childIndex], index, item);
+    }
+    return retval;
+  }
+}
@@ -6,10 +6,13 @@
 package gov.nist.secauto.metaschema.core.metapath.impl;
 
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -21,6 +24,11 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 /**
  * A Metapath sequence supporting an unbounded number of items backed initially
  * by a stream.
+ * <p>
+ * Items are only read from the stream as they are needed. Checking if the
+ * sequence is empty, or getting an item by its position, reads only as many
+ * items as are needed to answer the request. This allows the remainder of a
+ * lazily evaluated stream to be skipped when only the first item is needed.
  *
  * @param <ITEM>
  *          the Java type of the items
@@ -29,6 +37,14 @@ public class StreamSequence<ITEM extends IItem>
     extends AbstractSequence<ITEM> {
 
   private Stream<ITEM> stream;
+  /**
+   * The items that have not yet been read, once reading has started.
+   */
+  private Spliterator<ITEM> remaining;
+  /**
+   * The items that have been read so far, once reading has started.
+   */
+  private List<ITEM> buffer;
   private List<ITEM> list;
   @NonNull
   private final Lock instanceLock = new ReentrantLock();
@@ -60,8 +76,15 @@ public class StreamSequence<ITEM extends IItem>
     instanceLock.lock();
     try {
       if (list == null) {
-        list = stream.collect(Collectors.toUnmodifiableList());
-        stream = null;
+        if (remaining == null) {
+          list = stream.collect(Collectors.toUnmodifiableList());
+          stream = null;
+        } else {
+          remaining.forEachRemaining(buffer::add);
+          list = CollectionUtil.unmodifiableList(buffer);
+          remaining = null;
+          buffer = null;
+        }
       }
       assert list != null;
       return list;
@@ -70,6 +93,59 @@ public class StreamSequence<ITEM extends IItem>
     }
   }
 
+  @Override
+  public boolean isEmpty() {
+    return !isAvailable(0);
+  }
+
+  @Override
+  public ITEM get(int index) {
+    ITEM retval;
+    instanceLock.lock();
+    try {
+      retval = list == null && isAvailable(index) ? buffer.get(index) : getValue().get(index);
+    } finally {
+      instanceLock.unlock();
+    }
+    return retval;
+  }
+
+  /**
+   * Determine if the sequence has an item at the provided position, reading
+   * items from the underlying stream only until that item is reached.
+   *
+   * @param index
+   *          the zero-based position of the item
+   * @return {@code true} if the item exists, or {@code false} otherwise
+   */
+  @SuppressWarnings("PMD.NullAssignment")
+  private boolean isAvailable(int index) {
+    boolean retval;
+    instanceLock.lock();
+    try {
+      if (list == null) {
+        if (remaining == null) {
+          if (stream == null) {
+            throw new IllegalStateException("stream is already consumed");
+          }
+          remaining = stream.spliterator();
+          buffer = new ArrayList<>();
+          stream = null;
+        }
+
+        while (buffer.size() <= index && remaining.tryAdvance(buffer::add)) {
+          // read items until the index is reached
+        }
+        retval = buffer.size() > index;
+      } else {
+        retval = list.size() > index;
+      }
+    } finally {
+      instanceLock.unlock();
+    }
+    return retval;
+  }
+
   @Override
   public Stream<ITEM> stream() {
     @NonNull
@@ -77,7 +153,7 @@ public class StreamSequence<ITEM extends IItem>
     // Ensure thread safety and prevent multiple consumptions of the stream
     instanceLock.lock();
     try {
-      if (list == null) {
+      if (list == null && remaining == null) {
         if (stream == null) {
           throw new IllegalStateException("stream is already consumed");
         }
@@ -85,7 +161,8 @@ public class StreamSequence<ITEM extends IItem>
         retval = stream;
         stream = null; // NOPMD - readability
       } else {
-        retval = ObjectUtils.notNull(list.stream());
+        // reading has started, so the items must be retained
+        retval = ObjectUtils.notNull(getValue().stream());
       }
     } finally {
       instanceLock.unlock();
@@ -54,10 +54,7 @@ public interface IIntegerItem extends IDecimalItem {
    */
   @NonNull
   static IIntegerItem valueOf(int value) {
-    @SuppressWarnings("null")
-    @NonNull
-    BigInteger bigInteger = BigInteger.valueOf(value);
-    return valueOf(bigInteger);
+    return valueOf((long) value);
   }
 
   /**
@@ -69,10 +66,14 @@ public interface IIntegerItem extends IDecimalItem {
    */
   @NonNull
   static IIntegerItem valueOf(long value) {
-    @SuppressWarnings("null")
-    @NonNull
-    BigInteger bigInteger = BigInteger.valueOf(value);
-    return valueOf(bigInteger);
+    IIntegerItem retval = IntegerItemCache.integer(value);
+    if (retval == null) {
+      @SuppressWarnings("null")
+      @NonNull
+      BigInteger bigInteger = BigInteger.valueOf(value);
+      retval = valueOf(bigInteger);
+    }
+    return retval;
   }
 
   /**
@@ -84,15 +85,17 @@ public interface IIntegerItem extends IDecimalItem {
    */
   @NonNull
   static IIntegerItem valueOf(@NonNull BigInteger value) {
-    int signum = value.signum();
-
-    IIntegerItem retval;
-    if (signum == -1) { // negative
-      retval = new IntegerItemImpl(value);
-    } else if (signum == 0) { // zero
-      retval = INonNegativeIntegerItem.valueOf(value);
-    } else { // positive
-      retval = IPositiveIntegerItem.valueOf(value);
+    // use the shared item for small values
+    IIntegerItem retval = IntegerItemCache.isSmall(value) ? IntegerItemCache.integer(value.intValue()) : null;
+    if (retval == null) {
+      int signum = value.signum();
+      if (signum == -1) { // negative
+        retval = new IntegerItemImpl(value);
+      } else if (signum == 0) { // zero
+        retval = INonNegativeIntegerItem.valueOf(value);
+      } else { // positive
+        retval = IPositiveIntegerItem.valueOf(value);
+      }
     }
     return retval;
   }
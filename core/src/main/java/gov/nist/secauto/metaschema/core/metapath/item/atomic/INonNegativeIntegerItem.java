@@ -67,7 +67,8 @@ public interface INonNegativeIntegerItem extends IIntegerItem {
   @SuppressWarnings("null")
   @NonNull
   static INonNegativeIntegerItem valueOf(long value) {
-    return valueOf(BigInteger.valueOf(value));
+    INonNegativeIntegerItem retval = IntegerItemCache.nonNegative(value);
+    return retval == null ? valueOf(BigInteger.valueOf(value)) : retval;
   }
 
   /**
@@ -86,7 +87,10 @@ public interface INonNegativeIntegerItem extends IIntegerItem {
           null,
           String.format("Integer value '%s' is negative.", value));
     }
-    return new NonNegativeIntegerItemImpl(value);
+    INonNegativeIntegerItem retval = IntegerItemCache.isSmall(value)
+        ? IntegerItemCache.nonNegative(value.intValue())
+        : null;
+    return retval == null ? new NonNegativeIntegerItemImpl(value) : retval;
   }
 
   /**
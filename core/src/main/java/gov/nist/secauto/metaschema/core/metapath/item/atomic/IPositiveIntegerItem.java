@@ -64,7 +64,8 @@ public interface IPositiveIntegerItem extends INonNegativeIntegerItem {
   @SuppressWarnings("null")
   @NonNull
   static IPositiveIntegerItem valueOf(long value) {
-    return valueOf(BigInteger.valueOf(value));
+    IPositiveIntegerItem retval = IntegerItemCache.positive(value);
+    return retval == null ? valueOf(BigInteger.valueOf(value)) : retval;
   }
 
   /**
@@ -83,7 +84,10 @@ public interface IPositiveIntegerItem extends INonNegativeIntegerItem {
           null,
           String.format("Integer value '%s' is negative or zero.", value));
     }
-    return new PositiveIntegerItemImpl(value);
+    IPositiveIntegerItem retval = IntegerItemCache.isSmall(value)
+        ? IntegerItemCache.positive(value.intValue())
+        : null;
+    return retval == null ? new PositiveIntegerItemImpl(value) : retval;
   }
 
   /**
@@ -0,0 +1,136 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.atomic;
+
+import java.math.BigInteger;
+import java.util.function.Function;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Provides shared instances of integer items for small values.
+ * <p>
+ * Counts, sizes, positions and the results of most integer arithmetic fall in
+ * this range, so sharing these items avoids allocating a new item and
+ * {@link BigInteger} for each result.
+ * <p>
+ * The instances are created on first use. Since the items are immutable, two
+ * threads racing to fill the same slot only results in an extra, equivalent
+ * instance.
+ */
+final class IntegerItemCache {
+  /**
+   * The lowest cached value.
+   */
+  static final int MIN_VALUE = -128;
+  /**
+   * The highest cached value.
+   */
+  static final int MAX_VALUE = 1024;
+
+  private static final IIntegerItem[] NEGATIVE = new IIntegerItem[-MIN_VALUE];
+  private static final INonNegativeIntegerItem[] NON_NEGATIVE = new INonNegativeIntegerItem[MAX_VALUE + 1];
+  private static final IPositiveIntegerItem[] POSITIVE = new IPositiveIntegerItem[MAX_VALUE];
+
+  private IntegerItemCache() {
+    // disable construction
+  }
+
+  /**
+   * Get the shared item for the provided value, matching the kind of item
+   * produced by {@link IIntegerItem#valueOf(BigInteger)}.
+   *
+   * @param value
+   *          the integer value
+   * @return the item, or {@code null} if the value is not cached
+   */
+  @Nullable
+  static IIntegerItem integer(long value) {
+    IIntegerItem retval;
+    if (value < 0) {
+      retval = negative(value);
+    } else if (value == 0) {
+      retval = nonNegative(value);
+    } else {
+      retval = positive(value);
+    }
+    return retval;
+  }
+
+  @Nullable
+  private static IIntegerItem negative(long value) {
+    IIntegerItem retval = null;
+    if (value >= MIN_VALUE) {
+      retval = getOrCreate(NEGATIVE, (int) -value - 1, value, IntegerItemImpl::new);
+    }
+    return retval;
+  }
+
+  /**
+   * Get the shared non-negative item for the provided value.
+   *
+   * @param value
+   *          the non-negative integer value
+   * @return the item, or {@code null} if the value is not cached
+   */
+  @Nullable
+  static INonNegativeIntegerItem nonNegative(long value) {
+    INonNegativeIntegerItem retval = null;
+    if (value >= 0 && value <= MAX_VALUE) {
+      retval = getOrCreate(NON_NEGATIVE, (int) value, value, NonNegativeIntegerItemImpl::new);
+    }
+    return retval;
+  }
+
+  /**
+   * Get the shared positive item for the provided value.
+   *
+   * @param value
+   *          the positive integer value
+   * @return the item, or {@code null} if the value is not cached
+   */
+  @Nullable
+  static IPositiveIntegerItem positive(long value) {
+    IPositiveIntegerItem retval = null;
+    if (value > 0 && value <= MAX_VALUE) {
+      retval = getOrCreate(POSITIVE, (int) value - 1, value, PositiveIntegerItemImpl::new);
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static <T> T getOrCreate(
+      @NonNull T[] cache,
+      int index,
+      long value,
+      @NonNull Function<BigInteger, T> factory) {
+    T retval = cache[index];
+    if (retval == null) {
+      T created = factory.apply(BigInteger.valueOf(value));
+      // creating the first item can initialize a constant that fills this slot
+      retval = cache[index];
+      if (retval == null) {
+        retval = created;
+        cache[index] = created;
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Determine if the provided value may be cached, without converting it.
+   *
+   * @param value
+   *          the integer value
+   * @return {@code true} if the value is small enough to be cached, or
+   *         {@code false} otherwise
+   */
+  static boolean isSmall(@NonNull BigInteger value) {
+    // the cached range is within the values having a bit length of 11 or less
+    return value.bitLength() <= 11;
+  }
+}
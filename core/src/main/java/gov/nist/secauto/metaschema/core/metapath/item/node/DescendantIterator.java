@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Iterates over the descendant model items of a node in a depth-first order.
+ * <p>
+ * An explicit stack of child iterators is used instead of recursion, so deeply
+ * nested content does not consume the call stack. Children are retrieved
+ * lazily as the iteration proceeds.
+ */
+class DescendantIterator implements Iterator<IModelNodeItem<?, ?>> {
+  @NonNull
+  private final Deque<Iterator<? extends IModelNodeItem<?, ?>>> stack = new ArrayDeque<>();
+
+  /**
+   * Construct a new iterator over the descendants of the provided node.
+   *
+   * @param item
+   *          the node to iterate over the descendants of
+   */
+  public DescendantIterator(@NonNull INodeItem item) {
+    pushChildren(item);
+  }
+
+  private void pushChildren(@NonNull INodeItem item) {
+    List<Iterator<? extends IModelNodeItem<?, ?>>> children = new ArrayList<>();
+    for (List<? extends IModelNodeItem<?, ?>> modelItems : item.getModelItems()) {
+      if (!modelItems.isEmpty()) {
+        children.add(modelItems.iterator());
+      }
+    }
+    // push in reverse, so the first child is on top of the stack
+    for (int i = children.size() - 1; i >= 0; i--) {
+      stack.push(children.get(i));
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!stack.isEmpty() && !stack.peek().hasNext()) {
+      stack.pop();
+    }
+    return !stack.isEmpty();
+  }
+
+  @Override
+  public IModelNodeItem<?, ?> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    IModelNodeItem<?, ?> retval = stack.peek().next();
+    pushChildren(retval);
+    return retval;
+  }
+}
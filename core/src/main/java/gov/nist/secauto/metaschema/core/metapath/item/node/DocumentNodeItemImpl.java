@@ -4,15 +4,30 @@ package gov.nist.secauto.metaschema.core.metapath.item.node;
 import gov.nist.secauto.metaschema.core.metapath.StaticContext;
 import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
 import gov.nist.secauto.metaschema.core.model.IResourceLocation;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import nl.talsmasoftware.lazy4j.Lazy;
 
 class DocumentNodeItemImpl
     implements IDocumentNodeItem, IFeatureModelContainerItem {
+  /**
+   * Used to number documents in the order they are created.
+   */
+  @NonNull
+  private static final AtomicLong DOCUMENT_SEQUENCE = new AtomicLong();
+
+  private final long sequence;
   @NonNull
   private final IRootAssemblyNodeItem root;
   @NonNull
@@ -21,6 +36,10 @@ class DocumentNodeItemImpl
   private final Lazy<ModelContainer> model;
   @NonNull
   private final StaticContext staticContext;
+  @NonNull
+  private final Lazy<Map<QName, List<IModelNodeItem<?, ?>>>> descendantsByName;
+  @NonNull
+  private final Lazy<DocumentOrderIndex> documentOrderIndex;
 
   public DocumentNodeItemImpl(
       @NonNull IAssemblyDefinition root,
@@ -41,6 +60,27 @@ class DocumentNodeItemImpl
     // ObjectUtils.notNull(binding.getUri())));
 
     this.staticContext = builder.build();
+    this.descendantsByName = ObjectUtils.notNull(Lazy.lazy(this::newDescendantsByName));
+    this.documentOrderIndex = ObjectUtils.notNull(Lazy.lazy(() -> new DocumentOrderIndex(this)));
+    this.sequence = DOCUMENT_SEQUENCE.getAndIncrement();
+  }
+
+  /**
+   * Get the number of this document in the order documents are created.
+   * <p>
+   * This is used to order nodes from different documents.
+   *
+   * @return the number, which is unique to this document
+   */
+  long getSequence() {
+    return sequence;
+  }
+
+  @NonNull
+  private Map<QName, List<IModelNodeItem<?, ?>>> newDescendantsByName() {
+    Map<QName, List<IModelNodeItem<?, ?>>> retval = new HashMap<>();
+    descendant().forEachOrdered(item -> retval.computeIfAbsent(item.getQName(), key -> new ArrayList<>()).add(item));
+    return retval;
   }
 
   @Override
@@ -71,6 +111,17 @@ class DocumentNodeItemImpl
     return getRootAssemblyNodeItem().getLocation();
   }
 
+  @Override
+  public List<? extends IModelNodeItem<?, ?>> getDescendantsByName(QName name) {
+    List<IModelNodeItem<?, ?>> retval = ObjectUtils.notNull(descendantsByName.get()).get(name);
+    return retval == null ? CollectionUtil.emptyList() : CollectionUtil.unmodifiableList(retval);
+  }
+
+  @Override
+  public DocumentOrderIndex getDocumentOrderIndex() {
+    return ObjectUtils.notNull(documentOrderIndex.get());
+  }
+
   @Override
   public StaticContext getStaticContext() {
     return staticContext;
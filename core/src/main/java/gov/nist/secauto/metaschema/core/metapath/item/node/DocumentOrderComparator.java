@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.node;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Orders node items in document order.
+ * <p>
+ * Two nodes in the same document are ordered using the document's
+ * {@link DocumentOrderIndex}. Other nodes are ordered by finding their closest
+ * common ancestor, and then comparing the position of the children of that
+ * ancestor that contain each node. A node's flags occur before its model items.
+ * An ancestor occurs before its descendants.
+ * <p>
+ * The position of each child is computed once per parent and is retained by
+ * the comparator, so a comparator instance should only be used for a single
+ * sort operation. Nodes from different documents are ordered by when the
+ * documents were created. Nodes whose root is not a document created by the
+ * node item factory are ordered before those documents, in the order their
+ * roots are first compared.
+ */
+final class DocumentOrderComparator
+    implements Comparator<INodeItem> {
+  @NonNull
+  private final Map<INodeItem, Map<INodeItem, Integer>> childPositions = new IdentityHashMap<>();
+  @NonNull
+  private final Map<IDocumentNodeItem, DocumentOrderIndex> indexes = new IdentityHashMap<>();
+  @NonNull
+  private final Map<INodeItem, Long> otherRoots = new IdentityHashMap<>();
+
+  @Override
+  public int compare(INodeItem first, INodeItem second) {
+    int retval;
+    if (first == second) {
+      retval = 0;
+    } else {
+      DocumentOrderIndex index = getIndex(ObjectUtils.notNull(first), ObjectUtils.notNull(second));
+      retval = index == null
+          ? compareByPath(ObjectUtils.notNull(first), ObjectUtils.notNull(second))
+          : index.compare(first, second);
+    }
+    return retval;
+  }
+
+  /**
+   * Get the index for the document containing both nodes.
+   *
+   * @param first
+   *          the first node
+   * @param second
+   *          the second node
+   * @return the index, or {@code null} if the nodes are not both in the same
+   *         indexed document
+   */
+  @Nullable
+  private DocumentOrderIndex getIndex(@NonNull INodeItem first, @NonNull INodeItem second) {
+    IDocumentNodeItem document = first.getDocumentNodeItem();
+    DocumentOrderIndex retval = null;
+    if (document != null && document == second.getDocumentNodeItem()) {
+      retval = indexes.computeIfAbsent(document, IDocumentNodeItem::getDocumentOrderIndex);
+      if (!retval.contains(first) || !retval.contains(second)) {
+        retval = null;
+      }
+    }
+    return retval;
+  }
+
+  private int compareByPath(@NonNull INodeItem first, @NonNull INodeItem second) {
+    List<INodeItem> firstPath = pathFromRoot(first);
+    List<INodeItem> secondPath = pathFromRoot(second);
+
+    // find the first position where the paths diverge
+    int size = Math.min(firstPath.size(), secondPath.size());
+    int index = 0;
+    while (index < size && firstPath.get(index) == secondPath.get(index)) {
+      index++;
+    }
+
+    int retval;
+    if (index == 0) {
+      // different documents
+      retval = Long.compare(
+          getRootOrder(ObjectUtils.notNull(firstPath.get(0))),
+          getRootOrder(ObjectUtils.notNull(secondPath.get(0))));
+    } else if (index == firstPath.size()) {
+      // the first node is an ancestor of the second
+      retval = -1;
+    } else if (index == secondPath.size()) {
+      // the second node is an ancestor of the first
+      retval = 1;
+    } else {
+      INodeItem parent = ObjectUtils.notNull(firstPath.get(index - 1));
+      retval = Integer.compare(
+          getChildPosition(parent, ObjectUtils.notNull(firstPath.get(index))),
+          getChildPosition(parent, ObjectUtils.notNull(secondPath.get(index))));
+    }
+    return retval;
+  }
+
+  /**
+   * Get a number that orders the provided root node relative to other roots.
+   *
+   * @param root
+   *          the root node
+   * @return the number, which is unique to the root
+   */
+  private long getRootOrder(@NonNull INodeItem root) {
+    long retval;
+    if (root instanceof DocumentNodeItemImpl) {
+      retval = ((DocumentNodeItemImpl) root).getSequence();
+    } else {
+      // document sequence numbers are not negative, so these come first
+      retval = otherRoots.computeIfAbsent(root, key -> Long.MIN_VALUE + otherRoots.size());
+    }
+    return retval;
+  }
+
+  @NonNull
+  private static List<INodeItem> pathFromRoot(@NonNull INodeItem item) {
+    List<INodeItem> retval = new ArrayList<>();
+    for (INodeItem current = item; current != null; current = current.getParentNodeItem()) {
+      retval.add(current);
+    }
+    Collections.reverse(retval);
+    return retval;
+  }
+
+  private int getChildPosition(@NonNull INodeItem parent, @NonNull INodeItem child) {
+    Map<INodeItem, Integer> positions = childPositions.computeIfAbsent(parent, key -> {
+      Map<INodeItem, Integer> map = new IdentityHashMap<>();
+      Stream.concat(key.flags(), key.modelItems())
+          .forEachOrdered(item -> map.put(item, map.size()));
+      return map;
+    });
+    Integer retval = positions.get(child);
+    return retval == null ? Integer.MAX_VALUE : retval;
+  }
+}
@@ -0,0 +1,305 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.node;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides the pre-order position and subtree interval for each node in a
+ * document.
+ * <p>
+ * The nodes are numbered in a single depth-first pass over the document. The
+ * pre-order number of a node is its position in document order. Each node also
+ * records the pre-order number of its last descendant, so the descendants of a
+ * node are the nodes numbered in the interval following the node. This allows
+ * ordering and ancestry tests to be answered in constant time.
+ * <p>
+ * A node's flags are numbered before its model items. The index reflects the
+ * nodes in the document at the time it was created.
+ */
+public final class DocumentOrderIndex {
+  @NonNull
+  private final List<INodeItem> nodes;
+  @NonNull
+  private final Map<INodeItem, Integer> positions;
+  @NonNull
+  private final int[] lastDescendants;
+
+  /**
+   * Construct a new index by numbering the nodes in the provided document.
+   *
+   * @param document
+   *          the document to number
+   */
+  public DocumentOrderIndex(@NonNull IDocumentNodeItem document) {
+    List<INodeItem> nodes = new ArrayList<>();
+    Map<INodeItem, Integer> positions = new IdentityHashMap<>();
+    int[] lastDescendants = new int[64]; // NOPMD - initial capacity
+
+    // use an explicit stack to avoid deep recursion on deeply nested content
+    Deque<Iterator<? extends INodeItem>> children = new ArrayDeque<>();
+    Deque<Integer> owners = new ArrayDeque<>();
+
+    INodeItem next = document;
+    while (next != null) {
+      int position = nodes.size();
+      nodes.add(next);
+      positions.put(next, position);
+      if (position == lastDescendants.length) {
+        lastDescendants = Arrays.copyOf(lastDescendants, position * 2);
+      }
+      lastDescendants[position] = position;
+
+      children.push(ObjectUtils.notNull(Stream.concat(next.flags(), next.modelItems()).iterator()));
+      owners.push(position);
+
+      next = null;
+      while (next == null && !children.isEmpty()) {
+        Iterator<? extends INodeItem> iterator = children.peek();
+        if (iterator.hasNext()) {
+          next = iterator.next();
+        } else {
+          // all descendants of the owner have been numbered
+          children.pop();
+          lastDescendants[owners.pop()] = nodes.size() - 1;
+        }
+      }
+    }
+
+    this.nodes = nodes;
+    this.positions = positions;
+    this.lastDescendants = lastDescendants;
+  }
+
+  /**
+   * Get the pre-order position of the provided node.
+   *
+   * @param item
+   *          the node to get the position for
+   * @return the position, or {@code -1} if the node is not in the index
+   */
+  public int getPosition(@NonNull INodeItem item) {
+    Integer retval = positions.get(item);
+    return retval == null ? -1 : retval;
+  }
+
+  /**
+   * Determine if the provided node is in the index.
+   *
+   * @param item
+   *          the node to check
+   * @return {@code true} if the node is in the index, or {@code false} otherwise
+   */
+  public boolean contains(@NonNull INodeItem item) {
+    return positions.containsKey(item);
+  }
+
+  /**
+   * Compare the provided nodes by their document order.
+   *
+   * @param first
+   *          the first node to compare
+   * @param second
+   *          the second node to compare
+   * @return a negative integer, zero, or a positive integer as the first node is
+   *         before, the same as, or after the second node
+   * @throws IllegalArgumentException
+   *           if either node is not in the index
+   */
+  public int compare(@NonNull INodeItem first, @NonNull INodeItem second) {
+    return Integer.compare(requirePosition(first), requirePosition(second));
+  }
+
+  /**
+   * Determine if a node is an ancestor of another node.
+   *
+   * @param ancestor
+   *          the potential ancestor
+   * @param descendant
+   *          the potential descendant
+   * @return {@code true} if the first node is an ancestor of the second node, or
+   *         {@code false} otherwise
+   * @throws IllegalArgumentException
+   *           if either node is not in the index
+   */
+  public boolean isAncestor(@NonNull INodeItem ancestor, @NonNull INodeItem descendant) {
+    int ancestorPosition = requirePosition(ancestor);
+    int descendantPosition = requirePosition(descendant);
+    return ancestorPosition < descendantPosition && descendantPosition <= lastDescendants[ancestorPosition];
+  }
+
+  /**
+   * Get the provided nodes that are descendants of the provided ancestor.
+   * <p>
+   * Since the descendants of a node are numbered in an interval following the
+   * node, the matching nodes are found using a binary search, without testing
+   * each node.
+   *
+   * @param <T>
+   *          the Java type of the nodes
+   * @param nodes
+   *          the nodes to filter, which must be in document order
+   * @param ancestor
+   *          the ancestor whose descendants are selected
+   * @return the matching nodes in document order
+   * @throws IllegalArgumentException
+   *           if the ancestor or a visited node is not in the index
+   */
+  @NonNull
+  public <T extends INodeItem> List<T> descendantsWithin(
+      @NonNull List<T> nodes,
+      @NonNull INodeItem ancestor) {
+    int ancestorPosition = requirePosition(ancestor);
+    int from = indexAfter(nodes, ancestorPosition);
+    int to = indexAfter(nodes, lastDescendants[ancestorPosition]);
+    return ObjectUtils.notNull(nodes.subList(from, to));
+  }
+
+  /**
+   * Find the index of the first node positioned after the provided position.
+   *
+   * @param nodes
+   *          the nodes to search, which must be in document order
+   * @param position
+   *          the position to search for
+   * @return the index, or the size of the list if no node is positioned after
+   *         the position
+   */
+  private int indexAfter(@NonNull List<? extends INodeItem> nodes, int position) {
+    int low = 0;
+    int high = nodes.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (requirePosition(ObjectUtils.notNull(nodes.get(middle))) <= position) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Get the model nodes that follow the provided node in document order,
+   * excluding its descendants.
+   *
+   * @param item
+   *          the node to get the following nodes for
+   * @return the following model nodes in document order
+   * @throws IllegalArgumentException
+   *           if the node is not in the index
+   */
+  @NonNull
+  public Stream<? extends IModelNodeItem<?, ?>> following(@NonNull INodeItem item) {
+    int position = requirePosition(item);
+    return modelNodes(lastDescendants[position] + 1, nodes.size());
+  }
+
+  /**
+   * Get the model nodes that precede the provided node in document order,
+   * excluding its ancestors.
+   *
+   * @param item
+   *          the node to get the preceding nodes for
+   * @return the preceding model nodes in document order
+   * @throws IllegalArgumentException
+   *           if the node is not in the index
+   */
+  @NonNull
+  public Stream<? extends IModelNodeItem<?, ?>> preceding(@NonNull INodeItem item) {
+    int position = requirePosition(item);
+    return modelNodes(IntStream.range(0, position)
+        // ancestors are the preceding nodes whose interval contains the node
+        .filter(index -> lastDescendants[index] < position));
+  }
+
+  /**
+   * Get the model nodes that follow the provided node in document order, within
+   * the subtree of its parent, excluding the node's descendants.
+   * <p>
+   * These are the following siblings and their descendants, which are numbered
+   * in the interval between the end of the node's subtree and the end of the
+   * parent's subtree.
+   *
+   * @param item
+   *          the node to get the following nodes for
+   * @param parent
+   *          the parent of the node
+   * @return the following model nodes in document order
+   * @throws IllegalArgumentException
+   *           if either node is not in the index
+   */
+  @NonNull
+  public Stream<? extends IModelNodeItem<?, ?>> followingWithin(
+      @NonNull INodeItem item,
+      @NonNull INodeItem parent) {
+    int position = requirePosition(item);
+    int parentPosition = requirePosition(parent);
+    return modelNodes(lastDescendants[position] + 1, lastDescendants[parentPosition] + 1);
+  }
+
+  /**
+   * Get the model nodes that precede the provided node in document order,
+   * within the subtree of its parent.
+   * <p>
+   * These are the parent's flags, which are not model nodes, and the preceding
+   * siblings and their descendants, which are numbered in the interval between
+   * the parent and the node.
+   *
+   * @param item
+   *          the node to get the preceding nodes for
+   * @param parent
+   *          the parent of the node
+   * @return the preceding model nodes in document order
+   * @throws IllegalArgumentException
+   *           if either node is not in the index
+   */
+  @NonNull
+  public Stream<? extends IModelNodeItem<?, ?>> precedingWithin(
+      @NonNull INodeItem item,
+      @NonNull INodeItem parent) {
+    int position = requirePosition(item);
+    int parentPosition = requirePosition(parent);
+    return modelNodes(parentPosition + 1, position);
+  }
+
+  @NonNull
+  private Stream<? extends IModelNodeItem<?, ?>> modelNodes(int fromPosition, int toPosition) {
+    return ObjectUtils.notNull(nodes.subList(fromPosition, toPosition).stream()
+        .filter(IModelNodeItem.class::isInstance)
+        .map(node -> (IModelNodeItem<?, ?>) node));
+  }
+
+  @NonNull
+  private Stream<? extends IModelNodeItem<?, ?>> modelNodes(@NonNull IntStream indexes) {
+    return ObjectUtils.notNull(indexes
+        .mapToObj(nodes::get)
+        .filter(IModelNodeItem.class::isInstance)
+        .map(node -> (IModelNodeItem<?, ?>) node));
+  }
+
+  private int requirePosition(@NonNull INodeItem item) {
+    Integer retval = positions.get(item);
+    if (retval == null) {
+      throw new IllegalArgumentException(
+          String.format("The node '%s' is not in the indexed document.", item.getMetapath()));
+    }
+    return retval;
+  }
+}
@@ -2,6 +2,12 @@
 package gov.nist.secauto.metaschema.core.metapath.item.node;
 
 import gov.nist.secauto.metaschema.core.metapath.format.IPathFormatter;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.namespace.QName;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -16,6 +22,26 @@ public interface IDocumentNodeItem extends IDocumentBasedNodeItem {
     return this;
   }
 
+  @Override
+  @NonNull
+  default IDocumentNodeItem getDocumentNodeItem() {
+    return this;
+  }
+
+  /**
+   * Get the index providing the document order position of each node in this
+   * document.
+   * <p>
+   * Implementations may retain the index, allowing it to be computed once on
+   * first use.
+   *
+   * @return the index
+   */
+  @NonNull
+  default DocumentOrderIndex getDocumentOrderIndex() {
+    return new DocumentOrderIndex(this);
+  }
+
   /**
    * Get the node item for the document root element.
    *
@@ -24,6 +50,23 @@ public interface IDocumentNodeItem extends IDocumentBasedNodeItem {
   @NonNull
   IRootAssemblyNodeItem getRootAssemblyNodeItem();
 
+  /**
+   * Get the model node items in this document that have the provided name.
+   * <p>
+   * Implementations may maintain an index of the nodes in the document by name,
+   * allowing the descendant axis to be evaluated without visiting each node.
+   *
+   * @param name
+   *          the name of the nodes to find
+   * @return the matching nodes in document order
+   */
+  @NonNull
+  default List<? extends IModelNodeItem<?, ?>> getDescendantsByName(@NonNull QName name) {
+    return ObjectUtils.notNull(descendant()
+        .filter(item -> name.equals(item.getQName()))
+        .collect(Collectors.toList()));
+  }
+
   @Override
   default String format(@NonNull IPathFormatter formatter) {
     return formatter.formatDocument(this);
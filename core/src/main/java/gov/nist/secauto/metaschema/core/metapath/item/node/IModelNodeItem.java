@@ -58,13 +58,37 @@ public interface IModelNodeItem<D extends IModelDefinition, I extends INamedMode
 
   @Override
   default Stream<? extends IModelNodeItem<?, ?>> following() {
-    return followingSibling()
-        .flatMap(IModelNodeItem::descendantOrSelf);
+    IModelNodeItem<?, ?> parent = getParentContentNodeItem();
+    IDocumentNodeItem document = getDocumentNodeItem();
+    DocumentOrderIndex index = document == null ? null : document.getDocumentOrderIndex();
+    Stream<? extends IModelNodeItem<?, ?>> retval;
+    if (parent == null || index == null || !index.contains(this) || !index.contains(parent)) {
+      // the node may have been created after the index
+      retval = followingSibling()
+          .flatMap(IModelNodeItem::descendantOrSelf);
+    } else {
+      // the following siblings and their descendants are the nodes after this node's
+      // subtree, up to the end of the parent's subtree
+      retval = index.followingWithin(this, parent);
+    }
+    return retval;
   }
 
   @Override
   default Stream<? extends IModelNodeItem<?, ?>> preceding() {
-    return precedingSibling()
-        .flatMap(IModelNodeItem::descendantOrSelf);
+    IModelNodeItem<?, ?> parent = getParentContentNodeItem();
+    IDocumentNodeItem document = getDocumentNodeItem();
+    DocumentOrderIndex index = document == null ? null : document.getDocumentOrderIndex();
+    Stream<? extends IModelNodeItem<?, ?>> retval;
+    if (parent == null || index == null || !index.contains(this) || !index.contains(parent)) {
+      // the node may have been created after the index
+      retval = precedingSibling()
+          .flatMap(IModelNodeItem::descendantOrSelf);
+    } else {
+      // the preceding siblings and their descendants are the nodes between the parent
+      // and this node
+      retval = index.precedingWithin(this, parent);
+    }
+    return retval;
   }
 }
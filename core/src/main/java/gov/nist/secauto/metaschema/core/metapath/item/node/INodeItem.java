@@ -11,8 +11,12 @@ import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.xml.namespace.QName;
 
@@ -130,6 +134,18 @@ public interface INodeItem extends IItem, IPathSegment, INodeItemVisitable {
         parent == null ? Stream.of(this) : Stream.concat(getParentNodeItem().getPathStream(), Stream.of(this)));
   }
 
+  /**
+   * Get the document node containing this node item.
+   *
+   * @return the document node, or {@code null} if this node is not part of a
+   *         document
+   */
+  @Nullable
+  default IDocumentNodeItem getDocumentNodeItem() {
+    INodeItem parent = getParentNodeItem();
+    return parent == null ? null : parent.getDocumentNodeItem();
+  }
+
   /**
    * Get a stream of all ancestors of this node item. The stream is ordered from
    * closest to farthest ancestor.
@@ -167,6 +183,21 @@ public interface INodeItem extends IItem, IPathSegment, INodeItemVisitable {
     return ObjectUtils.notNull(parent == null ? Stream.empty() : Stream.concat(Stream.of(parent), ancestorsOf(parent)));
   }
 
+  /**
+   * Get a comparator that orders node items in document order.
+   * <p>
+   * Nodes in the same document are compared using the document's
+   * {@link IDocumentNodeItem#getDocumentOrderIndex()}. The returned comparator
+   * retains information about the nodes it has compared, so a new comparator
+   * should be used for each sort operation.
+   *
+   * @return the comparator
+   */
+  @NonNull
+  static Comparator<INodeItem> documentOrder() {
+    return new DocumentOrderComparator();
+  }
+
   /**
    * Get a stream of all descendant model items of this node item. The stream is
    * ordered from closest to farthest descendants in a depth-first order.
@@ -190,12 +221,12 @@ public interface INodeItem extends IItem, IPathSegment, INodeItemVisitable {
    */
   @NonNull
   static Stream<? extends IModelNodeItem<?, ?>> decendantsOf(@NonNull INodeItem item) {
-    Stream<? extends IModelNodeItem<?, ?>> children = item.modelItems();
-
-    return ObjectUtils.notNull(children.flatMap(child -> {
-      assert child != null;
-      return Stream.concat(Stream.of(child), decendantsOf(child));
-    }));
+    // use an explicit stack to avoid deep recursion on deeply nested content
+    return ObjectUtils.notNull(StreamSupport.stream(
+        Spliterators.spliteratorUnknownSize(
+            new DescendantIterator(item),
+            Spliterator.ORDERED | Spliterator.NONNULL),
+        false));
   }
 
   /**
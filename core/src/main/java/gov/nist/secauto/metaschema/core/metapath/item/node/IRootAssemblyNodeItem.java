@@ -30,6 +30,7 @@ public interface IRootAssemblyNodeItem extends IAssemblyNodeItem, IFeatureChildN
    *
    * @return the parent document item
    */
+  @Override
   @NonNull
   IDocumentNodeItem getDocumentNodeItem();
 
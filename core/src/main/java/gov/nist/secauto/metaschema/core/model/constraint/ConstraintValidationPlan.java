@@ -0,0 +1,255 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.constraint;
+
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.core.metapath.StaticContext;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * The constraints and let statements of a single definition, prepared once for
+ * evaluation against every node item based on that definition.
+ * <p>
+ * Preparing a plan allows the following work to be avoided for each node:
+ * <ul>
+ * <li>Constraints targeting the context item ({@code .}) use the node directly,
+ * instead of evaluating the target Metapath.</li>
+ * <li>Let statements whose value is independent of the focus are evaluated
+ * once, instead of once per node.</li>
+ * <li>The test Metapath of each expect constraint is compiled once.</li>
+ * </ul>
+ * <p>
+ * A plan is safe to use from multiple threads.
+ */
+final class ConstraintValidationPlan {
+  @NonNull
+  private final List<? extends IExpectConstraint> expectConstraints;
+  @NonNull
+  private final List<? extends IAllowedValuesConstraint> allowedValuesConstraints;
+  @NonNull
+  private final List<? extends IIndexHasKeyConstraint> indexHasKeyConstraints;
+  @NonNull
+  private final List<? extends IMatchesConstraint> matchesConstraints;
+  @NonNull
+  private final List<? extends ICardinalityConstraint> hasCardinalityConstraints;
+  @NonNull
+  private final List<? extends IIndexConstraint> indexConstraints;
+  @NonNull
+  private final List<? extends IUniqueConstraint> uniqueConstraints;
+  @NonNull
+  private final Set<IConstraint> contextItemTargeted;
+  @NonNull
+  private final List<ILet> lets;
+  @NonNull
+  private final Set<ILet> invariantLets;
+  @NonNull
+  private final Map<IExpectConstraint, Pair<StaticContext, MetapathExpression>> expectTests
+      = new ConcurrentHashMap<>();
+  @NonNull
+  private final Map<QName, ISequence<?>> invariantLetValues = new ConcurrentHashMap<>();
+
+  /**
+   * Construct a new plan for the provided definition.
+   *
+   * @param definition
+   *          the definition providing the constraints and let statements
+   */
+  ConstraintValidationPlan(@NonNull IValueConstrained definition) {
+    this.expectConstraints = definition.getExpectConstraints();
+    this.allowedValuesConstraints = definition.getAllowedValuesConstraints();
+    this.indexHasKeyConstraints = definition.getIndexHasKeyConstraints();
+    this.matchesConstraints = definition.getMatchesConstraints();
+    if (definition instanceof IModelConstrained) {
+      IModelConstrained modelConstrained = (IModelConstrained) definition;
+      this.hasCardinalityConstraints = modelConstrained.getHasCardinalityConstraints();
+      this.indexConstraints = modelConstrained.getIndexConstraints();
+      this.uniqueConstraints = modelConstrained.getUniqueConstraints();
+    } else {
+      this.hasCardinalityConstraints = CollectionUtil.emptyList();
+      this.indexConstraints = CollectionUtil.emptyList();
+      this.uniqueConstraints = CollectionUtil.emptyList();
+    }
+
+    Set<IConstraint> contextItemTargeted = Collections.newSetFromMap(new IdentityHashMap<>());
+    Stream.of(
+        expectConstraints,
+        allowedValuesConstraints,
+        indexHasKeyConstraints,
+        matchesConstraints,
+        hasCardinalityConstraints,
+        indexConstraints,
+        uniqueConstraints)
+        .flatMap(List::stream)
+        .filter(constraint -> IConstraint.DEFAULT_TARGET_METAPATH.equals(constraint.getTarget()))
+        .forEachOrdered(contextItemTargeted::add);
+    this.contextItemTargeted = contextItemTargeted;
+
+    // a let is invariant if it only depends on earlier invariant lets
+    List<ILet> lets = new ArrayList<>(definition.getLetExpressions().values());
+    Set<ILet> invariantLets = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<QName> invariantNames = new HashSet<>();
+    for (ILet let : lets) {
+      if (let.getValueExpression().isFocusIndependent(invariantNames)) {
+        invariantLets.add(let);
+        invariantNames.add(let.getName());
+      }
+    }
+    this.lets = CollectionUtil.unmodifiableList(lets);
+    this.invariantLets = invariantLets;
+  }
+
+  @NonNull
+  public List<? extends IExpectConstraint> getExpectConstraints() {
+    return expectConstraints;
+  }
+
+  @NonNull
+  public List<? extends IAllowedValuesConstraint> getAllowedValuesConstraints() {
+    return allowedValuesConstraints;
+  }
+
+  @NonNull
+  public List<? extends IIndexHasKeyConstraint> getIndexHasKeyConstraints() {
+    return indexHasKeyConstraints;
+  }
+
+  @NonNull
+  public List<? extends IMatchesConstraint> getMatchesConstraints() {
+    return matchesConstraints;
+  }
+
+  @NonNull
+  public List<? extends ICardinalityConstraint> getHasCardinalityConstraints() {
+    return hasCardinalityConstraints;
+  }
+
+  @NonNull
+  public List<? extends IIndexConstraint> getIndexConstraints() {
+    return indexConstraints;
+  }
+
+  @NonNull
+  public List<? extends IUniqueConstraint> getUniqueConstraints() {
+    return uniqueConstraints;
+  }
+
+  /**
+   * Get the targets of the provided constraint relative to the provided item.
+   * <p>
+   * Constraints targeting the context item avoid evaluating the target Metapath.
+   *
+   * @param constraint
+   *          the constraint, which must be part of this plan
+   * @param item
+   *          the focus of Metapath evaluation
+   * @param dynamicContext
+   *          the Metapath dynamic execution context to use for Metapath
+   *          evaluation
+   * @return the matching targets
+   */
+  @NonNull
+  public ISequence<? extends IDefinitionNodeItem<?, ?>> matchTargets(
+      @NonNull IConstraint constraint,
+      @NonNull IDefinitionNodeItem<?, ?> item,
+      @NonNull DynamicContext dynamicContext) {
+    ISequence<? extends IDefinitionNodeItem<?, ?>> retval;
+    if (contextItemTargeted.contains(constraint)) {
+      retval = item.hasValue() ? ISequence.of(item) : ISequence.empty();
+    } else {
+      retval = constraint.matchTargets(item, dynamicContext);
+    }
+    return retval;
+  }
+
+  /**
+   * Get the compiled test Metapath for the provided expect constraint.
+   * <p>
+   * The compiled expression is cached for reuse with the same static context.
+   *
+   * @param constraint
+   *          the constraint, which must be part of this plan
+   * @param dynamicContext
+   *          the dynamic context whose static context is used for compilation
+   * @return the compiled Metapath
+   */
+  @NonNull
+  public MetapathExpression getExpectTest(
+      @NonNull IExpectConstraint constraint,
+      @NonNull DynamicContext dynamicContext) {
+    StaticContext staticContext = dynamicContext.getStaticContext();
+    Pair<StaticContext, MetapathExpression> compiled = expectTests.get(constraint);
+    if (compiled == null || compiled.getLeft() != staticContext) {
+      compiled = Pair.of(staticContext, MetapathExpression.compile(constraint.getTest(), staticContext));
+      expectTests.put(constraint, compiled);
+    }
+    return compiled.getRight();
+  }
+
+  /**
+   * Bind the values of the let statements, evaluated relative to the provided
+   * focus.
+   * <p>
+   * The statements are bound in their declared order. The values of focus
+   * independent statements are reused from the first evaluation.
+   *
+   * @param focus
+   *          the focus of Metapath evaluation
+   * @param dynamicContext
+   *          the Metapath dynamic execution context to use for Metapath
+   *          evaluation
+   * @return the provided dynamic context if there are no let statements, or a
+   *         sub-context with the let values bound otherwise
+   */
+  @NonNull
+  public DynamicContext bindLetStatements(
+      @NonNull INodeItem focus,
+      @NonNull DynamicContext dynamicContext) {
+    DynamicContext retval;
+    if (lets.isEmpty()) {
+      retval = dynamicContext;
+    } else {
+      retval = dynamicContext.subContext();
+
+      for (ILet let : lets) {
+        QName name = let.getName();
+        ISequence<?> result = invariantLetValues.get(name);
+        if (result == null) {
+          result = let.getValueExpression().evaluate(focus, retval);
+
+          // ensure the sequence is list backed
+          result.getValue();
+
+          if (invariantLets.contains(let)) {
+            // concurrent evaluation produces an equivalent value, so the race is benign
+            invariantLetValues.put(name, result);
+          }
+        }
+        retval.bindVariableValue(name, result);
+      }
+    }
+    return retval;
+  }
+}
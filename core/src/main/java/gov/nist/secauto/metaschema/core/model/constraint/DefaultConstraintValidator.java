@@ -20,11 +20,10 @@ import gov.nist.secauto.metaschema.core.metapath.item.node.IAssemblyNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IFieldNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IFlagNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IModelNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IModuleNodeItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
-import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
-import gov.nist.secauto.metaschema.core.model.IFieldDefinition;
-import gov.nist.secauto.metaschema.core.model.IFlagDefinition;
+import gov.nist.secauto.metaschema.core.model.IDefinition;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
@@ -33,22 +32,32 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
-import javax.xml.namespace.QName;
-
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Used to perform constraint validation over one or more node items.
  * <p>
+ * If {@link ValidationFeature#VALIDATE_THREAD_COUNT} is greater than {@code 1},
+ * assembly subtrees are evaluated concurrently. Any handler callbacks and
+ * changes to the shared index, key reference, and allowed value state are
+ * recorded during evaluation and then replayed in document order. This ensures
+ * that findings are reported in the same order as a single threaded validation.
+ * Unless the common pool has the requested parallelism, the threads are
+ * provided by a pool owned by the validator, which is shut down by
+ * {@link #finalizeValidation(DynamicContext)}.
+ * <p>
  * This class is not thread safe.
  */
 @SuppressWarnings({
@@ -69,6 +78,14 @@ public class DefaultConstraintValidator
   private final IConstraintValidationHandler handler;
   @NonNull
   private final IMutableConfiguration<ValidationFeature<?>> configuration;
+  @NonNull
+  private final Map<IDefinition, ConstraintValidationPlan> plans;
+  /**
+   * The pool used for parallel validation, which is created on first use and
+   * shut down by {@link #finalizeValidation(DynamicContext)}.
+   */
+  @Nullable
+  private ForkJoinPool pool;
 
   /**
    * Construct a new constraint validator instance.
@@ -78,8 +95,16 @@ public class DefaultConstraintValidator
    */
   public DefaultConstraintValidator(
       @NonNull IConstraintValidationHandler handler) {
+    this(handler, new DefaultConfiguration<>(), new ConcurrentHashMap<>());
+  }
+
+  private DefaultConstraintValidator(
+      @NonNull IConstraintValidationHandler handler,
+      @NonNull IMutableConfiguration<ValidationFeature<?>> configuration,
+      @NonNull Map<IDefinition, ConstraintValidationPlan> plans) {
     this.handler = handler;
-    this.configuration = new DefaultConfiguration<>();
+    this.configuration = configuration;
+    this.plans = plans;
   }
 
   /**
@@ -139,7 +164,80 @@ public class DefaultConstraintValidator
   public void validate(
       @NonNull INodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    item.accept(new Visitor(), dynamicContext);
+    int threadCount = getConfiguration().<Integer>get(ValidationFeature.VALIDATE_THREAD_COUNT);
+    if (threadCount > 1) {
+      SubtreeValidator validator = new SubtreeValidator(this);
+      getPool(threadCount).invoke(new SubtreeTask(validator, item, dynamicContext));
+      validator.replay();
+    } else {
+      item.accept(new Visitor(), dynamicContext);
+    }
+  }
+
+  /**
+   * Get the pool to use for validating with the provided number of threads.
+   * <p>
+   * The common pool is used if it has the requested parallelism. Otherwise a
+   * pool owned by this validator is used, which is reused by later calls to
+   * {@link #validate(INodeItem, DynamicContext)} until it is shut down by
+   * {@link #finalizeValidation(DynamicContext)}.
+   *
+   * @param threadCount
+   *          the number of threads to use
+   * @return the pool
+   */
+  @NonNull
+  private ForkJoinPool getPool(int threadCount) {
+    ForkJoinPool retval;
+    if (threadCount == ForkJoinPool.getCommonPoolParallelism()) {
+      retval = ForkJoinPool.commonPool();
+    } else {
+      retval = pool;
+      if (retval == null || retval.getParallelism() != threadCount) {
+        shutdownPool();
+        retval = new ForkJoinPool(threadCount);
+        pool = retval;
+      }
+    }
+    return ObjectUtils.notNull(retval);
+  }
+
+  /**
+   * Shut down the pool owned by this validator, if one was created.
+   */
+  private void shutdownPool() {
+    ForkJoinPool current = pool;
+    if (current != null) {
+      current.shutdown();
+      pool = null;
+    }
+  }
+
+  /**
+   * Get the validation plan for the provided definition, creating it on first
+   * use.
+   *
+   * @param definition
+   *          the definition to get the plan for
+   * @return the plan
+   */
+  @NonNull
+  private ConstraintValidationPlan getPlan(@NonNull IDefinition definition) {
+    return ObjectUtils.notNull(plans.computeIfAbsent(definition, ConstraintValidationPlan::new));
+  }
+
+  /**
+   * Apply a change to the shared validation state, which consists of the tracked
+   * indexes, key references, and allowed values.
+   * <p>
+   * The change is applied immediately. A validator evaluating a subtree on a
+   * worker thread defers the change, so it can be applied in document order.
+   *
+   * @param update
+   *          the change to apply to this validator's state
+   */
+  void updateState(@NonNull Consumer<DefaultConstraintValidator> update) {
+    update.accept(this);
   }
 
   /**
@@ -157,12 +255,12 @@ public class DefaultConstraintValidator
   protected void validateFlag(
       @NonNull IFlagNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    IFlagDefinition definition = item.getDefinition();
+    ConstraintValidationPlan plan = getPlan(item.getDefinition());
 
-    validateExpect(definition.getExpectConstraints(), item, dynamicContext);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item, dynamicContext);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, dynamicContext);
-    validateMatches(definition.getMatchesConstraints(), item, dynamicContext);
+    validateExpect(plan, item, dynamicContext);
+    validateAllowedValues(plan, item, dynamicContext);
+    validateIndexHasKey(plan, item, dynamicContext);
+    validateMatches(plan, item, dynamicContext);
   }
 
   /**
@@ -180,12 +278,12 @@ public class DefaultConstraintValidator
   protected void validateField(
       @NonNull IFieldNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    IFieldDefinition definition = item.getDefinition();
+    ConstraintValidationPlan plan = getPlan(item.getDefinition());
 
-    validateExpect(definition.getExpectConstraints(), item, dynamicContext);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item, dynamicContext);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, dynamicContext);
-    validateMatches(definition.getMatchesConstraints(), item, dynamicContext);
+    validateExpect(plan, item, dynamicContext);
+    validateAllowedValues(plan, item, dynamicContext);
+    validateIndexHasKey(plan, item, dynamicContext);
+    validateMatches(plan, item, dynamicContext);
   }
 
   /**
@@ -203,23 +301,23 @@ public class DefaultConstraintValidator
   protected void validateAssembly(
       @NonNull IAssemblyNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    IAssemblyDefinition definition = item.getDefinition();
-
-    validateExpect(definition.getExpectConstraints(), item, dynamicContext);
-    validateAllowedValues(definition.getAllowedValuesConstraints(), item, dynamicContext);
-    validateIndexHasKey(definition.getIndexHasKeyConstraints(), item, dynamicContext);
-    validateMatches(definition.getMatchesConstraints(), item, dynamicContext);
-    validateHasCardinality(definition.getHasCardinalityConstraints(), item, dynamicContext);
-    validateIndex(definition.getIndexConstraints(), item, dynamicContext);
-    validateUnique(definition.getUniqueConstraints(), item, dynamicContext);
+    ConstraintValidationPlan plan = getPlan(item.getDefinition());
+
+    validateExpect(plan, item, dynamicContext);
+    validateAllowedValues(plan, item, dynamicContext);
+    validateIndexHasKey(plan, item, dynamicContext);
+    validateMatches(plan, item, dynamicContext);
+    validateHasCardinality(plan, item, dynamicContext);
+    validateIndex(plan, item, dynamicContext);
+    validateUnique(plan, item, dynamicContext);
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -228,14 +326,14 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateHasCardinality( // NOPMD false positive
-      @NonNull List<? extends ICardinalityConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IAssemblyNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    for (ICardinalityConstraint constraint : constraints) {
+    for (ICardinalityConstraint constraint : plan.getHasCardinalityConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateHasCardinality(constraint, item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -284,11 +382,11 @@ public class DefaultConstraintValidator
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -297,14 +395,14 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateIndex(
-      @NonNull List<? extends IIndexConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IAssemblyNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    for (IIndexConstraint constraint : constraints) {
+    for (IIndexConstraint constraint : plan.getIndexConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateIndex(constraint, item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -333,29 +431,51 @@ public class DefaultConstraintValidator
       @NonNull IAssemblyNodeItem node,
       @NonNull ISequence<? extends INodeItem> targets,
       @NonNull DynamicContext dynamicContext) {
+    boolean generatePassFindings = isFeatureEnabled(ValidationFeature.VALIDATE_GENERATE_PASS_FINDINGS);
+
+    // build the index, keeping the outcome for each item until the index is
+    // registered
+    IIndex index = IIndex.newInstance(constraint.getKeyFields());
+    List<Consumer<IConstraintValidationHandler>> outcomes = new LinkedList<>();
+    targets.stream()
+        .forEachOrdered(item -> {
+          assert item != null;
+          if (item.hasValue()) {
+            try {
+              INodeItem oldItem = index.put(item, dynamicContext);
+              if (oldItem == null) {
+                if (generatePassFindings) {
+                  outcomes.add(handler -> handler.handlePass(constraint, node, item, dynamicContext));
+                }
+              } else {
+                outcomes.add(handler -> handler.handleIndexDuplicateKeyViolation(
+                    constraint,
+                    node,
+                    oldItem,
+                    item,
+                    dynamicContext));
+              }
+            } catch (MetapathException ex) {
+              outcomes.add(handler -> handler.handleKeyMatchError(constraint, node, item, ex, dynamicContext));
+            }
+          }
+        });
+    updateState(validator -> validator.registerIndex(constraint, node, index, outcomes, dynamicContext));
+  }
+
+  private void registerIndex(
+      @NonNull IIndexConstraint constraint,
+      @NonNull IAssemblyNodeItem node,
+      @NonNull IIndex index,
+      @NonNull List<Consumer<IConstraintValidationHandler>> outcomes,
+      @NonNull DynamicContext dynamicContext) {
     String indexName = constraint.getName();
 
     IConstraintValidationHandler handler = getConstraintValidationHandler();
     if (indexNameToIndexMap.containsKey(indexName)) {
       handler.handleIndexDuplicateViolation(constraint, node, dynamicContext);
     } else {
-      IIndex index = IIndex.newInstance(constraint.getKeyFields());
-      targets.stream()
-          .forEachOrdered(item -> {
-            assert item != null;
-            if (item.hasValue()) {
-              try {
-                INodeItem oldItem = index.put(item, dynamicContext);
-                if (oldItem == null) {
-                  handlePass(constraint, node, item, dynamicContext);
-                } else {
-                  handler.handleIndexDuplicateKeyViolation(constraint, node, oldItem, item, dynamicContext);
-                }
-              } catch (MetapathException ex) {
-                handler.handleKeyMatchError(constraint, node, item, ex, dynamicContext);
-              }
-            }
-          });
+      outcomes.forEach(outcome -> outcome.accept(handler));
       indexNameToIndexMap.put(indexName, index);
     }
   }
@@ -408,11 +528,11 @@ public class DefaultConstraintValidator
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -421,14 +541,14 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateUnique(
-      @NonNull List<? extends IUniqueConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IAssemblyNodeItem item,
       @NonNull DynamicContext dynamicContext) {
-    for (IUniqueConstraint constraint : constraints) {
+    for (IUniqueConstraint constraint : plan.getUniqueConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateUnique(constraint, item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -480,11 +600,11 @@ public class DefaultConstraintValidator
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -493,15 +613,15 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateMatches( // NOPMD false positive
-      @NonNull List<? extends IMatchesConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IDefinitionNodeItem<?, ?> item,
       @NonNull DynamicContext dynamicContext) {
 
-    for (IMatchesConstraint constraint : constraints) {
+    for (IMatchesConstraint constraint : plan.getMatchesConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateMatches(constraint, item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -568,11 +688,11 @@ public class DefaultConstraintValidator
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -581,15 +701,15 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateIndexHasKey( // NOPMD false positive
-      @NonNull List<? extends IIndexHasKeyConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IDefinitionNodeItem<?, ?> item,
       @NonNull DynamicContext dynamicContext) {
 
-    for (IIndexHasKeyConstraint constraint : constraints) {
+    for (IIndexHasKeyConstraint constraint : plan.getIndexHasKeyConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateIndexHasKey(constraint, item, targets);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -616,22 +736,25 @@ public class DefaultConstraintValidator
       @NonNull ISequence<? extends INodeItem> targets) {
     String indexName = constraint.getIndexName();
 
+    KeyRef keyRef = new KeyRef(constraint, node, new ArrayList<>(targets.getValue()));
+    updateState(validator -> validator.registerKeyRef(indexName, keyRef));
+  }
+
+  private void registerKeyRef(@NonNull String indexName, @NonNull KeyRef keyRef) {
     List<KeyRef> keyRefItems = indexNameToKeyRefMap.get(indexName);
     if (keyRefItems == null) {
-      keyRefItems = new LinkedList<>();
+      keyRefItems = new ArrayList<>();
       indexNameToKeyRefMap.put(indexName, keyRefItems);
     }
-
-    KeyRef keyRef = new KeyRef(constraint, node, new ArrayList<>(targets.getValue()));
     keyRefItems.add(keyRef);
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -640,15 +763,15 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateExpect(
-      @NonNull List<? extends IExpectConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IDefinitionNodeItem<?, ?> item,
       @NonNull DynamicContext dynamicContext) {
-    for (IExpectConstraint constraint : constraints) {
+    for (IExpectConstraint constraint : plan.getExpectConstraints()) {
       assert constraint != null;
 
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
-        validateExpect(constraint, item, targets, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
+        validateExpect(constraint, plan.getExpectTest(constraint, dynamicContext), item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
       }
@@ -661,6 +784,8 @@ public class DefaultConstraintValidator
    *
    * @param constraint
    *          the constraint to execute
+   * @param metapath
+   *          the compiled test Metapath of the constraint
    * @param node
    *          the original focus of Metapath evaluation for identifying the
    *          targets
@@ -673,12 +798,10 @@ public class DefaultConstraintValidator
    */
   private void validateExpect(
       @NonNull IExpectConstraint constraint,
+      @NonNull MetapathExpression metapath,
       @NonNull INodeItem node,
       @NonNull ISequence<? extends INodeItem> targets,
       @NonNull DynamicContext dynamicContext) {
-    MetapathExpression metapath = MetapathExpression.compile(
-        constraint.getTest(),
-        dynamicContext.getStaticContext());
 
     IConstraintValidationHandler handler = getConstraintValidationHandler();
     targets.stream()
@@ -701,11 +824,11 @@ public class DefaultConstraintValidator
   }
 
   /**
-   * Evaluates the provided collection of {@code constraints} in the context of
-   * the {@code item}.
+   * Evaluates the applicable constraints from the provided {@code plan} in the
+   * context of the {@code item}.
    *
-   * @param constraints
-   *          the constraints to execute
+   * @param plan
+   *          the validation plan providing the constraints to execute
    * @param item
    *          the focus of Metapath evaluation
    * @param dynamicContext
@@ -714,13 +837,13 @@ public class DefaultConstraintValidator
    */
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   private void validateAllowedValues(
-      @NonNull List<? extends IAllowedValuesConstraint> constraints,
+      @NonNull ConstraintValidationPlan plan,
       @NonNull IDefinitionNodeItem<?, ?> item,
       @NonNull DynamicContext dynamicContext) {
-    for (IAllowedValuesConstraint constraint : constraints) {
+    for (IAllowedValuesConstraint constraint : plan.getAllowedValuesConstraints()) {
       assert constraint != null;
       try {
-        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = constraint.matchTargets(item, dynamicContext);
+        ISequence<? extends IDefinitionNodeItem<?, ?>> targets = plan.matchTargets(constraint, item, dynamicContext);
         validateAllowedValues(constraint, item, targets, dynamicContext);
       } catch (RuntimeException ex) {
         handleError(constraint, item, ex, dynamicContext);
@@ -753,11 +876,13 @@ public class DefaultConstraintValidator
     targets.stream().forEachOrdered(item -> {
       assert item != null;
       if (item.hasValue()) {
-        try {
-          updateValueStatus(item, constraint, node);
-        } catch (RuntimeException ex) {
-          handleError(constraint, item, ex, dynamicContext);
-        }
+        updateState(validator -> {
+          try {
+            validator.updateValueStatus(item, constraint, node);
+          } catch (RuntimeException ex) {
+            validator.handleError(constraint, item, ex, dynamicContext);
+          }
+        });
       }
     });
   }
@@ -811,6 +936,10 @@ public class DefaultConstraintValidator
   @SuppressWarnings("PMD.AvoidCatchingGenericException")
   @Override
   public void finalizeValidation(DynamicContext dynamicContext) {
+    // validation is complete, so the threads used for parallel validation are
+    // no longer needed
+    shutdownPool();
+
     // key references
     for (Map.Entry<String, List<KeyRef>> entry : indexNameToKeyRefMap.entrySet()) {
       String indexName = ObjectUtils.notNull(entry.getKey());
@@ -818,6 +947,8 @@ public class DefaultConstraintValidator
 
       List<KeyRef> keyRefs = entry.getValue();
 
+      // join the references against the index, looking up each distinct key once
+      Map<List<String>, Boolean> resolvedKeys = new HashMap<>();
       for (KeyRef keyRef : keyRefs) {
         IIndexHasKeyConstraint constraint = keyRef.getConstraint();
 
@@ -826,7 +957,7 @@ public class DefaultConstraintValidator
         for (INodeItem item : targets) {
           assert item != null;
           try {
-            validateKeyRef(constraint, node, item, indexName, index, dynamicContext);
+            validateKeyRef(constraint, node, item, indexName, index, resolvedKeys, dynamicContext);
           } catch (RuntimeException ex) {
             handleError(constraint, item, ex, dynamicContext);
           }
@@ -841,6 +972,7 @@ public class DefaultConstraintValidator
       @NonNull INodeItem item,
       @NonNull String indexName,
       @Nullable IIndex index,
+      @NonNull Map<List<String>, Boolean> resolvedKeys,
       @NonNull DynamicContext dynamicContext) {
     IConstraintValidationHandler handler = getConstraintValidationHandler();
     try {
@@ -855,9 +987,9 @@ public class DefaultConstraintValidator
                 indexName)),
             dynamicContext);
       } else {
-        INodeItem referencedItem = index.get(key);
+        boolean resolved = resolvedKeys.computeIfAbsent(key, k -> index.get(k) != null);
 
-        if (referencedItem == null) {
+        if (!resolved) {
           handler.handleIndexMiss(constraint, contextNode, item, key, dynamicContext);
         } else {
           handlePass(constraint, contextNode, item, dynamicContext);
@@ -945,43 +1077,15 @@ public class DefaultConstraintValidator
   class Visitor
       extends AbstractNodeItemVisitor<DynamicContext, Void> {
 
-    @NonNull
-    private DynamicContext handleLetStatements(
-        @NonNull INodeItem focus,
-        @NonNull Map<QName, ILet> letExpressions,
-        @NonNull DynamicContext dynamicContext) {
-
-      DynamicContext retval;
-      Collection<ILet> lets = letExpressions.values();
-      if (lets.isEmpty()) {
-        retval = dynamicContext;
-      } else {
-        final DynamicContext subContext = dynamicContext.subContext();
-
-        for (ILet let : lets) {
-          QName name = let.getName();
-          ISequence<?> result = let.getValueExpression().evaluate(focus, subContext);
-
-          // ensure the sequence is list backed
-          result.getValue();
-
-          subContext.bindVariableValue(name, result);
-        }
-        retval = subContext;
-      }
-      return retval;
-    }
-
     @Override
     public Void visitFlag(@NonNull IFlagNodeItem item, DynamicContext context) {
       assert context != null;
 
-      IFlagDefinition definition = item.getDefinition();
-      DynamicContext effectiveContext = handleLetStatements(item, definition.getLetExpressions(), context);
+      DynamicContext effectiveContext = getPlan(item.getDefinition()).bindLetStatements(item, context);
 
       validateFlag(item, effectiveContext);
       super.visitFlag(item, effectiveContext);
-      handleAllowedValues(item, context);
+      updateState(validator -> validator.handleAllowedValues(item, context));
       return null;
     }
 
@@ -989,12 +1093,11 @@ public class DefaultConstraintValidator
     public Void visitField(@NonNull IFieldNodeItem item, DynamicContext context) {
       assert context != null;
 
-      IFieldDefinition definition = item.getDefinition();
-      DynamicContext effectiveContext = handleLetStatements(item, definition.getLetExpressions(), context);
+      DynamicContext effectiveContext = getPlan(item.getDefinition()).bindLetStatements(item, context);
 
       validateField(item, effectiveContext);
       super.visitField(item, effectiveContext);
-      handleAllowedValues(item, context);
+      updateState(validator -> validator.handleAllowedValues(item, context));
       return null;
     }
 
@@ -1002,8 +1105,7 @@ public class DefaultConstraintValidator
     public Void visitAssembly(@NonNull IAssemblyNodeItem item, DynamicContext context) {
       assert context != null;
 
-      IAssemblyDefinition definition = item.getDefinition();
-      DynamicContext effectiveContext = handleLetStatements(item, definition.getLetExpressions(), context);
+      DynamicContext effectiveContext = getPlan(item.getDefinition()).bindLetStatements(item, context);
 
       validateAssembly(item, effectiveContext);
       super.visitAssembly(item, effectiveContext);
@@ -1054,4 +1156,113 @@ public class DefaultConstraintValidator
       return targets;
     }
   }
+
+  /**
+   * A validator used to evaluate a single subtree on a worker thread.
+   * <p>
+   * Handler callbacks and updates to the shared validation state are recorded,
+   * instead of being applied. The recorded actions are replayed against the root
+   * validator using {@link #replay()}.
+   */
+  private static final class SubtreeValidator
+      extends DefaultConstraintValidator {
+    @NonNull
+    private final DefaultConstraintValidator root;
+    @NonNull
+    private final List<Runnable> actions;
+
+    private SubtreeValidator(@NonNull DefaultConstraintValidator root) {
+      this(root, new ArrayList<>());
+    }
+
+    private SubtreeValidator(
+        @NonNull DefaultConstraintValidator root,
+        @NonNull List<Runnable> actions) {
+      super(new DeferredConstraintValidationHandler(actions::add, root.getConstraintValidationHandler()),
+          root.getConfiguration(),
+          root.plans);
+      this.root = root;
+      this.actions = actions;
+    }
+
+    @Override
+    void updateState(Consumer<DefaultConstraintValidator> update) {
+      actions.add(() -> update.accept(root));
+    }
+
+    /**
+     * Apply the recorded actions, in the order they were recorded, to the root
+     * validator.
+     */
+    public void replay() {
+      actions.forEach(Runnable::run);
+    }
+
+    /**
+     * A visitor that evaluates the flags and fields of a node inline, while
+     * splitting any child assemblies off into separate subtree tasks.
+     */
+    private final class ForkingVisitor
+        extends Visitor {
+      @NonNull
+      private final List<SubtreeTask> subtasks = new LinkedList<>();
+
+      @NonNull
+      public List<SubtreeTask> getSubtasks() {
+        return subtasks;
+      }
+
+      @Override
+      protected Void visitModelChildren(@NonNull INodeItem item, DynamicContext context) {
+        assert context != null;
+
+        for (List<? extends IModelNodeItem<?, ?>> childItems : item.getModelItems()) {
+          for (IModelNodeItem<?, ?> childItem : childItems) {
+            assert childItem != null;
+            if (childItem instanceof IAssemblyNodeItem) {
+              SubtreeValidator validator = new SubtreeValidator(root);
+              subtasks.add(new SubtreeTask(validator, childItem, context));
+              // keep the child's place, since its actions will be recorded later
+              actions.add(validator::replay);
+            } else {
+              childItem.accept(this, context);
+            }
+          }
+        }
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Evaluates the constraints for a subtree, forking a new task for each child
+   * assembly.
+   */
+  private static final class SubtreeTask
+      extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    @NonNull
+    private final transient SubtreeValidator validator;
+    @NonNull
+    private final transient INodeItem item;
+    @NonNull
+    private final transient DynamicContext dynamicContext;
+
+    private SubtreeTask(
+        @NonNull SubtreeValidator validator,
+        @NonNull INodeItem item,
+        @NonNull DynamicContext dynamicContext) {
+      this.validator = validator;
+      this.item = item;
+      this.dynamicContext = dynamicContext;
+    }
+
+    @Override
+    protected void compute() {
+      SubtreeValidator.ForkingVisitor visitor = validator.new ForkingVisitor();
+      item.accept(visitor, dynamicContext);
+      invokeAll(visitor.getSubtasks());
+    }
+  }
 }
@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.constraint;
+
+import gov.nist.secauto.metaschema.core.datatype.IDataTypeAdapter;
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.MetapathException;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A validation handler that records each callback as an action, instead of
+ * handling it immediately.
+ * <p>
+ * The recorded actions are replayed later against a delegate handler. This
+ * allows constraint evaluation to happen on a worker thread, while results are
+ * still reported to the delegate in a deterministic order.
+ * <p>
+ * This class is not thread safe.
+ */
+@SuppressWarnings("PMD.CouplingBetweenObjects")
+final class DeferredConstraintValidationHandler implements IConstraintValidationHandler {
+  @NonNull
+  private final Consumer<Runnable> recorder;
+  @NonNull
+  private final IConstraintValidationHandler delegate;
+
+  /**
+   * Construct a new deferred handler.
+   *
+   * @param recorder
+   *          used to record the actions to replay
+   * @param delegate
+   *          the handler the recorded actions are replayed against
+   */
+  DeferredConstraintValidationHandler(
+      @NonNull Consumer<Runnable> recorder,
+      @NonNull IConstraintValidationHandler delegate) {
+    this.recorder = recorder;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void handleCardinalityMinimumViolation(
+      @NonNull ICardinalityConstraint constraint,
+      @NonNull INodeItem target,
+      @NonNull ISequence<? extends INodeItem> testedItems,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleCardinalityMinimumViolation(constraint, target, testedItems, dynamicContext));
+  }
+
+  @Override
+  public void handleCardinalityMaximumViolation(
+      @NonNull ICardinalityConstraint constraint,
+      @NonNull INodeItem target,
+      @NonNull ISequence<? extends INodeItem> testedItems,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleCardinalityMaximumViolation(constraint, target, testedItems, dynamicContext));
+  }
+
+  @Override
+  public void handleIndexDuplicateViolation(
+      @NonNull IIndexConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleIndexDuplicateViolation(constraint, node, dynamicContext));
+  }
+
+  @Override
+  public void handleIndexDuplicateKeyViolation(
+      @NonNull IIndexConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem oldItem,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleIndexDuplicateKeyViolation(constraint, node, oldItem, target, dynamicContext));
+  }
+
+  @Override
+  public void handleUniqueKeyViolation(
+      @NonNull IUniqueConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem oldItem,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleUniqueKeyViolation(constraint, node, oldItem, target, dynamicContext));
+  }
+
+  @Override
+  public void handleKeyMatchError(
+      @NonNull IKeyConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull MetapathException exception,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleKeyMatchError(constraint, node, target, exception, dynamicContext));
+  }
+
+  @Override
+  public void handleMissingIndexViolation(
+      @NonNull IIndexHasKeyConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull String message,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleMissingIndexViolation(constraint, node, target, message, dynamicContext));
+  }
+
+  @Override
+  public void handleIndexMiss(
+      @NonNull IIndexHasKeyConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull List<String> key,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleIndexMiss(constraint, node, target, key, dynamicContext));
+  }
+
+  @Override
+  public void handleMatchPatternViolation(
+      @NonNull IMatchesConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull String value,
+      @NonNull Pattern pattern,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(
+        () -> delegate.handleMatchPatternViolation(constraint, node, target, value, pattern, dynamicContext));
+  }
+
+  @Override
+  public void handleMatchDatatypeViolation(
+      @NonNull IMatchesConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull String value,
+      @NonNull IDataTypeAdapter<?> adapter,
+      @NonNull IllegalArgumentException cause,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(
+        () -> delegate.handleMatchDatatypeViolation(constraint, node, target, value, adapter, cause, dynamicContext));
+  }
+
+  @Override
+  public void handleExpectViolation(
+      @NonNull IExpectConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleExpectViolation(constraint, node, target, dynamicContext));
+  }
+
+  @Override
+  public void handleAllowedValuesViolation(
+      @NonNull List<IAllowedValuesConstraint> failedConstraints,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleAllowedValuesViolation(failedConstraints, target, dynamicContext));
+  }
+
+  @Override
+  public void handlePass(
+      @NonNull IConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull INodeItem target,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handlePass(constraint, node, target, dynamicContext));
+  }
+
+  @Override
+  public void handleError(
+      @NonNull IConstraint constraint,
+      @NonNull INodeItem node,
+      @NonNull String message,
+      @NonNull Throwable exception,
+      @NonNull DynamicContext dynamicContext) {
+    recorder.accept(() -> delegate.handleError(constraint, node, message, exception, dynamicContext));
+  }
+}
@@ -13,7 +13,7 @@ import gov.nist.secauto.metaschema.core.metapath.MetapathExpression.ResultType;
 import gov.nist.secauto.metaschema.core.metapath.function.library.FnData;
 import gov.nist.secauto.metaschema.core.metapath.item.IItem;
 import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
-import gov.nist.secauto.metaschema.core.model.constraint.impl.DefaultIndex;
+import gov.nist.secauto.metaschema.core.model.constraint.impl.CompactIndex;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 
@@ -31,6 +31,9 @@ public interface IIndex {
   /**
    * Construct a new index using the provided key field components to generate
    * keys.
+   * <p>
+   * The returned index stores its keys in a compact form, and must be fully
+   * populated before it is shared with other threads.
    *
    * @param keyFields
    *          the key field components to use to generate keys by default
@@ -38,7 +41,7 @@ public interface IIndex {
    */
   @NonNull
   static IIndex newInstance(@NonNull List<? extends IKeyField> keyFields) {
-    return new DefaultIndex(keyFields);
+    return new CompactIndex(keyFields);
   }
 
   /**
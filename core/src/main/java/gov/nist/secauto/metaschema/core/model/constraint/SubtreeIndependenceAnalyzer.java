@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.constraint;
+
+import gov.nist.secauto.metaschema.core.metapath.MetapathException;
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.core.metapath.StaticContext;
+import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.core.model.IAssemblyInstance;
+import gov.nist.secauto.metaschema.core.model.IChoiceGroupInstance;
+import gov.nist.secauto.metaschema.core.model.IDefinition;
+import gov.nist.secauto.metaschema.core.model.IFlagInstance;
+import gov.nist.secauto.metaschema.core.model.IModelDefinition;
+import gov.nist.secauto.metaschema.core.model.INamedModelInstance;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Identifies the child assembly instances of a root definition whose data can
+ * be validated independently of the rest of the document.
+ * <p>
+ * This supports streaming validation, where each such subtree is validated as
+ * soon as it is read and is released afterwards. A child instance is
+ * independent if:
+ * <ul>
+ * <li>the Metapath expressions of every definition below the root only access
+ * the subtree of their focus;</li>
+ * <li>the root definition is not reachable from its children; and</li>
+ * <li>the Metapath expressions of the root definition do not access the child
+ * instance by name, or by any unnamed means such as a wildcard or the
+ * descendant axis.</li>
+ * </ul>
+ * <p>
+ * Metapath expressions embedded in constraint messages are not considered.
+ */
+public final class SubtreeIndependenceAnalyzer {
+  private static final Logger LOGGER = LogManager.getLogger(SubtreeIndependenceAnalyzer.class);
+
+  private SubtreeIndependenceAnalyzer() {
+    // disable construction
+  }
+
+  /**
+   * Get the child assembly instances of the provided root definition that can be
+   * validated independently.
+   *
+   * @param root
+   *          the root definition
+   * @return the independent instances, which will be empty if no child instance
+   *         can be validated independently
+   */
+  @NonNull
+  public static Set<IAssemblyInstance> getIndependentInstances(@NonNull IAssemblyDefinition root) {
+    Set<QName> rootVariables = root.getLetExpressions().keySet();
+
+    Set<QName> accessedNames = new HashSet<>();
+    for (Pair<String, MetapathExpression> expression : CollectionUtil.toIterable(expressions(root))) {
+      MetapathExpression compiled = expression.getRight();
+      if (compiled == null) {
+        logDependent(root, "the expression '%s' of '%s' could not be compiled", expression.getLeft(), root.getName());
+        return CollectionUtil.emptySet();
+      }
+      Set<QName> names = compiled.getAccessedNames();
+      if (names == null) {
+        logDependent(root, "the expression '%s' of '%s' may access its children without naming them",
+            expression.getLeft(), root.getName());
+        return CollectionUtil.emptySet();
+      }
+      accessedNames.addAll(names);
+    }
+
+    if (!isSubtreeLocal(root, rootVariables)) {
+      return CollectionUtil.emptySet();
+    }
+
+    Set<IAssemblyInstance> retval = new LinkedHashSet<>();
+    for (IAssemblyInstance instance : root.getAssemblyInstances()) {
+      if (!accessedNames.contains(instance.getXmlQName())) {
+        retval.add(instance);
+      } else if (LOGGER.isInfoEnabled()) {
+        LOGGER.info("The '{}' children of '{}' will be validated after the content is read,"
+            + " since the expressions of '{}' access them.",
+            instance.getName(),
+            root.getName(),
+            root.getName());
+      }
+    }
+    return CollectionUtil.unmodifiableSet(retval);
+  }
+
+  /**
+   * Report that no child of the provided root definition can be validated
+   * independently.
+   *
+   * @param root
+   *          the root definition
+   * @param reason
+   *          a format string describing why
+   * @param args
+   *          the arguments for the format string
+   */
+  private static void logDependent(@NonNull IAssemblyDefinition root, @NonNull String reason, Object... args) {
+    if (LOGGER.isWarnEnabled()) {
+      LOGGER.warn("Streaming validation is not possible for the children of '{}', since {}."
+          + " The content will be validated after it is read.",
+          root.getName(),
+          String.format(reason, args));
+    }
+  }
+
+  /**
+   * Determine if the expressions of all definitions below the root are local to
+   * their focus' subtree.
+   *
+   * @param root
+   *          the root definition
+   * @param rootVariables
+   *          the variables bound by the root definition
+   * @return {@code true} if all expressions are subtree local, or {@code false}
+   *         otherwise
+   */
+  private static boolean isSubtreeLocal(
+      @NonNull IAssemblyDefinition root,
+      @NonNull Set<QName> rootVariables) {
+    Set<IDefinition> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    Deque<IDefinition> remaining = new LinkedList<>(children(root));
+
+    IDefinition definition;
+    while ((definition = remaining.poll()) != null) {
+      if (definition.equals(root)) {
+        // a recursive root may be nested within a child
+        logDependent(root, "'%s' may be nested within its children", root.getName());
+        return false;
+      }
+
+      if (visited.add(definition)) {
+        for (Pair<String, MetapathExpression> expression : CollectionUtil.toIterable(expressions(definition))) {
+          MetapathExpression compiled = expression.getRight();
+          if (compiled == null) {
+            logDependent(root, "the expression '%s' of '%s' could not be compiled",
+                expression.getLeft(), definition.getName());
+            return false;
+          }
+          if (!compiled.isSubtreeLocal(rootVariables)) {
+            logDependent(root, "the expression '%s' of '%s' may access content outside of its subtree",
+                expression.getLeft(), definition.getName());
+            return false;
+          }
+        }
+        remaining.addAll(children(definition));
+      }
+    }
+    return true;
+  }
+
+  @NonNull
+  private static List<IDefinition> children(@NonNull IDefinition definition) {
+    List<IDefinition> retval = new LinkedList<>();
+    if (definition instanceof IModelDefinition) {
+      IModelDefinition modelDefinition = (IModelDefinition) definition;
+      for (IFlagInstance instance : modelDefinition.getFlagInstances()) {
+        retval.add(instance.getDefinition());
+      }
+    }
+    if (definition instanceof IAssemblyDefinition) {
+      IAssemblyDefinition assembly = (IAssemblyDefinition) definition;
+      for (INamedModelInstance instance : assembly.getNamedModelInstances()) {
+        retval.add(instance.getDefinition());
+      }
+      for (IChoiceGroupInstance choiceGroup : assembly.getChoiceGroupInstances().values()) {
+        for (INamedModelInstance instance : choiceGroup.getNamedModelInstances()) {
+          retval.add(instance.getDefinition());
+        }
+      }
+    }
+    return retval;
+  }
+
+  /**
+   * Get the Metapath expressions used by the let statements and constraints of
+   * the provided definition.
+   *
+   * @param definition
+   *          the definition to get the expressions for
+   * @return the expressions, paired with their Metapath, with a {@code null}
+   *         expression for any Metapath that could not be compiled
+   */
+  @NonNull
+  private static Stream<Pair<String, MetapathExpression>> expressions(@NonNull IDefinition definition) {
+    Stream<Pair<String, MetapathExpression>> lets = definition.getLetExpressions().values().stream()
+        .map(let -> {
+          MetapathExpression expression = let.getValueExpression();
+          return Pair.of(expression.getPath(), expression);
+        });
+
+    Stream<Pair<String, MetapathExpression>> constraints = definition.getConstraints().stream()
+        .flatMap(constraint -> {
+          StaticContext staticContext = constraint.getSource().getStaticContext();
+
+          Stream<String> paths = Stream.of(constraint.getTarget());
+          if (constraint instanceof IExpectConstraint) {
+            paths = Stream.concat(paths, Stream.of(((IExpectConstraint) constraint).getTest()));
+          }
+          if (constraint instanceof IKeyConstraint) {
+            paths = Stream.concat(paths, ((IKeyConstraint) constraint).getKeyFields().stream()
+                .map(IKeyField::getTarget));
+          }
+          return paths.map(path -> Pair.of(path, compile(path, staticContext)));
+        });
+    return ObjectUtils.notNull(Stream.concat(lets, constraints));
+  }
+
+  @Nullable
+  private static MetapathExpression compile(@NonNull String path, @NonNull StaticContext staticContext) {
+    try {
+      return MetapathExpression.compile(path, staticContext);
+    } catch (MetapathException ex) {
+      return null;
+    }
+  }
+}
@@ -19,6 +19,32 @@ public final class ValidationFeature<V>
   public static final ValidationFeature<Boolean> VALIDATE_GENERATE_PASS_FINDINGS
       = new ValidationFeature<>("include-pass-findings", Boolean.class, false);
 
+  /**
+   * Determines the number of threads used to evaluate constraints.
+   * <p>
+   * When greater than {@code 1}, independent assembly subtrees are evaluated
+   * concurrently. Findings are still reported in the same order as a single
+   * threaded validation.
+   */
+  @NonNull
+  public static final ValidationFeature<Integer> VALIDATE_THREAD_COUNT
+      = new ValidationFeature<>("thread-count", Integer.class, 1);
+
+  /**
+   * If enabled, validate content while it is being read.
+   * <p>
+   * Each top-level subtree that can be validated independently is validated as
+   * soon as it is read and is then released, which bounds the memory used for
+   * large documents. Findings for these subtrees are reported before the
+   * findings for the rest of the document. The nodes targeted by index and key
+   * reference constraints are kept until validation completes.
+   *
+   * @see SubtreeIndependenceAnalyzer
+   */
+  @NonNull
+  public static final ValidationFeature<Boolean> VALIDATE_STREAMING
+      = new ValidationFeature<>("streaming", Boolean.class, false);
+
   private ValidationFeature(
       @NonNull String name,
       @NonNull Class<V> valueClass,
@@ -0,0 +1,334 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.constraint.impl;
+
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+import gov.nist.secauto.metaschema.core.model.constraint.IIndex;
+import gov.nist.secauto.metaschema.core.model.constraint.IKeyField;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * An index that stores its keys in a compact form.
+ * <p>
+ * Instead of retaining each key as a list of strings, a key is encoded into a
+ * single value. A single value key that is a lower-case UUID is stored as two
+ * {@code long} values, while all other keys are stored as a single string.
+ * Entries are kept in open-addressing tables backed by arrays, which avoids
+ * allocating an entry object per key.
+ * <p>
+ * Keys are matched using the exact string values they were created from, so
+ * lookups produce the same results as {@link DefaultIndex}.
+ * <p>
+ * This class is not thread-safe. An index must be fully populated before it is
+ * shared with other threads.
+ */
+public class CompactIndex implements IIndex {
+  private static final int INITIAL_CAPACITY = 16;
+  private static final int UUID_LENGTH = 36;
+
+  @NonNull
+  private final List<IKeyField> keyFields;
+  @NonNull
+  private final UuidTable uuidKeys = new UuidTable();
+  @NonNull
+  private final StringTable stringKeys = new StringTable();
+
+  /**
+   * Construct a new index.
+   *
+   * @param keyFields
+   *          the key field components to use to generate keys by default
+   */
+  public CompactIndex(@NonNull List<? extends IKeyField> keyFields) {
+    this.keyFields = CollectionUtil.unmodifiableList(new ArrayList<>(keyFields));
+  }
+
+  @Override
+  public List<IKeyField> getKeyFields() {
+    return keyFields;
+  }
+
+  /**
+   * Get the number of keys stored in the index.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return uuidKeys.size + stringKeys.size;
+  }
+
+  @Override
+  public INodeItem put(@NonNull INodeItem item, @NonNull List<String> key) {
+    INodeItem oldItem = null;
+    if (!IIndex.isAllNulls(key)) {
+      // only add keys with some information (values)
+      String value = key.size() == 1 ? key.get(0) : null;
+      if (value != null && isUuid(value)) {
+        oldItem = uuidKeys.put(uuidBits(value, 0), uuidBits(value, 19), item);
+      } else {
+        oldItem = stringKeys.put(encode(key), item);
+      }
+    }
+    return oldItem;
+  }
+
+  @Override
+  public INodeItem get(List<String> key) {
+    if (getKeyFields().size() != key.size()) {
+      throw new IllegalArgumentException("Provided key is not the same size as the index requires.");
+    }
+
+    INodeItem retval;
+    String value = key.size() == 1 ? key.get(0) : null;
+    if (value != null && isUuid(value)) {
+      retval = uuidKeys.get(uuidBits(value, 0), uuidBits(value, 19));
+    } else {
+      retval = stringKeys.get(encode(key));
+    }
+    return retval;
+  }
+
+  /**
+   * Encode a key as a single string.
+   * <p>
+   * Each value is prefixed by its length, allowing {@code null} values and
+   * values containing any character to be encoded without ambiguity.
+   *
+   * @param key
+   *          the key to encode
+   * @return the encoded key
+   */
+  @NonNull
+  private static String encode(@NonNull List<String> key) {
+    String retval;
+    if (key.size() == 1 && key.get(0) != null) {
+      // no need to encode a single value
+      retval = key.get(0);
+    } else {
+      StringBuilder builder = new StringBuilder();
+      for (String value : key) {
+        if (value == null) {
+          builder.append('-');
+        } else {
+          builder.append(value.length()).append(':').append(value);
+        }
+      }
+      retval = builder.toString();
+    }
+    assert retval != null;
+    return retval;
+  }
+
+  /**
+   * Determine if the provided value is a UUID using lower-case hex digits.
+   * <p>
+   * Upper-case UUIDs are not matched, since these would not be equal to the
+   * same UUID in lower-case as a string.
+   *
+   * @param value
+   *          the value to check
+   * @return {@code true} if the value is a lower-case UUID, or {@code false}
+   *         otherwise
+   */
+  private static boolean isUuid(@NonNull String value) {
+    if (value.length() != UUID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char ch = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (ch != '-') {
+          return false;
+        }
+      } else if (hexValue(ch) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Get the 64 bits represented by the 16 hex digits of a UUID starting at the
+   * provided offset, skipping any dashes.
+   *
+   * @param value
+   *          the UUID
+   * @param offset
+   *          the offset of the first digit
+   * @return the bits
+   */
+  private static long uuidBits(@NonNull String value, int offset) {
+    long retval = 0;
+    int digits = 0;
+    for (int i = offset; digits < 16; i++) {
+      char ch = value.charAt(i);
+      if (ch != '-') {
+        retval = retval << 4 | hexValue(ch);
+        digits++;
+      }
+    }
+    return retval;
+  }
+
+  private static int hexValue(char ch) {
+    int retval;
+    if (ch >= '0' && ch <= '9') {
+      retval = ch - '0';
+    } else if (ch >= 'a' && ch <= 'f') {
+      retval = ch - 'a' + 10;
+    } else {
+      retval = -1;
+    }
+    return retval;
+  }
+
+  /**
+   * Spread the bits of a hash code to reduce collisions in a power of two sized
+   * table.
+   *
+   * @param hash
+   *          the hash code
+   * @return the mixed hash code
+   */
+  private static int mix(long hash) {
+    long retval = hash;
+    retval ^= retval >>> 33;
+    retval *= 0xff51_afd7_ed55_8ccdL;
+    retval ^= retval >>> 33;
+    return (int) retval;
+  }
+
+  /**
+   * An open-addressing table keyed by the two {@code long} values of a UUID.
+   */
+  private static final class UuidTable {
+    private long[] mostSignificant = new long[INITIAL_CAPACITY];
+    private long[] leastSignificant = new long[INITIAL_CAPACITY];
+    private INodeItem[] items = new INodeItem[INITIAL_CAPACITY];
+    private int size;
+
+    @Nullable
+    public INodeItem put(long msb, long lsb, @NonNull INodeItem item) {
+      if ((size + 1) * 2 > items.length) {
+        resize();
+      }
+
+      int slot = find(msb, lsb);
+      INodeItem retval = items[slot];
+      if (retval == null) {
+        mostSignificant[slot] = msb;
+        leastSignificant[slot] = lsb;
+        size++;
+      }
+      items[slot] = item;
+      return retval;
+    }
+
+    @Nullable
+    public INodeItem get(long msb, long lsb) {
+      return items[find(msb, lsb)];
+    }
+
+    private int find(long msb, long lsb) {
+      int mask = items.length - 1;
+      int slot = mix(msb * 31 + lsb) & mask;
+      while (items[slot] != null && (mostSignificant[slot] != msb || leastSignificant[slot] != lsb)) {
+        slot = slot + 1 & mask;
+      }
+      return slot;
+    }
+
+    private void resize() {
+      long[] oldMostSignificant = mostSignificant;
+      long[] oldLeastSignificant = leastSignificant;
+      INodeItem[] oldItems = items;
+
+      int capacity = oldItems.length * 2;
+      mostSignificant = new long[capacity];
+      leastSignificant = new long[capacity];
+      items = new INodeItem[capacity];
+      for (int i = 0; i < oldItems.length; i++) {
+        INodeItem item = oldItems[i];
+        if (item != null) {
+          int slot = find(oldMostSignificant[i], oldLeastSignificant[i]);
+          mostSignificant[slot] = oldMostSignificant[i];
+          leastSignificant[slot] = oldLeastSignificant[i];
+          items[slot] = item;
+        }
+      }
+    }
+  }
+
+  /**
+   * An open-addressing table keyed by an encoded key string.
+   */
+  private static final class StringTable {
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private INodeItem[] items = new INodeItem[INITIAL_CAPACITY];
+    private int size;
+
+    @Nullable
+    public INodeItem put(@NonNull String key, @NonNull INodeItem item) {
+      if ((size + 1) * 2 > items.length) {
+        resize();
+      }
+
+      int hash = key.hashCode();
+      int slot = find(key, hash);
+      INodeItem retval = items[slot];
+      if (retval == null) {
+        keys[slot] = key;
+        hashes[slot] = hash;
+        size++;
+      }
+      items[slot] = item;
+      return retval;
+    }
+
+    @Nullable
+    public INodeItem get(@NonNull String key) {
+      return items[find(key, key.hashCode())];
+    }
+
+    private int find(@NonNull String key, int hash) {
+      int mask = items.length - 1;
+      int slot = mix(hash) & mask;
+      while (items[slot] != null && (hashes[slot] != hash || !key.equals(keys[slot]))) {
+        slot = slot + 1 & mask;
+      }
+      return slot;
+    }
+
+    private void resize() {
+      String[] oldKeys = keys;
+      int[] oldHashes = hashes;
+      INodeItem[] oldItems = items;
+
+      int capacity = oldItems.length * 2;
+      keys = new String[capacity];
+      hashes = new int[capacity];
+      items = new INodeItem[capacity];
+      for (int i = 0; i < oldItems.length; i++) {
+        INodeItem item = oldItems[i];
+        if (item != null) {
+          String key = oldKeys[i];
+          assert key != null;
+          int slot = find(key, oldHashes[i]);
+          keys[slot] = key;
+          hashes[slot] = oldHashes[i];
+          items[slot] = item;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.util;
+
+import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.core.model.IAssemblyInstance;
+import gov.nist.secauto.metaschema.core.model.IFieldDefinition;
+import gov.nist.secauto.metaschema.core.model.IFieldInstance;
+import gov.nist.secauto.metaschema.core.model.IFlagDefinition;
+import gov.nist.secauto.metaschema.core.model.IFlagInstance;
+import gov.nist.secauto.metaschema.core.model.IModelDefinition;
+import gov.nist.secauto.metaschema.core.model.ModelWalker;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides an index of the instance names that can occur at any depth within
+ * the content of a model definition.
+ * <p>
+ * The index is computed from the definition graph of the module, and can be
+ * used to skip the content of nodes that cannot contain a named instance when
+ * searching a document. The names reachable from a definition are computed
+ * once, on first use, and are retained for as long as the definition is in
+ * use.
+ */
+public final class DefinitionReachabilityIndex {
+  @NonNull
+  private static final Map<IModelDefinition, ReachableNames> INDEX
+      = ObjectUtils.notNull(Collections.synchronizedMap(new WeakHashMap<>()));
+
+  private DefinitionReachabilityIndex() {
+    // disable construction
+  }
+
+  /**
+   * Determine if content based on the provided definition can contain a model
+   * instance with the provided name, either directly or within a descendant.
+   *
+   * @param definition
+   *          the definition of the content
+   * @param name
+   *          the name of the model instance
+   * @return {@code true} if the model instance can occur, or {@code false}
+   *         otherwise
+   */
+  public static boolean canContainModelInstance(@NonNull IModelDefinition definition, @NonNull QName name) {
+    return getReachableNames(definition).modelInstanceNames.contains(name);
+  }
+
+  /**
+   * Determine if content based on the provided definition can contain a flag
+   * instance with the provided name, either on itself or on a descendant.
+   *
+   * @param definition
+   *          the definition of the content
+   * @param name
+   *          the name of the flag instance
+   * @return {@code true} if the flag instance can occur, or {@code false}
+   *         otherwise
+   */
+  public static boolean canContainFlagInstance(@NonNull IModelDefinition definition, @NonNull QName name) {
+    return getReachableNames(definition).flagInstanceNames.contains(name);
+  }
+
+  @NonNull
+  private static ReachableNames getReachableNames(@NonNull IModelDefinition definition) {
+    ReachableNames retval = INDEX.get(definition);
+    if (retval == null) {
+      // computed outside of the lock, since computing the names is idempotent
+      NameCollectingModelWalker walker = new NameCollectingModelWalker();
+      walker.walkDefinition(definition);
+      retval = new ReachableNames(
+          CollectionUtil.unmodifiableSet(walker.modelInstanceNames),
+          CollectionUtil.unmodifiableSet(walker.flagInstanceNames));
+      INDEX.put(definition, retval);
+    }
+    return retval;
+  }
+
+  private static final class ReachableNames {
+    @NonNull
+    private final Set<QName> modelInstanceNames;
+    @NonNull
+    private final Set<QName> flagInstanceNames;
+
+    private ReachableNames(@NonNull Set<QName> modelInstanceNames, @NonNull Set<QName> flagInstanceNames) {
+      this.modelInstanceNames = modelInstanceNames;
+      this.flagInstanceNames = flagInstanceNames;
+    }
+  }
+
+  /**
+   * Collects the names of the instances reachable from a definition, visiting
+   * each definition only once to handle recursive models.
+   */
+  private static final class NameCollectingModelWalker
+      extends ModelWalker<Void> {
+    @NonNull
+    private final Set<IModelDefinition> visited = new HashSet<>();
+    @NonNull
+    private final Set<QName> modelInstanceNames = new HashSet<>();
+    @NonNull
+    private final Set<QName> flagInstanceNames = new HashSet<>();
+
+    @Override
+    protected Void getDefaultData() { // NOPMD - intentional
+      return null;
+    }
+
+    @Override
+    protected void visit(IFlagDefinition def, Void data) {
+      // nothing to do
+    }
+
+    @Override
+    protected boolean visit(IFieldDefinition def, Void data) {
+      return visited.add(def);
+    }
+
+    @Override
+    protected boolean visit(IAssemblyDefinition def, Void data) {
+      return visited.add(def);
+    }
+
+    @Override
+    protected boolean visit(IFlagInstance instance, Void data) {
+      flagInstanceNames.add(instance.getXmlQName());
+      // no need to walk the flag's definition
+      return false;
+    }
+
+    @Override
+    protected boolean visit(IFieldInstance instance, Void data) {
+      modelInstanceNames.add(instance.getXmlQName());
+      return true;
+    }
+
+    @Override
+    protected boolean visit(IAssemblyInstance instance, Void data) {
+      modelInstanceNames.add(instance.getXmlQName());
+      return true;
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.validation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides a cache of compiled schema content validators, which is shared by
+ * all users of the same schemas.
+ * <p>
+ * Compiling a schema is expensive compared to validating a small document.
+ * Since content validators are safe to use concurrently, a validator compiled
+ * for a given schema can be reused for all later validations using the same
+ * schema.
+ * <p>
+ * Validators are cached based on their type and a caller-provided key, which
+ * must identify the schema content. For a schema that can change, such as a
+ * schema generated from a module that may be edited in place, the key should be
+ * derived from the schema content using {@link #toContentKey(CharSequence)}.
+ * The location of the schema is only a suitable key for schemas that cannot
+ * change, such as schemas provided as class path resources.
+ */
+public final class ContentValidatorCache {
+  /**
+   * The maximum number of compiled validators retained by the cache.
+   */
+  private static final int CACHE_SIZE = 100;
+  @NonNull
+  private static final Cache<Pair<Class<?>, Object>, IContentValidator> CACHE
+      = ObjectUtils.notNull(Caffeine.newBuilder()
+          .maximumSize(CACHE_SIZE)
+          .recordStats()
+          .build());
+
+  private ContentValidatorCache() {
+    // disable construction
+  }
+
+  /**
+   * Get the cached validator for the provided key, compiling and caching a new
+   * validator using the provided loader if no validator is cached.
+   *
+   * @param <V>
+   *          the Java type of the validator
+   * @param <E>
+   *          the Java type of the exception thrown when loading the validator
+   * @param validatorClass
+   *          the Java type of the validator
+   * @param key
+   *          the key identifying the schema content
+   * @param loader
+   *          used to compile a new validator
+   * @return the validator
+   * @throws E
+   *           if an error occurred while compiling the validator
+   */
+  @NonNull
+  public static <V extends IContentValidator, E extends Exception> V getValidator(
+      @NonNull Class<V> validatorClass,
+      @NonNull Object key,
+      @NonNull ValidatorLoader<V, E> loader) throws E {
+    Pair<Class<?>, Object> cacheKey = ObjectUtils.notNull(Pair.of(validatorClass, key));
+
+    V retval;
+    IContentValidator cached = CACHE.getIfPresent(cacheKey);
+    if (cached == null) {
+      // compile outside of the cache to allow concurrent compilation
+      retval = loader.load();
+      CACHE.put(cacheKey, retval);
+    } else {
+      retval = ObjectUtils.notNull(validatorClass.cast(cached));
+    }
+    return retval;
+  }
+
+  /**
+   * Get a key identifying the provided schema content.
+   * <p>
+   * The key is a digest of the content, so schemas with the same content share
+   * a key, while any change to the content results in a different key.
+   *
+   * @param content
+   *          the schema content
+   * @return the key
+   */
+  @NonNull
+  public static String toContentKey(@NonNull CharSequence content) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      // all Java platforms are required to support SHA-256
+      throw new IllegalStateException(ex);
+    }
+    byte[] hash = digest.digest(content.toString().getBytes(StandardCharsets.UTF_8));
+    return ObjectUtils.notNull(Base64.getEncoder().encodeToString(hash));
+  }
+
+  /**
+   * Get the statistics for the cache of compiled validators.
+   *
+   * @return the cache statistics
+   */
+  @NonNull
+  public static CacheStats getCacheStats() {
+    return ObjectUtils.notNull(CACHE.stats());
+  }
+
+  /**
+   * Remove all compiled validators from the cache.
+   */
+  public static void clearCache() {
+    CACHE.invalidateAll();
+  }
+
+  /**
+   * Compiles a new content validator.
+   *
+   * @param <V>
+   *          the Java type of the validator
+   * @param <E>
+   *          the Java type of the exception thrown when loading the validator
+   */
+  @FunctionalInterface
+  public interface ValidatorLoader<V extends IContentValidator, E extends Exception> {
+    /**
+     * Compile a new validator.
+     *
+     * @return the validator
+     * @throws E
+     *           if an error occurred while compiling the validator
+     */
+    @NonNull
+    V load() throws E;
+  }
+}
@@ -20,6 +20,8 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.Source;
@@ -35,7 +37,18 @@ import edu.umd.cs.findbugs.annotations.NonNull;
  */
 public class XmlSchemaContentValidator
     extends AbstractContentValidator {
+  /**
+   * The maximum number of idle validators retained for reuse.
+   */
+  private static final int VALIDATOR_POOL_SIZE = 16;
+
   private final Schema schema;
+  /**
+   * Idle validators, which are not thread safe, available for reuse by the next
+   * validation.
+   */
+  @NonNull
+  private final BlockingQueue<Validator> validatorPool = new ArrayBlockingQueue<>(VALIDATOR_POOL_SIZE);
 
   @SuppressWarnings("null")
   @NonNull
@@ -84,7 +97,10 @@ public class XmlSchemaContentValidator
   public IValidationResult validate(InputStream is, URI documentUri) throws IOException {
     Source xmlSource = new StreamSource(is, documentUri.toASCIIString());
 
-    Validator validator = getSchema().newValidator();
+    Validator validator = validatorPool.poll();
+    if (validator == null) {
+      validator = getSchema().newValidator();
+    }
     XmlValidationErrorHandler errorHandler = new XmlValidationErrorHandler(documentUri);
     validator.setErrorHandler(errorHandler);
     try {
@@ -105,6 +121,10 @@ public class XmlSchemaContentValidator
               documentUri,
               ex.getLocalizedMessage()),
           ex);
+    } finally {
+      // return the validator for reuse, unless enough validators are idle
+      validator.reset();
+      validatorPool.offer(validator);
     }
     return errorHandler;
   }
@@ -371,4 +371,83 @@ class MarkupStringTest {
         () -> Assertions.assertEquals(1, children.size()),
         () -> Assertions.assertEquals(Heading.class, children.get(0).getClass()));
   }
+
+  @Test
+  void testDeferredMarkdownParsing() {
+    String markdown = "Some  *more*   text";
+
+    MarkupLine ms = MarkupLine.fromMarkdown(markdown);
+    // the markdown is passed through without parsing
+    Assertions.assertAll(
+        () -> Assertions.assertFalse(ms.isParsed()),
+        () -> Assertions.assertEquals(markdown, ms.toMarkdown()),
+        () -> Assertions.assertFalse(ms.isParsed()));
+
+    // the markdown is parsed once the AST is needed
+    Assertions.assertFalse(ms.isEmpty());
+    Assertions.assertTrue(ms.isParsed());
+  }
+
+  @Test
+  void testMarkdownStableAcrossParsing() {
+    String markdown = "Some  *more*   text";
+
+    MarkupMultiline ms = MarkupMultiline.fromMarkdown(markdown);
+    String beforeParsing = ms.toMarkdown();
+
+    // produce the AST using read-only operations
+    Assertions.assertFalse(ms.isEmpty());
+    Assertions.assertNotNull(ms.toHtml());
+    Assertions.assertTrue(ms.isParsed());
+
+    Assertions.assertEquals(beforeParsing, ms.toMarkdown());
+  }
+
+  @Test
+  void testMarkdownAfterDocumentHandedOut() {
+    MarkupLine ms = MarkupLine.fromMarkdown("Some  *more*   text");
+
+    // the AST may be modified by the caller, so it is used from then on
+    Document document = ms.getDocument();
+    Assertions.assertEquals(
+        ms.getFlexmarkFactory().getFormatter().render(document),
+        ms.toMarkdown());
+  }
+
+  @Test
+  void testMarkdownMultipleBlocks() {
+    // the blocks are rejected when the markup is created, not when it is first used
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> MarkupLine.fromMarkdown("Some text\n\nMore text"));
+  }
+
+  @Test
+  void testMarkdownMultipleLines() {
+    MarkupLine ms = MarkupLine.fromMarkdown("Some text\nmore text");
+    // lines in the same paragraph form a single block
+    Assertions.assertFalse(ms.isEmpty());
+  }
+
+  @Test
+  void testHtmlMultipleBlocks() {
+    // unchecked HTML is rejected when the markup is created
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> MarkupLine.fromHtml("<p>Some text</p><p>More text</p>"));
+  }
+
+  @Test
+  void testDeferredCheckedHtmlParsing() {
+    MarkupLine ms = MarkupLine.fromCheckedHtml("Some <em>more</em> text");
+    Assertions.assertFalse(ms.isParsed());
+    Assertions.assertEquals("Some *more* text", ms.toMarkdown().trim());
+    Assertions.assertTrue(ms.isParsed());
+  }
+
+  @Test
+  void testDeferredHtmlParsing() {
+    MarkupMultiline ms = MarkupMultiline.fromHtml("<p>Some <em>more</em> text</p>");
+    Assertions.assertFalse(ms.isParsed());
+    Assertions.assertEquals("Some *more* text", ms.toMarkdown().trim());
+    Assertions.assertTrue(ms.isParsed());
+  }
 }
@@ -6,9 +6,11 @@
 package gov.nist.secauto.metaschema.core.datatype.markup.flexmark;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.ctc.wstx.stax.WstxInputFactory;
 
+import gov.nist.secauto.metaschema.core.datatype.markup.MarkupLine;
 import gov.nist.secauto.metaschema.core.datatype.markup.MarkupMultiline;
 import gov.nist.secauto.metaschema.core.model.util.XmlEventUtil;
 
@@ -97,4 +99,41 @@ class MarkupParserTest {
       LOGGER.atDebug().log("Markdown: {}", ms.toMarkdown());
     });
   }
+
+  @Test
+  void markupLineTest() throws XMLStreamException {
+    XMLEventReader2 reader = newLineReader("<node>some <em>text</em> <img alt=\"alt\" src=\"src\"/>.</node>");
+
+    MarkupLine markupString = XmlMarkupParser.instance().parseMarkupline(reader);
+    // the inline content forms a single block
+    assertDoesNotThrow(markupString::getDocument);
+  }
+
+  @Test
+  void markupLineMultipleBlocksTest() throws XMLStreamException {
+    XMLEventReader2 reader = newLineReader("<node>\n  <p>some text</p>\n  <p>more text</p>\n</node>");
+
+    // the content is rejected when it is read, not when the markup is first used
+    assertThrows(XMLStreamException.class, () -> XmlMarkupParser.instance().parseMarkupline(reader));
+  }
+
+  @Test
+  void markupLineTextAndBlockTest() throws XMLStreamException {
+    XMLEventReader2 reader = newLineReader("<node>some text<h1>Example</h1></node>");
+
+    assertThrows(XMLStreamException.class, () -> XmlMarkupParser.instance().parseMarkupline(reader));
+  }
+
+  private static XMLEventReader2 newLineReader(String xml) throws XMLStreamException {
+    XMLInputFactory2 factory = (XMLInputFactory2) XMLInputFactory.newInstance();
+    assert factory instanceof WstxInputFactory;
+    factory.configureForXmlConformance();
+    factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    XMLEventReader2 reader = (XMLEventReader2) factory.createXMLEventReader(new StringReader(xml));
+
+    // skip the start document and the start element
+    reader.nextEvent();
+    reader.nextEvent();
+    return reader;
+  }
 }
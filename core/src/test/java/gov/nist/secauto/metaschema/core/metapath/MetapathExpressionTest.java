@@ -5,8 +5,11 @@
 
 package gov.nist.secauto.metaschema.core.metapath;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -71,4 +74,27 @@ class MetapathExpressionTest {
     assertEquals(1, result.size(), "unexpected size");
     assertEquals(true, ((IBooleanItem) result.getValue().iterator().next()).toBoolean(), "unexpected result");
   }
+
+  @Test
+  void testCompilationCache() {
+    String metapath = "count(cache-test) + 1";
+    StaticContext context = StaticContext.builder()
+        .namespace("ex", "http://example.com/ns")
+        .build();
+    StaticContext equalContext = StaticContext.builder()
+        .namespace("ex", "http://example.com/ns")
+        .build();
+    StaticContext otherContext = StaticContext.builder()
+        .namespace("ex", "http://example.com/other")
+        .build();
+
+    MetapathExpression compiled = MetapathExpression.compile(metapath, context);
+    long hits = MetapathExpression.getCompilationCacheStats().hitCount();
+
+    assertAll(
+        () -> assertSame(compiled, MetapathExpression.compile(metapath, equalContext)),
+        () -> assertNotSame(compiled, MetapathExpression.compile(metapath, otherContext)),
+        () -> assertTrue(MetapathExpression.getCompilationCacheStats().hitCount() > hits,
+            "expected a cache hit"));
+  }
 }
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.core.metapath.StaticContext;
+import gov.nist.secauto.metaschema.core.metapath.item.IItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IAnyAtomicItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IAssemblyNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.MockNodeItemFactory;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Verifies that compiled expressions produce the same results as the
+ * interpreted expression tree.
+ */
+class ExpressionCompilerTest {
+  @NonNull
+  private static final URI NS_URI = ObjectUtils.notNull(URI.create("http://example.com/ns"));
+  @NonNull
+  private static final String NS = ObjectUtils.notNull(NS_URI.toASCIIString());
+  @NonNull
+  private static final QName ROOT = new QName(NS, "root");
+  @NonNull
+  private static final QName ITEM = new QName(NS, "item");
+  @NonNull
+  private static final QName ID = new QName("id");
+  @NonNull
+  private static final QName KIND = new QName("kind");
+
+  @NonNull
+  private static IDocumentNodeItem newTestDocument() {
+    MockNodeItemFactory factory = new MockNodeItemFactory();
+
+    return factory.document(URI.create("http://example.com/content"), ROOT,
+        List.of(
+            factory.flag(ID, IStringItem.valueOf("root"))),
+        List.of(
+            item(factory, "a", "x"),
+            item(factory, "b", "y"),
+            item(factory, "c", "x")));
+  }
+
+  @NonNull
+  private static IAssemblyNodeItem item(
+      @NonNull MockNodeItemFactory factory,
+      @NonNull String id,
+      @NonNull String kind) {
+    return factory.assembly(ITEM,
+        List.of(
+            factory.flag(ID, IStringItem.valueOf(id)),
+            factory.flag(KIND, IStringItem.valueOf(kind))),
+        List.of());
+  }
+
+  @NonNull
+  private static List<Object> normalize(@NonNull ISequence<?> sequence) {
+    // nodes are compared by identity, while atomic items are compared by value
+    return sequence.getValue().stream()
+        .map(item -> item instanceof IAnyAtomicItem
+            ? ((IAnyAtomicItem) item).getClass().getName() + ":" + ((IAnyAtomicItem) item).asString()
+            : (Object) item)
+        .collect(Collectors.toList());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      ".",
+      "@id",
+      "@missing",
+      "item",
+      "item/@id",
+      "missing/@id",
+      "item[2]",
+      "item[4]",
+      "item[@id = 'b']",
+      "item[@kind = 'x'][2]/@id",
+      "item[@id = 'a' or @id = 'c']/@id",
+      "item[@kind = 'x' and @id != 'a']",
+      "item/@id = ('c', 'z')",
+      "@id = 'root'",
+      "count(item)",
+      "count(item[@kind = 'x']) > 1",
+      "exists(item[@id = 'z'])",
+      "string(@id)",
+      "1 + 2",
+      "(1, 2.5, 'x')",
+  })
+  void testMatchesInterpreter(@NonNull String metapath) {
+    StaticContext staticContext = StaticContext.builder()
+        .defaultModelNamespace(NS_URI)
+        .build();
+    MetapathExpression expression = MetapathExpression.compile(metapath, staticContext);
+    IItem focus = newTestDocument().getRootAssemblyNodeItem();
+
+    ISequence<?> interpreted = expression.evaluate(focus, new DynamicContext(staticContext));
+    ISequence<?> compiled = expression.evaluate(
+        focus,
+        new DynamicContext(staticContext).enableExpressionCompilation());
+
+    assertEquals(normalize(interpreted), normalize(compiled), metapath);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class FocusIndependenceAnalyzerTest {
+  @NonNull
+  private static final Set<QName> INVARIANT_VARIABLES = CollectionUtil.singleton(new QName("invariant"));
+
+  private static Stream<Arguments> provideValues() { // NOPMD - false positive
+    return Stream.of(
+        Arguments.of(true, "1 + 2"),
+        Arguments.of(true, "('a', 'b', 'c')"),
+        Arguments.of(true, "concat('a', 'b')"),
+        Arguments.of(true, "$invariant * 2"),
+        Arguments.of(true, "if ($invariant) then 'a' else 'b'"),
+        Arguments.of(false, "$other * 2"),
+        Arguments.of(false, "."),
+        Arguments.of(false, "@id"),
+        Arguments.of(false, "child/@id"),
+        Arguments.of(false, "//child"),
+        Arguments.of(false, "string()"),
+        Arguments.of(false, "current-dateTime()"),
+        Arguments.of(false, "for $x in (1, 2) return $x"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideValues")
+  void testFocusIndependence(boolean expected, @NonNull String metapath) {
+    assertEquals(
+        expected,
+        MetapathExpression.compile(metapath).isFocusIndependent(INVARIANT_VARIABLES),
+        metapath);
+  }
+}
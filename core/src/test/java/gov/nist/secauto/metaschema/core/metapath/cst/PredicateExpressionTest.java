@@ -5,17 +5,23 @@
 
 package gov.nist.secauto.metaschema.core.metapath.cst;
 
+import static gov.nist.secauto.metaschema.core.metapath.TestUtils.bool;
+import static gov.nist.secauto.metaschema.core.metapath.TestUtils.integer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
 import gov.nist.secauto.metaschema.core.metapath.ExpressionTestBase;
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IAssemblyNodeItem;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 
 import org.jmock.Expectations;
 import org.jmock.Mockery;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -112,4 +118,28 @@ class PredicateExpressionTest
     ISequence<?> result = expr.accept(dynamicContext, ISequence.of(item));
     assertEquals(ISequence.of(item), result, "Sequence does not match");
   }
+
+  private static Stream<Arguments> providePositionalValues() { // NOPMD - false positive
+    return Stream.of(
+        Arguments.of(ISequence.of(integer(2)), "(1, 2, 3)[2]"),
+        Arguments.of(ISequence.empty(), "(1, 2, 3)[4]"),
+        Arguments.of(ISequence.empty(), "(1, 2, 3)[0]"),
+        Arguments.of(ISequence.of(integer(2)), "(1, 2, 3)[2][1]"),
+        Arguments.of(ISequence.empty(), "(1, 2, 3)[2][2]"),
+        Arguments.of(ISequence.of(integer(2)), "(1, 2, 3)[2][. = 2]"),
+        Arguments.of(ISequence.empty(), "(1, 2, 3)[2][. = 3]"),
+        Arguments.of(ISequence.of(integer(2), integer(3)), "(1, 2, 3)[. > 1]"),
+        Arguments.of(ISequence.of(bool(true)), "exists((1, 2, 3)[. > 1])"),
+        Arguments.of(ISequence.of(bool(true)), "empty((1, 2, 3)[. > 3])"),
+        Arguments.of(ISequence.of(integer(2)), "head((1, 2, 3)[. > 1])"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("providePositionalValues")
+  void testPositionalPredicates(@NonNull ISequence<?> expected, @NonNull String metapath) {
+    assertEquals(
+        expected,
+        MetapathExpression.compile(metapath).evaluateAs(null, MetapathExpression.ResultType.SEQUENCE,
+            newDynamicContext()));
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
+import gov.nist.secauto.metaschema.core.util.CollectionUtil;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class SubtreeAccessAnalyzerTest {
+  @NonNull
+  private static final Set<QName> UNAVAILABLE_VARIABLES = CollectionUtil.singleton(new QName("outer"));
+
+  private static Stream<Arguments> provideValues() { // NOPMD - false positive
+    return Stream.of(
+        Arguments.of(true, "."),
+        Arguments.of(true, "@id"),
+        Arguments.of(true, "child/@id"),
+        Arguments.of(true, ".//child"),
+        Arguments.of(true, "count(child) > 1"),
+        Arguments.of(true, "$local * 2"),
+        Arguments.of(false, "$outer * 2"),
+        Arguments.of(false, ".."),
+        Arguments.of(false, "ancestor::root"),
+        Arguments.of(false, "/root/child"),
+        Arguments.of(false, "//child"),
+        Arguments.of(false, "following-sibling::child"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideValues")
+  void testSubtreeLocal(boolean expected, @NonNull String metapath) {
+    assertEquals(
+        expected,
+        MetapathExpression.compile(metapath).isSubtreeLocal(UNAVAILABLE_VARIABLES),
+        metapath);
+  }
+
+  @Test
+  void testAccessedNames() {
+    assertEquals(
+        Set.of(new QName("a"), new QName("b"), new QName("id")),
+        MetapathExpression.compile("a/b/@id = 'x'").getAccessedNames());
+    assertNull(MetapathExpression.compile("*/@id").getAccessedNames());
+    assertNull(MetapathExpression.compile(".//b").getAccessedNames());
+    // any node in the document may be accessed
+    assertNull(MetapathExpression.compile("//b").getAccessedNames());
+  }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.cst.path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.ExpressionTestBase;
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDefinitionNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IRootAssemblyNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.MockNodeItemFactory;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Checks that the list-based evaluation of axes and named steps selects the
+ * same nodes, in the same order, as the generic stream-based evaluation.
+ */
+class AxisTest
+    extends ExpressionTestBase {
+  @NonNull
+  private static final QName ROOT = new QName(NS, "root");
+  @NonNull
+  private static final QName TITLE = new QName(NS, "title");
+  @NonNull
+  private static final QName GROUP = new QName(NS, "group");
+  @NonNull
+  private static final QName ITEM = new QName(NS, "item");
+  @NonNull
+  private static final QName EMPTY = new QName(NS, "empty");
+  @NonNull
+  private static final QName SINGLE = new QName(NS, "single");
+  @NonNull
+  private static final QName ID = new QName("id");
+  @NonNull
+  private static final QName LANG = new QName("lang");
+  @NonNull
+  private static final QName MISSING = new QName(NS, "missing");
+
+  @NonNull
+  private static final List<QName> NAMES = ObjectUtils.notNull(
+      List.of(ROOT, TITLE, GROUP, ITEM, EMPTY, SINGLE, ID, LANG, MISSING));
+
+  @NonNull
+  private static IDocumentNodeItem newDocument() {
+    MockNodeItemFactory factory = new MockNodeItemFactory();
+
+    return factory.document(ObjectUtils.notNull(URI.create("http://example.com/content")), ROOT,
+        List.of(factory.flag(ID, IStringItem.valueOf("root-id"))),
+        List.of(
+            // mixed flag, field and assembly children
+            factory.field(TITLE, IStringItem.valueOf("root title"),
+                List.of(factory.flag(LANG, IStringItem.valueOf("en")))),
+            factory.assembly(GROUP,
+                List.of(factory.flag(ID, IStringItem.valueOf("group-id"))),
+                List.of(
+                    factory.field(TITLE, IStringItem.valueOf("group title")),
+                    factory.assembly(ITEM,
+                        List.of(factory.flag(ID, IStringItem.valueOf("item-1"))),
+                        List.of(factory.field(TITLE, IStringItem.valueOf("item title")))),
+                    factory.assembly(ITEM,
+                        List.of(factory.flag(ID, IStringItem.valueOf("item-2"))),
+                        List.of()))),
+            // no flags or children
+            factory.assembly(EMPTY, List.of(), List.of()),
+            // a single child
+            factory.assembly(SINGLE, List.of(),
+                List.of(factory.field(TITLE, IStringItem.valueOf("single title"))))));
+  }
+
+  /**
+   * Get the focus sequences to evaluate against.
+   *
+   * @param document
+   *          the document to get the focus nodes from
+   * @return the focus sequences by description
+   */
+  @NonNull
+  private static Map<String, List<INodeItem>> newFocuses(@NonNull IDocumentNodeItem document) {
+    IRootAssemblyNodeItem root = document.getRootAssemblyNodeItem();
+    INodeItem group = first(root, GROUP);
+    INodeItem item = first(group, ITEM);
+
+    Map<String, List<INodeItem>> retval = new LinkedHashMap<>();
+    retval.put("no focus", List.of());
+    retval.put("document", List.of(document));
+    retval.put("root", List.of(root));
+    retval.put("empty", List.of(first(root, EMPTY)));
+    retval.put("single", List.of(first(root, SINGLE)));
+    // duplicate and nested focus nodes
+    retval.put("multiple", List.of(root, group, item, group, document));
+    return retval;
+  }
+
+  @NonNull
+  private static INodeItem first(@NonNull INodeItem parent, @NonNull QName name) {
+    return ObjectUtils.notNull(parent.getModelItemsByName(name).iterator().next());
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = Axis.class, names = { "SELF", "FLAG", "CHILDREN" })
+  void testAccept(@NonNull Axis axis) {
+    DynamicContext dynamicContext = newDynamicContext();
+    newFocuses(newDocument()).forEach((description, focus) -> assertEquals(
+        selectGeneric(axis, focus),
+        axis.accept(dynamicContext, ISequence.copyOf(focus)).getValue(),
+        description));
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = Axis.class, names = { "SELF", "FLAG", "CHILDREN", "DESCENDANT", "DESCENDANT_OR_SELF" })
+  void testAcceptNamed(@NonNull Axis axis) {
+    newFocuses(newDocument()).forEach((description, focus) -> {
+      for (QName name : NAMES) {
+        assert name != null;
+        assertEquals(
+            selectGenericNamed(axis, focus, name),
+            axis.acceptNamed(ISequence.copyOf(focus), name).getValue(),
+            description + " " + name);
+      }
+    });
+  }
+
+  @Test
+  void testNamedFlagStep() {
+    DynamicContext dynamicContext = newDynamicContext();
+    Flag wildcard = new Flag(new Wildcard(null));
+    newFocuses(newDocument()).forEach((description, focus) -> {
+      List<INodeItem> all = new ArrayList<>(wildcard.accept(dynamicContext, ISequence.copyOf(focus)).getValue());
+      for (QName name : NAMES) {
+        assert name != null;
+        assertEquals(
+            filterNamed(all, name),
+            new Flag(new NameTest(name)).accept(dynamicContext, ISequence.copyOf(focus)).getValue(),
+            description + " " + name);
+      }
+    });
+  }
+
+  @Test
+  void testNamedModelInstanceStep() {
+    DynamicContext dynamicContext = newDynamicContext();
+    ModelInstance wildcard = new ModelInstance(new Wildcard(null));
+    newFocuses(newDocument()).forEach((description, focus) -> {
+      List<INodeItem> all = new ArrayList<>(wildcard.accept(dynamicContext, ISequence.copyOf(focus)).getValue());
+      for (QName name : NAMES) {
+        assert name != null;
+        assertEquals(
+            filterNamed(all, name),
+            new ModelInstance(new NameTest(name)).accept(dynamicContext, ISequence.copyOf(focus)).getValue(),
+            description + " " + name);
+      }
+    });
+  }
+
+  @Test
+  void testNameTest() {
+    DynamicContext dynamicContext = newDynamicContext();
+    newFocuses(newDocument()).forEach((description, focus) -> {
+      for (QName name : NAMES) {
+        assert name != null;
+        assertEquals(
+            filterNamed(focus, name),
+            new NameTest(name).accept(dynamicContext, ISequence.copyOf(focus)).getValue(),
+            description + " " + name);
+      }
+    });
+  }
+
+  /**
+   * Select the nodes on the axis using the generic stream-based evaluation.
+   *
+   * @param axis
+   *          the axis to evaluate
+   * @param focus
+   *          the focus nodes
+   * @return the selected nodes
+   */
+  @NonNull
+  private static List<INodeItem> selectGeneric(@NonNull Axis axis, @NonNull List<INodeItem> focus) {
+    return ObjectUtils.notNull(focus.stream()
+        .flatMap(node -> axis.execute(ObjectUtils.notNull(node)))
+        .distinct()
+        .collect(Collectors.toList()));
+  }
+
+  @NonNull
+  private static List<INodeItem> selectGenericNamed(
+      @NonNull Axis axis,
+      @NonNull List<INodeItem> focus,
+      @NonNull QName name) {
+    return filterNamed(selectGeneric(axis, focus), name);
+  }
+
+  @NonNull
+  private static List<INodeItem> filterNamed(@NonNull List<? extends INodeItem> nodes, @NonNull QName name) {
+    return ObjectUtils.notNull(nodes.stream()
+        .filter(node -> node instanceof IDefinitionNodeItem
+            && name.equals(((IDefinitionNodeItem<?, ?>) node).getQName()))
+        .collect(Collectors.toList()));
+  }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.xml.namespace.QName;
 
@@ -560,4 +561,44 @@ class StepTest
             ObjectUtils.requireNonNull(nodeA.getModelItemsByName(new QName(NS, "y"))).iterator().next(),
             ObjectUtils.requireNonNull(nodeA.getModelItemsByName(new QName(NS, "z"))).iterator().next()));
   }
+
+  @Test
+  void testDescendantAxisByName() {
+    DynamicContext dynamicContext = newDynamicContext();
+
+    IDocumentNodeItem document = getTestNodeItem();
+    QName nameX = new QName(NS, "x");
+
+    IModelNodeItem<?, ?> node2
+        = ObjectUtils.requireNonNull(MetapathExpression.compile("/root/node-2", dynamicContext.getStaticContext())
+            .evaluateAs(document, MetapathExpression.ResultType.ITEM, dynamicContext));
+
+    // from the document, all matching nodes are selected
+    Assertions.assertThat(MetapathExpression.compile("descendant::x", dynamicContext.getStaticContext())
+        .evaluate(document, dynamicContext).getValue())
+        .hasSize(9)
+        .isEqualTo(document.descendant()
+            .filter(item -> nameX.equals(item.getQName()))
+            .collect(Collectors.toList()));
+
+    // from a node, only the matching nodes within that node are selected
+    List<? extends IModelNodeItem<?, ?>> expected = node2.descendant()
+        .filter(item -> nameX.equals(item.getQName()))
+        .collect(Collectors.toList());
+    Assertions.assertThat(MetapathExpression.compile("descendant::x", dynamicContext.getStaticContext())
+        .evaluate(node2, dynamicContext).getValue())
+        .hasSize(3)
+        .isEqualTo(expected);
+
+    // overlapping focus nodes do not produce duplicates
+    Assertions.assertThat(MetapathExpression.compile("(., a)/descendant::x", dynamicContext.getStaticContext())
+        .evaluate(node2, dynamicContext).getValue())
+        .isEqualTo(expected);
+
+    IModelNodeItem<?, ?> nodeA
+        = ObjectUtils.requireNonNull(node2.getModelItemsByName(new QName(NS, "a"))).iterator().next();
+    Assertions.assertThat(MetapathExpression.compile("descendant-or-self::a", dynamicContext.getStaticContext())
+        .evaluate(nodeA, dynamicContext).getValue())
+        .isEqualTo(List.of(nodeA));
+  }
 }
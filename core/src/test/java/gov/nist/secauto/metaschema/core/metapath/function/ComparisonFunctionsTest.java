@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.function;
+
+import static gov.nist.secauto.metaschema.core.metapath.TestUtils.string;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import gov.nist.secauto.metaschema.core.metapath.ISequence;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IBooleanItem;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class ComparisonFunctionsTest {
+
+  @NonNull
+  private static ISequence<IStringItem> strings(@NonNull String... values) {
+    List<IStringItem> items = Stream.of(values)
+        .map(value -> string(ObjectUtils.notNull(value)))
+        .collect(Collectors.toList());
+    return ISequence.ofCollection(ObjectUtils.notNull(items));
+  }
+
+  private static Stream<Arguments> provideValuesGeneralComparison() {
+    ISequence<IStringItem> left = strings("c", "d", "e", "f", "g");
+    ISequence<IStringItem> overlapping = strings("g", "h", "i", "j", "k");
+    ISequence<IStringItem> disjoint = strings("h", "i", "j", "k", "l");
+    ISequence<IStringItem> same = strings("a", "a", "a", "a", "a");
+
+    return Stream.of(
+        Arguments.of(left, ComparisonFunctions.Operator.EQ, overlapping, true),
+        Arguments.of(left, ComparisonFunctions.Operator.EQ, disjoint, false),
+        Arguments.of(same, ComparisonFunctions.Operator.NE, same, false),
+        Arguments.of(same, ComparisonFunctions.Operator.NE, left, true),
+        Arguments.of(left, ComparisonFunctions.Operator.LT, disjoint, true),
+        Arguments.of(disjoint, ComparisonFunctions.Operator.LT, left, false),
+        Arguments.of(left, ComparisonFunctions.Operator.LE, overlapping, true),
+        Arguments.of(left, ComparisonFunctions.Operator.GT, disjoint, false),
+        Arguments.of(overlapping, ComparisonFunctions.Operator.GE, left, true),
+        Arguments.of(left, ComparisonFunctions.Operator.GE, disjoint, false));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideValuesGeneralComparison")
+  void testGeneralComparison(
+      @NonNull ISequence<IStringItem> left,
+      @NonNull ComparisonFunctions.Operator operator,
+      @NonNull ISequence<IStringItem> right,
+      boolean expected) {
+    // the value-based result must match the result of comparing each pair
+    boolean pairwise = left.getValue().stream()
+        .anyMatch(leftItem -> right.getValue().stream()
+            .anyMatch(rightItem -> ComparisonFunctions.stringCompare(
+                ObjectUtils.notNull(leftItem),
+                operator,
+                ObjectUtils.notNull(rightItem)).toBoolean()));
+
+    assertEquals(expected, pairwise);
+    assertEquals(IBooleanItem.valueOf(expected), ComparisonFunctions.generalCompairison(left, operator, right));
+  }
+}
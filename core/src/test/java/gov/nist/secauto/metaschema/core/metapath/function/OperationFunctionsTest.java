@@ -7,15 +7,20 @@ package gov.nist.secauto.metaschema.core.metapath.function;
 
 import static gov.nist.secauto.metaschema.core.metapath.TestUtils.decimal;
 import static gov.nist.secauto.metaschema.core.metapath.TestUtils.integer;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import gov.nist.secauto.metaschema.core.metapath.function.library.FunctionTestBase;
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IIntegerItem;
 import gov.nist.secauto.metaschema.core.metapath.item.atomic.INumericItem;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.math.BigInteger;
 import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -38,4 +43,36 @@ class OperationFunctionsTest
       @NonNull INumericItem divisor) {
     assertEquals(expected, OperationFunctions.opNumericMod(dividend, divisor));
   }
+
+  private static Stream<Arguments> provideValuesIntegerOverflow() {
+    IIntegerItem max = IIntegerItem.valueOf(Long.MAX_VALUE);
+    IIntegerItem min = IIntegerItem.valueOf(Long.MIN_VALUE);
+    BigInteger bigMax = BigInteger.valueOf(Long.MAX_VALUE);
+    BigInteger bigMin = BigInteger.valueOf(Long.MIN_VALUE);
+
+    return Stream.of(
+        Arguments.of(bigMax.add(BigInteger.ONE), OperationFunctions.opNumericAdd(max, integer(1))),
+        Arguments.of(bigMin.subtract(BigInteger.ONE), OperationFunctions.opNumericSubtract(min, integer(1))),
+        Arguments.of(bigMax.multiply(bigMax), OperationFunctions.opNumericMultiply(max, max)),
+        Arguments.of(bigMin.negate(), OperationFunctions.opNumericUnaryMinus(min)),
+        // an operand larger than a long
+        Arguments.of(bigMax.multiply(bigMax).subtract(bigMax),
+            OperationFunctions.opNumericSubtract(IIntegerItem.valueOf(bigMax.multiply(bigMax)), max)));
+  }
+
+  @ParameterizedTest
+  @MethodSource("provideValuesIntegerOverflow")
+  void testIntegerOverflow(@NonNull BigInteger expected, @NonNull INumericItem actual) {
+    assertEquals(IIntegerItem.valueOf(expected), actual);
+  }
+
+  @Test
+  void testSmallIntegerResultsAreShared() {
+    assertAll(
+        () -> assertSame(integer(5), OperationFunctions.opNumericAdd(integer(2), integer(3))),
+        () -> assertSame(integer(-1), OperationFunctions.opNumericSubtract(integer(2), integer(3))),
+        () -> assertSame(integer(6), OperationFunctions.opNumericMultiply(integer(2), integer(3))),
+        () -> assertSame(integer(-2), OperationFunctions.opNumericUnaryMinus(integer(2))),
+        () -> assertSame(IIntegerItem.ZERO, OperationFunctions.opNumericSubtract(integer(3), integer(3))));
+  }
 }
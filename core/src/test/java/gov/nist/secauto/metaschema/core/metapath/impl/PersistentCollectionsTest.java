@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class PersistentCollectionsTest {
+  private static final int COUNT = 5000;
+
+  /**
+   * A key with a poor hash code, used to force hash collisions.
+   */
+  private static final class CollidingKey {
+    private final int value;
+
+    private CollidingKey(int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+      return value % 7;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof CollidingKey && ((CollidingKey) obj).value == value;
+    }
+  }
+
+  @Test
+  void testMapPlusAndMinus() {
+    Map<Integer, String> expected = new HashMap<>();
+    PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+    for (int i = 0; i < COUNT; i++) {
+      map = map.plus(i, "value-" + i);
+      expected.put(i, "value-" + i);
+    }
+
+    PersistentHashMap<Integer, String> full = map;
+    for (int i = 0; i < COUNT; i += 2) {
+      map = map.minus(i);
+      expected.remove(i);
+    }
+
+    PersistentHashMap<Integer, String> result = map;
+    assertAll(
+        () -> assertEquals(expected, result),
+        () -> assertEquals(expected.hashCode(), result.hashCode()),
+        () -> assertEquals(COUNT / 2, result.size()),
+        () -> assertNull(result.get(0)),
+        () -> assertEquals("value-1", result.get(1)),
+        // the original map is unchanged
+        () -> assertEquals(COUNT, full.size()),
+        () -> assertEquals("value-0", full.get(0)),
+        () -> assertSame(full, full.plus(1, "value-1")),
+        () -> assertSame(result, result.minus(0)));
+  }
+
+  @Test
+  void testMapCollisions() {
+    Map<CollidingKey, Integer> expected = new HashMap<>();
+    PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+    for (int i = 0; i < 100; i++) {
+      map = map.plus(new CollidingKey(i), i);
+      expected.put(new CollidingKey(i), i);
+    }
+    map = map.plus(new CollidingKey(3), -3);
+    expected.put(new CollidingKey(3), -3);
+    for (int i = 0; i < 100; i += 3) {
+      map = map.minus(new CollidingKey(i));
+      expected.remove(new CollidingKey(i));
+    }
+
+    PersistentHashMap<CollidingKey, Integer> result = map;
+    assertAll(
+        () -> assertEquals(expected, result),
+        () -> assertEquals(expected.size(), result.size()),
+        () -> assertFalse(result.containsKey(new CollidingKey(3))),
+        () -> assertEquals(4, result.get(new CollidingKey(4))));
+  }
+
+  @Test
+  void testVectorPlusAndWith() {
+    List<String> expected = new ArrayList<>();
+    PersistentVector<String> vector = PersistentVector.empty();
+    for (int i = 0; i < COUNT; i++) {
+      vector = vector.plus("value-" + i);
+      expected.add("value-" + i);
+    }
+
+    PersistentVector<String> full = vector;
+    for (int i = 0; i < COUNT; i += 3) {
+      vector = vector.with(i, "replaced-" + i);
+      expected.set(i, "replaced-" + i);
+    }
+
+    PersistentVector<String> result = vector;
+    assertAll(
+        () -> assertEquals(expected, result),
+        () -> assertEquals(COUNT, result.size()),
+        // the original vector is unchanged
+        () -> assertEquals("value-0", full.get(0)),
+        () -> assertEquals("value-" + (COUNT - 1), full.get(COUNT - 1)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> result.get(COUNT)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> result.with(-1, "value")));
+  }
+
+  @Test
+  void testCopyOf() {
+    List<Integer> list = List.of(1, 2, 3);
+    Map<String, Integer> map = Map.of("a", 1, "b", 2);
+
+    PersistentVector<Integer> vector = PersistentVector.copyOf(list);
+    PersistentHashMap<String, Integer> hashMap = PersistentHashMap.copyOf(map);
+    assertAll(
+        () -> assertEquals(list, vector),
+        () -> assertSame(vector, PersistentVector.copyOf(vector)),
+        () -> assertEquals(map, hashMap),
+        () -> assertSame(hashMap, PersistentHashMap.copyOf(hashMap)));
+  }
+}
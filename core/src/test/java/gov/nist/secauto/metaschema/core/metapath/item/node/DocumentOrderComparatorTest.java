@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.core.testing.MockedModelTestSupport;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.jmock.Expectations;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class DocumentOrderComparatorTest
+    extends MockedModelTestSupport {
+  @NonNull
+  private static final URI NS_URI = ObjectUtils.notNull(URI.create("http://example.com/ns"));
+  @NonNull
+  private static final String NS = ObjectUtils.notNull(NS_URI.toASCIIString());
+
+  @Test
+  void testDocumentOrder() {
+    IAssemblyDefinition assembly = assembly()
+        .namespace(NS_URI)
+        .name("assembly1")
+        .flags(List.of(
+            flag().namespace(NS_URI).name("flag1")))
+        .modelInstances(List.of(
+            field().namespace(NS_URI).name("field1")))
+        .toDefinition();
+
+    Object assemblyValue = "assembly value";
+    Object flagValue = "flag1 value";
+    Object fieldValue1 = "field1 value 1";
+    Object fieldValue2 = "field1 value 2";
+
+    getContext().checking(new Expectations() {
+      { // NOPMD - intentional
+        allowing(assembly.getFlagInstanceByName(new QName(NS, "flag1"))).getValue(assemblyValue);
+        will(returnValue(flagValue));
+        allowing(assembly.getNamedModelInstanceByName(new QName(NS, "field1"))).getValue(assemblyValue);
+        will(returnValue(List.of(fieldValue1, fieldValue2)));
+        allowing(assembly.getNamedModelInstanceByName(new QName(NS, "field1")))
+            .getItemValues(List.of(fieldValue1, fieldValue2));
+        will(returnValue(List.of(fieldValue1, fieldValue2)));
+      }
+    });
+
+    IAssemblyNodeItem parentItem = INodeItemFactory.instance().newAssemblyNodeItem(assembly, null, assemblyValue);
+    IFlagNodeItem flagItem = parentItem.getFlags().iterator().next();
+    List<? extends IModelNodeItem<?, ?>> fieldItems = parentItem.getModelItemsByName(new QName(NS, "field1"));
+
+    // the expected document order
+    List<INodeItem> expected = List.of(parentItem, flagItem, fieldItems.get(0), fieldItems.get(1));
+
+    List<INodeItem> actual = new ArrayList<>(List.of(fieldItems.get(1), flagItem, fieldItems.get(0), parentItem));
+    actual.sort(INodeItem.documentOrder());
+
+    assertEquals(expected, actual);
+  }
+
+  @SuppressWarnings("PMD.CompareObjectsWithEquals")
+  @Test
+  void testDifferentDocuments() {
+    MockNodeItemFactory factory = new MockNodeItemFactory();
+    List<INodeItem> fields = IntStream.range(0, 100)
+        .mapToObj(index -> factory.document(
+            NS_URI,
+            new QName(NS, "root"),
+            List.of(),
+            List.of(factory.field(new QName(NS, "field1"), IStringItem.valueOf("value " + index)))))
+        .<INodeItem>map(document -> document.getRootAssemblyNodeItem().modelItems().findFirst().get())
+        .collect(Collectors.toList());
+
+    Comparator<INodeItem> comparator = INodeItem.documentOrder();
+    for (INodeItem first : fields) {
+      for (INodeItem second : fields) {
+        if (first != second) {
+          int result = comparator.compare(first, second);
+          // nodes in different documents are never equal, and are ordered consistently
+          assertNotEquals(0, result);
+          assertEquals(-Integer.signum(result), Integer.signum(comparator.compare(second, first)));
+        }
+      }
+    }
+  }
+}
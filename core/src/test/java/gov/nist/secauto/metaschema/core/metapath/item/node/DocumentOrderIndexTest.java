@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.metapath.item.node;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+import gov.nist.secauto.metaschema.core.metapath.item.atomic.IStringItem;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.namespace.QName;
+
+class DocumentOrderIndexTest {
+  private static final String NS = "http://example.com/ns";
+
+  @Test
+  void testNumbering() {
+    MockNodeItemFactory factory = new MockNodeItemFactory();
+
+    IDocumentNodeItem document = factory.document(
+        ObjectUtils.notNull(URI.create("http://example.com/content")),
+        new QName(NS, "root"),
+        List.of(),
+        List.of(
+            factory.assembly(new QName(NS, "a"),
+                List.of(factory.flag(new QName("flag"), IStringItem.valueOf("a-flag"))),
+                List.of(
+                    factory.field(new QName(NS, "x"), IStringItem.valueOf("a-x")))),
+            factory.assembly(new QName(NS, "b"),
+                List.of(),
+                List.of(
+                    factory.field(new QName(NS, "x"), IStringItem.valueOf("b-x"))))));
+
+    IRootAssemblyNodeItem root = document.getRootAssemblyNodeItem();
+    IModelNodeItem<?, ?> nodeA = root.getModelItemsByName(new QName(NS, "a")).iterator().next();
+    IModelNodeItem<?, ?> nodeB = root.getModelItemsByName(new QName(NS, "b")).iterator().next();
+    IFlagNodeItem flag = ObjectUtils.requireNonNull(nodeA.getFlagByName(new QName("flag")));
+    IModelNodeItem<?, ?> nodeAx = nodeA.getModelItemsByName(new QName(NS, "x")).iterator().next();
+    IModelNodeItem<?, ?> nodeBx = nodeB.getModelItemsByName(new QName(NS, "x")).iterator().next();
+
+    DocumentOrderIndex index = document.getDocumentOrderIndex();
+
+    assertAll(
+        () -> assertEquals(0, index.getPosition(document)),
+        () -> assertEquals(1, index.getPosition(root)),
+        () -> assertEquals(2, index.getPosition(nodeA)),
+        () -> assertEquals(3, index.getPosition(flag)),
+        () -> assertEquals(4, index.getPosition(nodeAx)),
+        () -> assertEquals(5, index.getPosition(nodeB)),
+        () -> assertEquals(6, index.getPosition(nodeBx)),
+        () -> assertTrue(index.isAncestor(root, nodeBx)),
+        () -> assertTrue(index.isAncestor(nodeA, flag)),
+        () -> assertFalse(index.isAncestor(nodeA, nodeBx)),
+        () -> assertFalse(index.isAncestor(nodeBx, nodeB)),
+        () -> assertEquals(List.of(nodeB, nodeBx), index.following(nodeAx).collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeA, nodeAx), index.preceding(nodeBx).collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeB, nodeBx), nodeA.following().collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeA, nodeAx), nodeB.preceding().collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeBx), index.descendantsWithin(List.of(nodeAx, nodeBx), nodeB)),
+        () -> assertEquals(List.of(nodeAx, nodeBx), index.descendantsWithin(List.of(nodeAx, nodeBx), root)),
+        () -> assertEquals(List.of(), index.descendantsWithin(List.of(nodeAx, nodeBx), nodeBx)));
+  }
+
+  @Test
+  void testNodeNotInIndex() {
+    MockNodeItemFactory factory = new MockNodeItemFactory();
+
+    IAssemblyNodeItem nodeA = factory.assembly(new QName(NS, "a"),
+        List.of(),
+        List.of(factory.field(new QName(NS, "x"), IStringItem.valueOf("a-x"))));
+    IAssemblyNodeItem nodeB = factory.assembly(new QName(NS, "b"),
+        List.of(),
+        List.of(factory.field(new QName(NS, "x"), IStringItem.valueOf("b-x"))));
+
+    IDocumentNodeItem document = factory.document(
+        ObjectUtils.notNull(URI.create("http://example.com/content")),
+        new QName(NS, "root"),
+        List.of(),
+        List.of(nodeA, nodeB));
+    IRootAssemblyNodeItem root = document.getRootAssemblyNodeItem();
+    IModelNodeItem<?, ?> nodeAx = nodeA.getModelItemsByName(new QName(NS, "x")).iterator().next();
+    IModelNodeItem<?, ?> nodeBx = nodeB.getModelItemsByName(new QName(NS, "x")).iterator().next();
+
+    // index the document, then add a node between the existing nodes
+    DocumentOrderIndex index = document.getDocumentOrderIndex();
+    doReturn(index).when(document).getDocumentOrderIndex();
+
+    IFieldNodeItem added = factory.field(new QName(NS, "c"), IStringItem.valueOf("c"));
+    factory.handleChildren(root, List.of(), List.of(nodeA, added, nodeB));
+
+    assertAll(
+        () -> assertFalse(index.contains(added)),
+        () -> assertEquals(List.of(nodeB, nodeBx), added.following().collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeA, nodeAx), added.preceding().collect(Collectors.toList())),
+        // nodes in the index still use it
+        () -> assertEquals(List.of(nodeB, nodeBx), nodeA.following().collect(Collectors.toList())),
+        () -> assertEquals(List.of(nodeA, nodeAx), nodeB.preceding().collect(Collectors.toList())));
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.constraint.impl;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItem;
+import gov.nist.secauto.metaschema.core.model.constraint.IKeyField;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+class CompactIndexTest {
+
+  @Test
+  void testUuidKeys() {
+    CompactIndex index = new CompactIndex(List.of(mock(IKeyField.class)));
+
+    List<String> keys = new ArrayList<>();
+    List<INodeItem> items = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      keys.add(UUID.randomUUID().toString());
+      INodeItem item = mock(INodeItem.class);
+      items.add(item);
+      assertNull(index.put(item, List.of(keys.get(i))));
+    }
+
+    INodeItem duplicate = mock(INodeItem.class);
+    assertAll(
+        () -> assertEquals(1000, index.size()),
+        () -> {
+          for (int i = 0; i < 1000; i++) {
+            assertSame(items.get(i), index.get(List.of(keys.get(i))));
+          }
+        },
+        // upper-case UUIDs do not match, since they are different strings
+        () -> assertNull(index.get(List.of(keys.get(0).toUpperCase())),
+            "upper-case uuid"),
+        () -> assertSame(items.get(1), index.put(duplicate, List.of(keys.get(1)))),
+        () -> assertSame(duplicate, index.get(List.of(keys.get(1)))));
+  }
+
+  @Test
+  void testCompositeKeys() {
+    CompactIndex index = new CompactIndex(List.of(mock(IKeyField.class), mock(IKeyField.class)));
+
+    INodeItem item1 = mock(INodeItem.class);
+    INodeItem item2 = mock(INodeItem.class);
+    INodeItem item3 = mock(INodeItem.class);
+
+    assertAll(
+        () -> assertNull(index.put(item1, List.of("a", "bc"))),
+        () -> assertNull(index.put(item2, List.of("ab", "c"))),
+        () -> assertNull(index.put(item3, Arrays.asList("a", null))),
+        // keys with only null values are not stored
+        () -> assertNull(index.put(item3, Arrays.asList(null, null))),
+        () -> assertEquals(3, index.size()),
+        () -> assertSame(item1, index.get(List.of("a", "bc"))),
+        () -> assertSame(item2, index.get(List.of("ab", "c"))),
+        () -> assertSame(item3, index.get(Arrays.asList("a", null))),
+        () -> assertNull(index.get(List.of("a", "b"))));
+  }
+}
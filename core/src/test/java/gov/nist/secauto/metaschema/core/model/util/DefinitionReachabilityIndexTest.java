@@ -0,0 +1,43 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.core.model.IAssemblyDefinition;
+import gov.nist.secauto.metaschema.core.model.MetaschemaException;
+import gov.nist.secauto.metaschema.core.model.xml.IXmlMetaschemaModule;
+import gov.nist.secauto.metaschema.core.model.xml.ModuleLoader;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import javax.xml.namespace.QName;
+
+class DefinitionReachabilityIndexTest {
+  private static final String NS = "http://csrc.nist.gov/ns/test/metaschema/constraint-targeting-test";
+
+  @Test
+  void testRecursiveDefinition() throws MetaschemaException, IOException {
+    ModuleLoader loader = new ModuleLoader();
+    IXmlMetaschemaModule module = loader.load(
+        ObjectUtils.notNull(Paths.get("src/test/resources/content/issue184-metaschema.xml")));
+    IAssemblyDefinition definition = module.getExportedRootAssemblyDefinitions().iterator().next();
+
+    assertTrue(DefinitionReachabilityIndex.canContainModelInstance(definition, new QName(NS, "b")));
+    assertTrue(DefinitionReachabilityIndex.canContainModelInstance(definition, new QName(NS, "c")));
+    // the root name is not the name of an instance
+    assertFalse(DefinitionReachabilityIndex.canContainModelInstance(definition, new QName(NS, "a")));
+    assertFalse(DefinitionReachabilityIndex.canContainModelInstance(definition, new QName(NS, "d")));
+
+    assertTrue(DefinitionReachabilityIndex.canContainFlagInstance(definition, new QName("value")));
+    assertFalse(DefinitionReachabilityIndex.canContainFlagInstance(definition, new QName("other")));
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.core.model.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.SAXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+import javax.xml.validation.ValidatorHandler;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class ContentValidatorCacheTest {
+  @NonNull
+  private static final String INT_SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+      + "<xs:element name=\"root\" type=\"xs:int\"/>"
+      + "</xs:schema>";
+  @NonNull
+  private static final String STRING_SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+      + "<xs:element name=\"root\" type=\"xs:string\"/>"
+      + "</xs:schema>";
+
+  @BeforeEach
+  @AfterEach
+  void clearCache() {
+    ContentValidatorCache.clearCache();
+  }
+
+  @NonNull
+  private static XmlSchemaContentValidator newValidator(@NonNull String schema) throws SAXException {
+    return new XmlSchemaContentValidator(
+        ObjectUtils.notNull(List.of(new StreamSource(new StringReader(schema)))));
+  }
+
+  @NonNull
+  private static IValidationResult validate(
+      @NonNull IContentValidator validator,
+      @NonNull String content,
+      @NonNull URI documentUri) throws IOException {
+    return validator.validate(
+        new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+        documentUri);
+  }
+
+  @Test
+  void testCacheHit() throws SAXException {
+    AtomicInteger loads = new AtomicInteger();
+    String key = ContentValidatorCache.toContentKey(INT_SCHEMA);
+    // the statistics are not reset when the cache is cleared
+    long hits = ContentValidatorCache.getCacheStats().hitCount();
+
+    XmlSchemaContentValidator first = ContentValidatorCache.getValidator(XmlSchemaContentValidator.class, key, () -> {
+      loads.incrementAndGet();
+      return newValidator(INT_SCHEMA);
+    });
+    XmlSchemaContentValidator second = ContentValidatorCache.getValidator(XmlSchemaContentValidator.class, key, () -> {
+      loads.incrementAndGet();
+      return newValidator(INT_SCHEMA);
+    });
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+    assertEquals(hits + 1, ContentValidatorCache.getCacheStats().hitCount());
+  }
+
+  @Test
+  void testContentKey() {
+    assertEquals(
+        ContentValidatorCache.toContentKey(INT_SCHEMA),
+        ContentValidatorCache.toContentKey(new StringBuilder(INT_SCHEMA)));
+    assertNotEquals(
+        ContentValidatorCache.toContentKey(INT_SCHEMA),
+        ContentValidatorCache.toContentKey(STRING_SCHEMA));
+  }
+
+  @Test
+  void testChangedContentIsRecompiled() throws SAXException, IOException {
+    AtomicInteger loads = new AtomicInteger();
+    URI documentUri = ObjectUtils.notNull(URI.create("http://example.com/content.xml"));
+
+    XmlSchemaContentValidator before = ContentValidatorCache.getValidator(
+        XmlSchemaContentValidator.class,
+        ContentValidatorCache.toContentKey(STRING_SCHEMA),
+        () -> {
+          loads.incrementAndGet();
+          return newValidator(STRING_SCHEMA);
+        });
+    assertTrue(validate(before, "<root>x</root>", documentUri).isPassing());
+
+    // the schema changed, so a cached validator for the old schema must not be used
+    XmlSchemaContentValidator after = ContentValidatorCache.getValidator(
+        XmlSchemaContentValidator.class,
+        ContentValidatorCache.toContentKey(INT_SCHEMA),
+        () -> {
+          loads.incrementAndGet();
+          return newValidator(INT_SCHEMA);
+        });
+
+    assertNotSame(before, after);
+    assertEquals(2, loads.get());
+    assertFalse(validate(after, "<root>x</root>", documentUri).isPassing());
+  }
+
+  @Test
+  void testValidatorPoolReuseUnderConcurrency()
+      throws SAXException, InterruptedException, ExecutionException {
+    int threadCount = 4;
+    int validationCount = 200;
+
+    CountingSchema schema = new CountingSchema(ObjectUtils.notNull(
+        SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+            .newSchema(new StreamSource(new StringReader(INT_SCHEMA)))));
+    XmlSchemaContentValidator validator = new XmlSchemaContentValidator(schema);
+
+    List<Callable<Boolean>> validations = new ArrayList<>(validationCount);
+    for (int i = 0; i < validationCount; i++) {
+      // alternate valid and invalid content, to check that each validation gets
+      // its own findings
+      boolean valid = i % 2 == 0;
+      String content = valid ? "<root>" + i + "</root>" : "<root>item " + i + "</root>";
+      URI documentUri = ObjectUtils.notNull(URI.create("http://example.com/content-" + i + ".xml"));
+      validations.add(() -> {
+        IValidationResult result = validate(validator, content, documentUri);
+        return valid == result.isPassing()
+            && result.getFindings().stream()
+                .allMatch(finding -> documentUri.equals(
+                    ((XmlSchemaContentValidator.XmlValidationFinding) finding).getDocumentUri()));
+      });
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      for (Future<Boolean> result : executor.invokeAll(validations)) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // idle validators are reused, so no more are created than are used at once
+    assertTrue(schema.getValidatorCount() <= threadCount,
+        "created " + schema.getValidatorCount() + " validators");
+  }
+
+  /**
+   * A schema that counts the validators created from it.
+   */
+  private static final class CountingSchema
+      extends Schema {
+    @NonNull
+    private final Schema delegate;
+    @NonNull
+    private final AtomicInteger validatorCount = new AtomicInteger();
+
+    private CountingSchema(@NonNull Schema delegate) {
+      this.delegate = delegate;
+    }
+
+    public int getValidatorCount() {
+      return validatorCount.get();
+    }
+
+    @Override
+    public Validator newValidator() {
+      validatorCount.incrementAndGet();
+      return delegate.newValidator();
+    }
+
+    @Override
+    public ValidatorHandler newValidatorHandler() {
+      return delegate.newValidatorHandler();
+    }
+  }
+}
@@ -38,6 +38,8 @@ import gov.nist.secauto.metaschema.databind.io.Format;
 import gov.nist.secauto.metaschema.databind.io.IBoundLoader;
 import gov.nist.secauto.metaschema.databind.io.IDeserializer;
 import gov.nist.secauto.metaschema.databind.io.ISerializer;
+import gov.nist.secauto.metaschema.databind.io.ReplayableContent;
+import gov.nist.secauto.metaschema.databind.io.StreamingConstraintValidator;
 import gov.nist.secauto.metaschema.databind.io.yaml.YamlOperations;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModel;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
@@ -507,6 +509,11 @@ public interface IBindingContext {
   /**
    * Load and perform schema and constraint validation on the target. The
    * constraint validation will only be performed if the schema validation passes.
+   * <p>
+   * The target is read once and its content is held for both validations, in
+   * memory or in a temporary file for large content. If
+   * {@link ValidationFeature#VALIDATE_STREAMING} is enabled, the target is
+   * instead read again for each validation.
    *
    * @param target
    *          the target to validate
@@ -526,11 +533,33 @@ public interface IBindingContext {
       @NonNull ISchemaValidationProvider schemaProvider,
       @Nullable IConfiguration<ValidationFeature<?>> config) throws IOException {
 
-    IValidationResult retval = schemaProvider.validateWithSchema(target, asFormat, this);
+    IValidationResult retval;
+    if (config != null && config.isFeatureEnabled(ValidationFeature.VALIDATE_STREAMING)) {
+      // the resource is read for each validation, instead of being held, to keep the
+      // memory used bounded
+      retval = schemaProvider.validateWithSchema(target, asFormat, this);
+
+      if (retval.isPassing()) {
+        IValidationResult constraintValidationResult = validateWithConstraints(target, config);
+        retval = AggregateValidationResult.aggregate(retval, constraintValidationResult);
+      }
+    } else {
+      // read the resource once, since it is parsed for both schema and constraint
+      // validation
+      try (InputStream resource = ObjectUtils.notNull(target.toURL().openStream());
+          ReplayableContent content = ReplayableContent.read(resource)) {
+        try (InputStream is = content.newInputStream()) {
+          retval = schemaProvider.validateWithSchema(target, asFormat, is, this);
+        }
 
-    if (retval.isPassing()) {
-      IValidationResult constraintValidationResult = validateWithConstraints(target, config);
-      retval = AggregateValidationResult.aggregate(retval, constraintValidationResult);
+        if (retval.isPassing()) {
+          IValidationResult constraintValidationResult;
+          try (InputStream is = content.newInputStream()) {
+            constraintValidationResult = validateWithConstraints(target, asFormat, is, config);
+          }
+          retval = AggregateValidationResult.aggregate(retval, constraintValidationResult);
+        }
+      }
     }
     return retval;
   }
@@ -538,6 +567,9 @@ public interface IBindingContext {
   /**
    * Load and validate the provided {@code target} using the associated Module
    * module constraints.
+   * <p>
+   * If {@link ValidationFeature#VALIDATE_STREAMING} is enabled, the target is
+   * validated while it is being read using a {@link StreamingConstraintValidator}.
    *
    * @param target
    *          the file to load and validate
@@ -553,9 +585,62 @@ public interface IBindingContext {
       throws IOException {
     IBoundLoader loader = newBoundLoader();
     loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
-    IDocumentNodeItem nodeItem = loader.loadAsNodeItem(target);
 
-    return validate(nodeItem, loader, config);
+    IValidationResult retval;
+    if (config != null && config.isFeatureEnabled(ValidationFeature.VALIDATE_STREAMING)) {
+      FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
+      IConstraintValidator validator = newValidator(handler, config);
+      new StreamingConstraintValidator(validator, loader).validate(target);
+      retval = handler;
+    } else {
+      IDocumentNodeItem nodeItem = loader.loadAsNodeItem(target);
+      retval = validate(nodeItem, loader, config);
+    }
+    return retval;
+  }
+
+  /**
+   * Load and validate the provided resource content, expressed using the provided
+   * {@code format}, using the associated Module module constraints.
+   * <p>
+   * If {@link ValidationFeature#VALIDATE_STREAMING} is enabled, the content is
+   * validated while it is being read using a {@link StreamingConstraintValidator}.
+   * <p>
+   * This method will not close the provided {@link InputStream}, since it does
+   * not own the stream.
+   *
+   * @param documentUri
+   *          the URI of the resource
+   * @param format
+   *          the format of the content
+   * @param is
+   *          the resource content
+   * @param config
+   *          the validation configuration
+   * @return the validation results
+   * @throws IOException
+   *           if an error occurred while parsing the content
+   */
+  default IValidationResult validateWithConstraints(
+      @NonNull URI documentUri,
+      @NonNull Format format,
+      @NonNull InputStream is,
+      @Nullable IConfiguration<ValidationFeature<?>> config)
+      throws IOException {
+    IBoundLoader loader = newBoundLoader();
+    loader.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+
+    IValidationResult retval;
+    if (config != null && config.isFeatureEnabled(ValidationFeature.VALIDATE_STREAMING)) {
+      FindingCollectingConstraintValidationHandler handler = new FindingCollectingConstraintValidationHandler();
+      IConstraintValidator validator = newValidator(handler, config);
+      new StreamingConstraintValidator(validator, loader).validate(format, is, documentUri);
+      retval = handler;
+    } else {
+      IDocumentNodeItem nodeItem = loader.loadAsNodeItem(format, is, documentUri);
+      retval = validate(nodeItem, loader, config);
+    }
+    return retval;
   }
 
   /**
@@ -822,29 +907,54 @@ public interface IBindingContext {
         throws FileNotFoundException, IOException {
       URL targetResource = ObjectUtils.notNull(target.toURL());
 
+      try (InputStream is = new BufferedInputStream(ObjectUtils.notNull(targetResource.openStream()))) {
+        return validateWithSchema(target, asFormat, is, bindingContext);
+      }
+    }
+
+    /**
+     * Validate the provided resource content.
+     * <p>
+     * This method will not close the provided {@link InputStream}, since it does
+     * not own the stream.
+     *
+     * @param target
+     *          the URI of the resource to validate
+     * @param asFormat
+     *          the format to validate the content as
+     * @param is
+     *          the resource content
+     * @param bindingContext
+     *          the Metaschema binding context used to load bound resources
+     * @return the validation result
+     * @throws IOException
+     *           if an error occurred while reading the content
+     */
+    @NonNull
+    default IValidationResult validateWithSchema(
+        @NonNull URI target,
+        @NonNull Format asFormat,
+        @NonNull InputStream is,
+        @NonNull IBindingContext bindingContext)
+        throws IOException {
       IValidationResult retval;
       switch (asFormat) {
       case JSON: {
-        JSONObject json;
-        try (@SuppressWarnings("resource")
-        InputStream is
-            = new BufferedInputStream(ObjectUtils.notNull(targetResource.openStream()))) {
-          json = new JSONObject(new JSONTokener(is));
-        }
+        JSONObject json = new JSONObject(new JSONTokener(is));
         retval = getJsonSchema(json, bindingContext).validate(json, target);
         break;
       }
       case XML:
         try {
-          retval = getXmlSchemas(targetResource, bindingContext).validate(target);
+          retval = getXmlSchemas(ObjectUtils.notNull(target.toURL()), bindingContext).validate(is, target);
         } catch (SAXException ex) {
           throw new IOException(ex);
         }
         break;
       case YAML: {
-        JSONObject json = YamlOperations.yamlToJson(YamlOperations.parseYaml(target));
+        JSONObject json = YamlOperations.yamlToJson(YamlOperations.parseYaml(is));
         assert json != null;
-        retval = getJsonSchema(json, bindingContext).validate(json, ObjectUtils.notNull(target));
+        retval = getJsonSchema(json, bindingContext).validate(json, target);
         break;
       }
       default:
@@ -24,9 +24,9 @@ import gov.nist.secauto.metaschema.databind.codegen.ClassUtils;
 import gov.nist.secauto.metaschema.databind.codegen.typeinfo.def.IAssemblyDefinitionTypeInfo;
 import gov.nist.secauto.metaschema.databind.codegen.typeinfo.def.IModelDefinitionTypeInfo;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.Set;
 
 import javax.lang.model.element.Modifier;
@@ -187,7 +187,7 @@ abstract class AbstractNamedModelInstanceTypeInfo<INSTANCE extends INamedModelIn
               .addStatement("$T value = $T.requireNonNull($N,\"$N cannot be null\")",
                   itemType, ObjectUtils.class, valueParam, valueParam)
               .beginControlFlow("if ($N == null)", valueField)
-              .addStatement("$N = new $T<>()", valueField, LinkedList.class)
+              .addStatement("$N = new $T<>()", valueField, ArrayList.class)
               .endControlFlow()
               .addStatement("return $N.add(value)", valueField);
 
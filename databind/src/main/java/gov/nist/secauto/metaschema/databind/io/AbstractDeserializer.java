@@ -25,6 +25,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * The base class of all format-specific deserializers.
@@ -38,6 +39,8 @@ public abstract class AbstractDeserializer<CLASS extends IBoundObject>
 
   private IConstraintValidationHandler constraintValidationHandler;
   private final Lock handlerLock = new ReentrantLock();
+  @Nullable
+  private volatile IModelItemReadListener modelItemReadListener;
 
   /**
    * Construct a new deserializer.
@@ -80,6 +83,16 @@ public abstract class AbstractDeserializer<CLASS extends IBoundObject>
     }
   }
 
+  @Override
+  public IModelItemReadListener getModelItemReadListener() {
+    return modelItemReadListener;
+  }
+
+  @Override
+  public void setModelItemReadListener(@Nullable IModelItemReadListener listener) {
+    this.modelItemReadListener = listener;
+  }
+
   @Override
   public INodeItem deserializeToNodeItem(Reader reader, URI documentUri) throws IOException {
 
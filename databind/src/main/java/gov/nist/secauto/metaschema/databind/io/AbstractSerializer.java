@@ -9,8 +9,15 @@ import gov.nist.secauto.metaschema.core.configuration.IConfiguration;
 import gov.nist.secauto.metaschema.core.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * The base class of all format-specific serializers.
@@ -59,4 +66,46 @@ public abstract class AbstractSerializer<CLASS extends IBoundObject>
     configurationChanged(config);
     return this;
   }
+
+  @Override
+  public void serialize(IBoundObject data, Writer writer) throws IOException {
+    serialize(data, writer, null);
+  }
+
+  /**
+   * Write data from a bound class instance to the {@link Writer}.
+   *
+   * @param data
+   *          the instance data
+   * @param writer
+   *          the writer to write to
+   * @param itemOverride
+   *          the items to write in place of the value of a model instance, or
+   *          {@code null} if the values of all instances are written
+   * @throws IOException
+   *           if an error occurred while writing data to the stream
+   */
+  protected abstract void serialize(
+      @NonNull IBoundObject data,
+      @NonNull Writer writer,
+      @Nullable IWritingContext.ItemOverride itemOverride) throws IOException;
+
+  @Override
+  public <ITEM> void serialize(
+      IBoundObject data,
+      Class<ITEM> itemClass,
+      Iterator<? extends ITEM> items,
+      Writer writer) throws IOException {
+    IBoundDefinitionModelAssembly definition = getDefinition();
+    IBoundInstanceModel<?> instance = definition.getModelInstances().stream()
+        .filter(modelInstance -> List.class.isAssignableFrom(modelInstance.getField().getType())
+            && itemClass.equals(modelInstance.getCollectionInfo().getItemType()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(
+            String.format("The definition '%s' does not have a list-based model instance with items of type '%s'.",
+                definition.toCoordinates(),
+                itemClass.getName())));
+
+    serialize(data, writer, new IWritingContext.ItemOverride(data, instance, items));
+  }
 }
@@ -211,6 +211,38 @@ public class DefaultBoundLoader
     return deserializer.deserialize(is, documentUri);
   }
 
+  @Override
+  public <CLASS extends IBoundObject, ITEM extends IBoundObject> CLASS stream(
+      Class<CLASS> clazz,
+      URI uri,
+      Class<ITEM> itemClass,
+      IBoundItemHandler<? super ITEM> handler) throws IOException {
+    URI resourceUri = resolve(uri);
+    URL resource = resourceUri.toURL();
+
+    try (InputStream is = ObjectUtils.notNull(resource.openStream())) {
+      FormatDetector.Result match = getFormatDetector().detect(is);
+      Format format = match.getFormat();
+
+      IDeserializer<CLASS> deserializer = getDeserializer(clazz, format, getConfiguration());
+      // the streamed items are released, so the remaining content cannot be
+      // validated
+      deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+      deserializer.setModelItemReadListener((instance, parentItem, item) -> {
+        boolean retain = true;
+        if (itemClass.isInstance(item)) {
+          handler.handle(ObjectUtils.notNull(itemClass.cast(item)));
+          retain = false;
+        }
+        return retain;
+      });
+
+      try (InputStream remainingStream = match.getDataStream()) {
+        return deserializer.deserialize(remainingStream, resourceUri);
+      }
+    }
+  }
+
   @Override
   public IDocumentNodeItem loadAsNodeItem(URI uri) throws IOException {
     URI resourceUri = resolve(uri);
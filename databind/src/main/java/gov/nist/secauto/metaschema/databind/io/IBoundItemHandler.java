@@ -0,0 +1,30 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import java.io.IOException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Handles bound items as they are streamed from a resource.
+ *
+ * @param <ITEM>
+ *          the Java type of the handled items
+ * @see IBoundLoader#stream(Class, java.net.URI, Class, IBoundItemHandler)
+ */
+@FunctionalInterface
+public interface IBoundItemHandler<ITEM> {
+  /**
+   * Handle an item that has been completely read.
+   *
+   * @param item
+   *          the item to handle
+   * @throws IOException
+   *           if an error occurred while handling the item
+   */
+  void handle(@NonNull ITEM item) throws IOException;
+}
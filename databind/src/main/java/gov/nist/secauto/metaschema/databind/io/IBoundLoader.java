@@ -463,6 +463,81 @@ public interface IBoundLoader extends IDocumentLoader, IMutableConfiguration<Des
       @NonNull InputStream is,
       @NonNull URI documentUri) throws IOException;
 
+  /**
+   * Load data from the specified resource into a bound object with the type of
+   * the specified Java class, passing each item of a multi-valued model instance
+   * that has the type of the specified item class to the provided handler as
+   * soon as it is read.
+   * <p>
+   * Items are matched at any depth, not only as children of the root object.
+   * Each handled item is removed from its parent: it is not added to the
+   * parent's collection for the model instance, so a parent whose items were all
+   * handled has an empty or {@code null} collection. Items of the item class
+   * that are the value of a single-valued model instance are not streamed and
+   * are retained. This allows a resource with a large number of such items to
+   * be processed using memory bounded by the size of the remaining content,
+   * since only the objects that contain the item being read are retained.
+   * <p>
+   * Constraint validation is not performed on the loaded data, since the handled
+   * items are no longer part of the resulting object.
+   *
+   * @param <CLASS>
+   *          the Java type to load data into
+   * @param <ITEM>
+   *          the Java type of the streamed items
+   * @param clazz
+   *          the class for the java type
+   * @param uri
+   *          the resource to load
+   * @param itemClass
+   *          the class of the items to stream
+   * @param handler
+   *          the handler to pass each streamed item to
+   * @return the loaded instance data, without the streamed items
+   * @throws IOException
+   *           if an error occurred while loading the data in the specified file,
+   *           or while handling a streamed item
+   */
+  @NonNull
+  <CLASS extends IBoundObject, ITEM extends IBoundObject> CLASS stream(
+      @NonNull Class<CLASS> clazz,
+      @NonNull URI uri,
+      @NonNull Class<ITEM> itemClass,
+      @NonNull IBoundItemHandler<? super ITEM> handler) throws IOException;
+
+  /**
+   * Load data from the specified resource into a bound object with the type of
+   * the specified Java class, passing each item of a multi-valued model instance
+   * that has the type of the specified item class to the provided handler as
+   * soon as it is read.
+   *
+   * @param <CLASS>
+   *          the Java type to load data into
+   * @param <ITEM>
+   *          the Java type of the streamed items
+   * @param clazz
+   *          the class for the java type
+   * @param path
+   *          the resource to load
+   * @param itemClass
+   *          the class of the items to stream
+   * @param handler
+   *          the handler to pass each streamed item to
+   * @return the loaded instance data, without the streamed items
+   * @throws IOException
+   *           if an error occurred while loading the data in the specified file,
+   *           or while handling a streamed item
+   * @see #stream(Class, URI, Class, IBoundItemHandler)
+   */
+  @NonNull
+  default <CLASS extends IBoundObject, ITEM extends IBoundObject> CLASS stream(
+      @NonNull Class<CLASS> clazz,
+      @NonNull Path path,
+      @NonNull Class<ITEM> itemClass,
+      @NonNull IBoundItemHandler<? super ITEM> handler) throws IOException {
+    return stream(clazz, ObjectUtils.notNull(path.toUri()), itemClass, handler);
+  }
+
   /**
    * Get the configured Module binding context to use to load Java types.
    *
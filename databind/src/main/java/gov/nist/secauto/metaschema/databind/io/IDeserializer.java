@@ -25,6 +25,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
  * Implementations of this interface are able to read structured data into a
@@ -74,6 +75,26 @@ public interface IDeserializer<CLASS extends IBoundObject> extends IMutableConfi
    */
   void setConstraintValidationHandler(@NonNull IConstraintValidationHandler handler);
 
+  /**
+   * Get the listener notified of each item read for a multi-valued model
+   * instance.
+   *
+   * @return the listener, or {@code null} if no listener is configured
+   */
+  @Nullable
+  IModelItemReadListener getModelItemReadListener();
+
+  /**
+   * Set the listener notified of each item read for a multi-valued model
+   * instance.
+   * <p>
+   * Items released by the listener will not be part of the deserialized data.
+   *
+   * @param listener
+   *          the listener to use, or {@code null} to not use a listener
+   */
+  void setModelItemReadListener(@Nullable IModelItemReadListener listener);
+
   /**
    * Read data from the {@link InputStream} into a bound class instance.
    *
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import gov.nist.secauto.metaschema.core.model.IBoundObject;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
+
+import java.io.IOException;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides a callback for each item of a multi-valued model instance, which is
+ * called as soon as the item has been completely read.
+ * <p>
+ * This allows an item to be processed while the remainder of the document is
+ * still being read. The listener decides if the item is retained by its parent
+ * object or released.
+ */
+@FunctionalInterface
+public interface IModelItemReadListener {
+  /**
+   * Handle an item that has been completely read.
+   *
+   * @param instance
+   *          the model instance the item was read for
+   * @param parentItem
+   *          the object the item will be added to, which may still be in the
+   *          process of being read
+   * @param item
+   *          the item that was read
+   * @return {@code true} if the item is to be added to the parent object, or
+   *         {@code false} if the item is to be released
+   * @throws IOException
+   *           if an error occurred while handling the item
+   */
+  boolean handleItem(
+      @NonNull IBoundInstanceModel<?> instance,
+      @NonNull IBoundObject parentItem,
+      @NonNull Object item) throws IOException;
+}
@@ -20,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -109,4 +110,37 @@ public interface ISerializer<CLASS extends IBoundObject> extends IMutableConfigu
    *           if an error occurred while writing data to the stream
    */
   void serialize(@NonNull IBoundObject data, @NonNull Writer writer) throws IOException;
+
+  /**
+   * Write data from a bound class instance to the {@link Writer}, writing the
+   * items of a collection from the provided iterator as they are produced.
+   * <p>
+   * The collection is the first list-based model instance of the bound class
+   * whose items have the type of the provided item class. The items are written
+   * in place of the instance's value, which is neither read nor modified, and
+   * are not retained once written. This allows a producer to generate a large
+   * collection, with the memory used bounded by the number of items the
+   * producer holds at any one time.
+   *
+   * @param <ITEM>
+   *          the Java type of the streamed items
+   * @param data
+   *          the instance data
+   * @param itemClass
+   *          the class of the streamed items
+   * @param items
+   *          the iterator providing the items to write
+   * @param writer
+   *          the writer to write to
+   * @throws IOException
+   *           if an error occurred while writing data to the stream
+   * @throws IllegalArgumentException
+   *           if the bound class does not have a list-based model instance with
+   *           items of the provided class
+   */
+  <ITEM> void serialize(
+      @NonNull IBoundObject data,
+      @NonNull Class<ITEM> itemClass,
+      @NonNull Iterator<? extends ITEM> items,
+      @NonNull Writer writer) throws IOException;
 }
@@ -7,9 +7,11 @@ package gov.nist.secauto.metaschema.databind.io;
 
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
 import gov.nist.secauto.metaschema.databind.model.info.IFeatureComplexItemValueHandler;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 
@@ -58,4 +60,68 @@ public interface IWritingContext<WRITER> {
       };
     }
   }
+
+  /**
+   * Provides the items to write for a model instance of a specific parent
+   * object, in place of the instance's value.
+   * <p>
+   * The items are written as the iterator produces them, and are not retained.
+   */
+  final class ItemOverride {
+    @NonNull
+    private final IBoundObject parentItem;
+    @NonNull
+    private final IBoundInstanceModel<?> instance;
+    @NonNull
+    private final Iterator<?> items;
+
+    /**
+     * Construct a new item override.
+     *
+     * @param parentItem
+     *          the object containing the instance to override
+     * @param instance
+     *          the model instance whose items are provided
+     * @param items
+     *          the iterator providing the items to write
+     */
+    public ItemOverride(
+        @NonNull IBoundObject parentItem,
+        @NonNull IBoundInstanceModel<?> instance,
+        @NonNull Iterator<?> items) {
+      this.parentItem = parentItem;
+      this.instance = instance;
+      this.items = items;
+    }
+
+    /**
+     * Determine if this override provides the items for the provided instance of
+     * the provided parent object.
+     *
+     * @param parentItem
+     *          the object containing the instance
+     * @param instance
+     *          the model instance
+     * @return {@code true} if the items are overridden, or {@code false}
+     *         otherwise
+     */
+    public boolean isOverridden(@NonNull Object parentItem, @NonNull IBoundInstanceModel<?> instance) {
+      // the parent is matched by identity, since the same definition may be used at
+      // multiple levels of the content
+      return this.parentItem == parentItem && this.instance.equals(instance);
+    }
+
+    /**
+     * Get the iterator providing the items to write.
+     *
+     * @param <ITEM>
+     *          the Java type of the items
+     * @return the iterator
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    public <ITEM> Iterator<ITEM> getItems() {
+      return (Iterator<ITEM>) items;
+    }
+  }
 }
@@ -0,0 +1,137 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Holds the content of a resource, so that it can be read more than once
+ * without reading the resource again.
+ * <p>
+ * Content up to a memory limit is held in memory. Larger content is written to
+ * a temporary file, which is deleted when this object is closed.
+ */
+public final class ReplayableContent implements Closeable {
+  /**
+   * The default number of bytes of content that is held in memory.
+   */
+  public static final int DEFAULT_MEMORY_LIMIT = 8 * 1024 * 1024;
+
+  @Nullable
+  private final byte[] bytes;
+  @Nullable
+  private final Path file;
+
+  /**
+   * Read the content of the provided stream, holding up to
+   * {@link #DEFAULT_MEMORY_LIMIT} bytes in memory.
+   * <p>
+   * This method will not close the provided {@link InputStream}, since it does
+   * not own the stream.
+   *
+   * @param is
+   *          the stream to read the content from
+   * @return the content
+   * @throws IOException
+   *           if an error occurred while reading the content
+   */
+  @NonNull
+  public static ReplayableContent read(@NonNull InputStream is) throws IOException {
+    return read(is, DEFAULT_MEMORY_LIMIT);
+  }
+
+  /**
+   * Read the content of the provided stream, holding up to the provided number
+   * of bytes in memory.
+   * <p>
+   * This method will not close the provided {@link InputStream}, since it does
+   * not own the stream.
+   *
+   * @param is
+   *          the stream to read the content from
+   * @param memoryLimit
+   *          the number of bytes to hold in memory, beyond which the content is
+   *          written to a temporary file
+   * @return the content
+   * @throws IOException
+   *           if an error occurred while reading the content
+   */
+  @NonNull
+  public static ReplayableContent read(@NonNull InputStream is, int memoryLimit) throws IOException {
+    byte[] head = is.readNBytes(memoryLimit);
+
+    ReplayableContent retval;
+    if (head.length < memoryLimit) {
+      retval = new ReplayableContent(head, null);
+    } else {
+      // the content may exceed the limit, so write it to a file
+      Path file = ObjectUtils.notNull(Files.createTempFile("metaschema-content-", ".tmp"));
+      try (OutputStream os = Files.newOutputStream(file)) {
+        os.write(head);
+        is.transferTo(os);
+      } catch (IOException ex) {
+        Files.deleteIfExists(file);
+        throw ex;
+      }
+      retval = new ReplayableContent(null, file);
+    }
+    return retval;
+  }
+
+  private ReplayableContent(@Nullable byte[] bytes, @Nullable Path file) {
+    this.bytes = bytes;
+    this.file = file;
+  }
+
+  /**
+   * Determine if the content is held in memory.
+   *
+   * @return {@code true} if the content is held in memory, or {@code false} if
+   *         it was written to a temporary file
+   */
+  public boolean isInMemory() {
+    return file == null;
+  }
+
+  /**
+   * Get a new stream that reads the content from the start.
+   * <p>
+   * The caller owns the returned stream and must close it.
+   *
+   * @return the stream
+   * @throws IOException
+   *           if an error occurred while opening the temporary file
+   */
+  @NonNull
+  public InputStream newInputStream() throws IOException {
+    InputStream retval;
+    if (file == null) {
+      retval = new ByteArrayInputStream(ObjectUtils.requireNonNull(bytes));
+    } else {
+      retval = new BufferedInputStream(Files.newInputStream(file));
+    }
+    return retval;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (file != null) {
+      Files.deleteIfExists(file);
+    }
+  }
+}
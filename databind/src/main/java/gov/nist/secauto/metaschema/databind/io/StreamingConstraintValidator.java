@@ -0,0 +1,224 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import gov.nist.secauto.metaschema.core.metapath.DynamicContext;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IAssemblyNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.core.metapath.item.node.INodeItemFactory;
+import gov.nist.secauto.metaschema.core.model.IAssemblyInstance;
+import gov.nist.secauto.metaschema.core.model.IBoundObject;
+import gov.nist.secauto.metaschema.core.model.constraint.IConstraintValidator;
+import gov.nist.secauto.metaschema.core.model.constraint.SubtreeIndependenceAnalyzer;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.IBindingContext;
+import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Performs constraint validation on a resource while it is being read.
+ * <p>
+ * Each item of a top-level assembly instance that can be validated
+ * independently, as determined by {@link SubtreeIndependenceAnalyzer}, is
+ * validated as soon as it is read and is then released. The rest of the
+ * document is validated once reading completes, followed by validation of any
+ * collected index and key references. If no item can be validated
+ * independently, the reason is logged and the whole document is validated once
+ * reading completes.
+ * <p>
+ * The memory used is bounded by the size of the retained content and of the
+ * content targeted by index and key reference constraints, instead of the size
+ * of the document. The nodes targeted by an {@code index} or
+ * {@code index-has-key} constraint, along with the content below them, are kept
+ * until the key references are validated at the end of validation, since they
+ * are used to report any findings. Documents with many such targets will use
+ * memory in proportion to these targets, even when streaming.
+ */
+public class StreamingConstraintValidator {
+  @NonNull
+  private final IConstraintValidator validator;
+  @NonNull
+  private final IBoundLoader loader;
+
+  /**
+   * Construct a new streaming validator.
+   *
+   * @param validator
+   *          the validator used to validate the content
+   * @param loader
+   *          the loader used to read the content and to resolve any referenced
+   *          resources
+   */
+  public StreamingConstraintValidator(
+      @NonNull IConstraintValidator validator,
+      @NonNull IBoundLoader loader) {
+    this.validator = validator;
+    this.loader = loader;
+  }
+
+  /**
+   * Read and validate the provided resource.
+   * <p>
+   * Findings are reported to the validator's handler.
+   *
+   * @param target
+   *          the resource to validate
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
+  public void validate(@NonNull URI target) throws IOException {
+    URI resourceUri = loader.resolve(target);
+    URL resource = resourceUri.toURL();
+
+    try (InputStream is = ObjectUtils.notNull(resource.openStream())) {
+      FormatDetector.Result formatMatch = loader.detectFormat(is);
+      Format format = formatMatch.getFormat();
+
+      try (InputStream formatStream = formatMatch.getDataStream()) {
+        validate(format, ObjectUtils.notNull(formatStream), resourceUri);
+      }
+    }
+  }
+
+  /**
+   * Read and validate the provided resource content, which is expressed using the
+   * provided format.
+   * <p>
+   * Findings are reported to the validator's handler.
+   * <p>
+   * This method will not close the provided {@link InputStream}, since it does
+   * not own the stream.
+   *
+   * @param format
+   *          the format of the content
+   * @param is
+   *          the resource content
+   * @param documentUri
+   *          the URI of the resource
+   * @throws IOException
+   *           if an error occurred while reading the resource
+   */
+  public void validate(
+      @NonNull Format format,
+      @NonNull InputStream is,
+      @NonNull URI documentUri) throws IOException {
+    try (ModelDetector.Result modelMatch = loader.detectModel(is, format)) {
+      validate(format, modelMatch, documentUri);
+    }
+  }
+
+  private void validate(
+      @NonNull Format format,
+      @NonNull ModelDetector.Result modelMatch,
+      @NonNull URI documentUri) throws IOException {
+    IBindingContext bindingContext = loader.getBindingContext();
+    Class<? extends IBoundObject> clazz = modelMatch.getBoundClass();
+    IBoundDefinitionModelAssembly rootDefinition
+        = (IBoundDefinitionModelAssembly) bindingContext.getBoundDefinitionForClass(clazz);
+    assert rootDefinition != null;
+
+    Session session = new Session(rootDefinition, documentUri);
+
+    IDeserializer<?> deserializer = bindingContext.newDeserializer(format, clazz);
+    deserializer.applyConfiguration(loader);
+    deserializer.disableFeature(DeserializationFeature.DESERIALIZE_VALIDATE_CONSTRAINTS);
+    deserializer.setModelItemReadListener(session);
+
+    IDocumentNodeItem document;
+    try (InputStream modelStream = modelMatch.getDataStream()) {
+      document = (IDocumentNodeItem) deserializer.deserializeToNodeItem(modelStream, documentUri);
+    }
+
+    // validate the retained content
+    DynamicContext dynamicContext = session.getDynamicContext(document);
+    validator.validate(document.getRootAssemblyNodeItem(), dynamicContext);
+    validator.finalizeValidation(dynamicContext);
+  }
+
+  /**
+   * Validates the items of the independent instances as they are read.
+   */
+  private final class Session implements IModelItemReadListener {
+    @NonNull
+    private final IBoundDefinitionModelAssembly rootDefinition;
+    @NonNull
+    private final URI documentUri;
+    @NonNull
+    private final Set<IAssemblyInstance> independentInstances;
+    @NonNull
+    private final Map<IBoundInstanceModel<?>, Integer> instancePositions = new HashMap<>();
+    @Nullable
+    private IDocumentNodeItem document;
+    @Nullable
+    private DynamicContext dynamicContext;
+
+    private Session(
+        @NonNull IBoundDefinitionModelAssembly rootDefinition,
+        @NonNull URI documentUri) {
+      this.rootDefinition = rootDefinition;
+      this.documentUri = documentUri;
+      this.independentInstances = SubtreeIndependenceAnalyzer.getIndependentInstances(rootDefinition);
+    }
+
+    /**
+     * Get the dynamic context used for validation, creating it if needed.
+     *
+     * @param document
+     *          the document used to create the context
+     * @return the dynamic context
+     */
+    @NonNull
+    private DynamicContext getDynamicContext(@NonNull IDocumentNodeItem document) {
+      DynamicContext retval = dynamicContext;
+      if (retval == null) {
+        retval = new DynamicContext(document.getStaticContext());
+        retval.setDocumentLoader(loader);
+        dynamicContext = retval;
+      }
+      return retval;
+    }
+
+    @Override
+    public boolean handleItem(
+        IBoundInstanceModel<?> instance,
+        IBoundObject parentItem,
+        Object item) {
+      if (!independentInstances.contains(instance)) {
+        // retain the item, since it is validated with the rest of the document
+        return true;
+      }
+
+      IDocumentNodeItem streamingDocument = document;
+      if (streamingDocument == null) {
+        // the parent's node item only provides context, since the subtree does not
+        // access it
+        streamingDocument = INodeItemFactory.instance().newDocumentNodeItem(rootDefinition, documentUri, parentItem);
+        document = streamingDocument;
+      }
+
+      // positions are one-based, matching the node items of a fully read document
+      int position = instancePositions.merge(instance, 1, Integer::sum);
+      IAssemblyNodeItem nodeItem = INodeItemFactory.instance().newAssemblyNodeItem(
+          (IAssemblyInstance) instance,
+          streamingDocument.getRootAssemblyNodeItem(),
+          position,
+          item);
+      validator.validate(nodeItem, getDynamicContext(streamingDocument));
+      return false;
+    }
+  }
+}
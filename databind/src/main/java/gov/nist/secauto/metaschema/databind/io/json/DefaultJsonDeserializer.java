@@ -96,7 +96,10 @@ public class DefaultJsonDeserializer<CLASS extends IBoundObject>
       throws IOException {
     INodeItem retval;
     try (JsonParser jsonParser = newJsonParser(reader)) {
-      MetaschemaJsonReader parser = new MetaschemaJsonReader(jsonParser);
+      MetaschemaJsonReader parser = new MetaschemaJsonReader(
+          jsonParser,
+          new DefaultJsonProblemHandler(),
+          getModelItemReadListener());
       IBoundDefinitionModelAssembly definition = getDefinition();
       IConfiguration<DeserializationFeature<?>> configuration = getConfiguration();
 
@@ -121,7 +124,10 @@ public class DefaultJsonDeserializer<CLASS extends IBoundObject>
   @Override
   public CLASS deserializeToValueInternal(@NonNull Reader reader, @NonNull URI documentUri) throws IOException {
     try (JsonParser jsonParser = newJsonParser(reader)) {
-      MetaschemaJsonReader parser = new MetaschemaJsonReader(jsonParser);
+      MetaschemaJsonReader parser = new MetaschemaJsonReader(
+          jsonParser,
+          new DefaultJsonProblemHandler(),
+          getModelItemReadListener());
       IBoundDefinitionModelAssembly definition = getDefinition();
       IConfiguration<DeserializationFeature<?>> configuration = getConfiguration();
 
@@ -13,6 +13,7 @@ import gov.nist.secauto.metaschema.core.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.io.AbstractSerializer;
+import gov.nist.secauto.metaschema.databind.io.IWritingContext;
 import gov.nist.secauto.metaschema.databind.io.SerializationFeature;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 
@@ -76,7 +77,10 @@ public class DefaultJsonSerializer<CLASS extends IBoundObject>
   }
 
   @Override
-  public void serialize(IBoundObject data, Writer writer) throws IOException {
+  protected void serialize(
+      IBoundObject data,
+      Writer writer,
+      IWritingContext.ItemOverride itemOverride) throws IOException {
     try (JsonGenerator generator = newJsonGenerator(writer)) {
       IBoundDefinitionModelAssembly definition = getDefinition();
 
@@ -88,7 +92,7 @@ public class DefaultJsonSerializer<CLASS extends IBoundObject>
         generator.writeFieldName(definition.getRootJsonName());
       }
 
-      MetaschemaJsonWriter jsonWriter = new MetaschemaJsonWriter(generator);
+      MetaschemaJsonWriter jsonWriter = new MetaschemaJsonWriter(generator, itemOverride);
       jsonWriter.write(definition, data);
 
       if (serializeRoot) {
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.model.IBoundProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A read and write plan for the JSON properties of a bound complex item.
+ * <p>
+ * Each property is assigned a fixed index, in the order the properties are
+ * written. This allows a reader to track which properties have been read using
+ * a simple array instead of copying the property mapping for each object read,
+ * and allows a writer to use property names that have already been encoded.
+ * <p>
+ * A table is created lazily by each bound complex definition or instance, and
+ * is retained with the binding.
+ */
+public final class JsonPropertyTable {
+  @NonNull
+  private final IBoundProperty<?>[] properties;
+  @NonNull
+  private final SerializableString[] names;
+  @NonNull
+  private final Map<String, Integer> indexes;
+
+  /**
+   * Construct a new property table for the provided JSON properties.
+   *
+   * @param jsonProperties
+   *          the mapping of JSON property names to property bindings, in the
+   *          order the properties are written
+   */
+  public JsonPropertyTable(@NonNull Map<String, IBoundProperty<?>> jsonProperties) {
+    int size = jsonProperties.size();
+    this.properties = new IBoundProperty<?>[size];
+    this.names = new SerializableString[size];
+    Map<String, Integer> indexes = new HashMap<>(); // NOPMD - not concurrent
+
+    int index = 0;
+    for (Map.Entry<String, IBoundProperty<?>> entry : jsonProperties.entrySet()) {
+      String name = entry.getKey();
+      properties[index] = entry.getValue();
+      names[index] = new SerializedString(name);
+      indexes.put(name, index);
+      index++;
+    }
+    this.indexes = indexes;
+  }
+
+  /**
+   * Get the number of properties in the table.
+   *
+   * @return the number of properties
+   */
+  public int size() {
+    return properties.length;
+  }
+
+  /**
+   * Get the index of the property with the provided JSON property name.
+   *
+   * @param name
+   *          the JSON property name
+   * @return the index of the property, or {@code -1} if no property has the name
+   */
+  public int indexOf(@NonNull String name) {
+    Integer retval = indexes.get(name);
+    return retval == null ? -1 : retval;
+  }
+
+  /**
+   * Get the property at the provided index.
+   *
+   * @param index
+   *          the index of the property
+   * @return the property
+   */
+  @NonNull
+  public IBoundProperty<?> getProperty(int index) {
+    return ObjectUtils.notNull(properties[index]);
+  }
+
+  /**
+   * Get the pre-encoded JSON property name of the property at the provided
+   * index.
+   *
+   * @param index
+   *          the index of the property
+   * @return the JSON property name
+   */
+  @NonNull
+  public SerializableString getName(int index) {
+    return ObjectUtils.notNull(names[index]);
+  }
+}
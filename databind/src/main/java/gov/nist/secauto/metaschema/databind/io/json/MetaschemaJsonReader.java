@@ -8,15 +8,16 @@ package gov.nist.secauto.metaschema.databind.io.json;
 import com.fasterxml.jackson.core.JsonLocation;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.model.IMetaschemaData;
 import gov.nist.secauto.metaschema.core.model.util.JsonUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.io.BindingException;
+import gov.nist.secauto.metaschema.databind.io.IModelItemReadListener;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelFieldComplex;
@@ -42,9 +43,9 @@ import org.apache.logging.log4j.Logger;
 import org.eclipse.jdt.annotation.NotOwning;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -68,6 +69,9 @@ public class MetaschemaJsonReader
   private final IJsonProblemHandler problemHandler;
   @NonNull
   private final Lazy<ObjectMapper> objectMapper;
+  @Nullable
+  private final IModelItemReadListener itemReadListener;
+  private int bufferedChoiceGroupItemCount;
 
   /**
    * Construct a new Module-aware JSON parser using the default problem handler.
@@ -98,8 +102,30 @@ public class MetaschemaJsonReader
   public MetaschemaJsonReader(
       @NonNull JsonParser parser,
       @NonNull IJsonProblemHandler problemHandler) throws IOException {
+    this(parser, problemHandler, null);
+  }
+
+  /**
+   * Construct a new Module-aware JSON parser that notifies the provided listener
+   * of each item read for a multi-valued model instance.
+   *
+   * @param parser
+   *          the JSON parser to parse with
+   * @param problemHandler
+   *          the problem handler implementation to use
+   * @param itemReadListener
+   *          the listener to notify, or {@code null} if no listener is used
+   * @throws IOException
+   *           if an error occurred while reading the JSON
+   */
+  @SuppressFBWarnings(value = "CT_CONSTRUCTOR_THROW", justification = "Use of final fields")
+  public MetaschemaJsonReader(
+      @NonNull JsonParser parser,
+      @NonNull IJsonProblemHandler problemHandler,
+      @Nullable IModelItemReadListener itemReadListener) throws IOException {
     this.problemHandler = problemHandler;
     this.objectMapper = ObjectUtils.notNull(Lazy.lazy(ObjectMapper::new));
+    this.itemReadListener = itemReadListener;
     push(parser);
   }
 
@@ -284,7 +310,7 @@ public class MetaschemaJsonReader
     return readFieldObject(
         parentItem,
         instance.getDefinition(),
-        instance.getJsonProperties(),
+        instance.getJsonPropertyTable(),
         instance.getEffectiveJsonKey(),
         getProblemHandler());
   }
@@ -304,7 +330,7 @@ public class MetaschemaJsonReader
         parentItem,
         definition,
         instance.getEffectiveJsonKey(),
-        new PropertyBodyHandler(instance.getJsonProperties()),
+        new PropertyBodyHandler(instance.getJsonPropertyTable()),
         actualProblemHandler);
   }
 
@@ -314,7 +340,7 @@ public class MetaschemaJsonReader
     return readFieldObject(
         parentItem,
         definition,
-        definition.getJsonProperties(),
+        definition.getJsonPropertyTable(),
         null,
         getProblemHandler());
   }
@@ -344,7 +370,7 @@ public class MetaschemaJsonReader
         parentItem,
         definition,
         jsonKey,
-        new PropertyBodyHandler(instance.getJsonProperties()),
+        new PropertyBodyHandler(instance.getJsonPropertyTable()),
         getProblemHandler());
   }
 
@@ -355,7 +381,7 @@ public class MetaschemaJsonReader
         parentItem,
         instance.getDefinition(),
         instance.getEffectiveJsonKey(),
-        new PropertyBodyHandler(instance.getJsonProperties()),
+        new PropertyBodyHandler(instance.getJsonPropertyTable()),
         new GroupedInstanceProblemHandler(instance, getProblemHandler()));
   }
 
@@ -366,7 +392,7 @@ public class MetaschemaJsonReader
         parentItem,
         definition,
         null,
-        new PropertyBodyHandler(definition.getJsonProperties()),
+        new PropertyBodyHandler(definition.getJsonPropertyTable()),
         getProblemHandler());
   }
 
@@ -380,7 +406,7 @@ public class MetaschemaJsonReader
   private IBoundObject readFieldObject(
       @Nullable IBoundObject parentItem,
       @NonNull IBoundDefinitionModelFieldComplex definition,
-      @NonNull Map<String, IBoundProperty<?>> jsonProperties,
+      @NonNull JsonPropertyTable jsonProperties,
       @Nullable IBoundInstanceFlag jsonKey,
       @NonNull IJsonProblemHandler problemHandler) throws IOException {
     IBoundInstanceFlag jsonValueKey = definition.getJsonValueKeyFlagInstance();
@@ -389,7 +415,7 @@ public class MetaschemaJsonReader
         : new JsomValueKeyProblemHandler(problemHandler, jsonValueKey);
 
     IBoundObject retval;
-    if (jsonProperties.isEmpty() && jsonValueKey == null) {
+    if (jsonProperties.size() == 0 && jsonValueKey == null) {
       retval = readComplexDefinitionObject(
           parentItem,
           definition,
@@ -455,37 +481,82 @@ public class MetaschemaJsonReader
   public IBoundObject readChoiceGroupItem(IBoundObject parentItem, IBoundInstanceModelChoiceGroup instance)
       throws IOException {
     JsonParser parser = getReader();
-    ObjectNode node = parser.readValueAsTree();
+    JsonUtil.assertCurrent(parser, JsonToken.START_OBJECT);
 
     String discriminatorProperty = instance.getJsonDiscriminatorProperty();
-    JsonNode discriminatorNode = node.get(discriminatorProperty);
-    if (discriminatorNode == null) {
+
+    // Read ahead only until the discriminator is found. Any properties before the
+    // discriminator are buffered, so they can be replayed ahead of the remaining
+    // properties, which are read directly from the parser.
+    TokenBuffer prefix = new TokenBuffer(parser);
+    prefix.writeStartObject();
+
+    boolean buffered = false;
+    String discriminator = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String propertyName = parser.currentName();
+      if (discriminatorProperty.equals(propertyName)) {
+        // advance to the value
+        parser.nextToken();
+        discriminator = parser.getValueAsString();
+        prefix.writeFieldName(propertyName);
+        prefix.copyCurrentEvent(parser);
+        break;
+      }
+      // copy the property name and value
+      prefix.copyCurrentStructure(parser);
+      buffered = true;
+    }
+
+    if (discriminator == null) {
       throw new IllegalArgumentException(String.format(
           "Unable to find discriminator property '%s' for object at '%s'.",
           discriminatorProperty,
           JsonUtil.toString(parser)));
     }
-    String discriminator = ObjectUtils.requireNonNull(discriminatorNode.asText());
+
+    if (buffered) {
+      bufferedChoiceGroupItemCount++;
+      if (LOGGER.isTraceEnabled()) {
+        LOGGER.trace("buffered properties preceding discriminator property '{}' {}",
+            discriminatorProperty,
+            JsonUtil.generateLocationMessage(parser));
+      }
+    }
 
     IBoundInstanceModelGroupedNamed actualInstance = instance.getGroupedModelInstance(discriminator);
     assert actualInstance != null;
 
-    IBoundObject retval;
-    try (JsonParser newParser = node.traverse(parser.getCodec())) {
-      push(newParser);
+    // the buffered prefix is read first, followed by the rest of the object from
+    // the parser
+    JsonParser prefixParser = prefix.asParser(parser.getCodec());
+    JsonParser sequence = JsonParserSequence.createFlattened(false, prefixParser, parser);
 
-      // get initial token
+    IBoundObject retval;
+    try {
+      push(sequence);
+      // reading the item will also advance the parser past the end of the object
       retval = actualInstance.readItem(parentItem, this);
-      assert newParser.currentToken() == null;
-      pop(newParser);
+      pop(sequence);
+    } finally {
+      // only close the buffer, since the parser is still in use
+      prefixParser.close();
+      prefix.close();
     }
-
-    // advance the original parser to the next token
-    parser.nextToken();
-
     return retval;
   }
 
+  /**
+   * Get the number of choice group items read so far whose discriminator
+   * property was not the first property of the object, requiring the preceding
+   * properties to be buffered.
+   *
+   * @return the number of buffered choice group items
+   */
+  public int getBufferedChoiceGroupItemCount() {
+    return bufferedChoiceGroupItemCount;
+  }
+
   private final class JsonKeyBodyHandler implements DefinitionBodyHandler<IBoundDefinitionModelComplex> {
     @NonNull
     private final IBoundInstanceFlag jsonKey;
@@ -540,9 +611,9 @@ public class MetaschemaJsonReader
 
   private final class PropertyBodyHandler implements DefinitionBodyHandler<IBoundDefinitionModelComplex> {
     @NonNull
-    private final Map<String, IBoundProperty<?>> jsonProperties;
+    private final JsonPropertyTable jsonProperties;
 
-    private PropertyBodyHandler(@NonNull Map<String, IBoundProperty<?>> jsonProperties) {
+    private PropertyBodyHandler(@NonNull JsonPropertyTable jsonProperties) {
       this.jsonProperties = jsonProperties;
     }
 
@@ -558,8 +629,9 @@ public class MetaschemaJsonReader
       // advance past the start object
       JsonUtil.assertAndAdvance(parser, JsonToken.START_OBJECT);
 
-      // make a copy, since we use the remaining values to initialize default values
-      Map<String, IBoundProperty<?>> remainingInstances = new HashMap<>(jsonProperties); // NOPMD not concurrent
+      // track the handled properties, since we use the remaining values to
+      // initialize default values
+      boolean[] handledInstances = new boolean[jsonProperties.size()];
 
       // handle each property
       while (JsonToken.FIELD_NAME.equals(parser.currentToken())) {
@@ -570,10 +642,12 @@ public class MetaschemaJsonReader
           LOGGER.trace("reading property {}", propertyName);
         }
 
-        IBoundProperty<?> property = remainingInstances.get(propertyName);
+        int index = jsonProperties.indexOf(propertyName);
 
         boolean handled = false;
-        if (property != null) {
+        if (index >= 0 && !handledInstances[index]) {
+          IBoundProperty<?> property = jsonProperties.getProperty(index);
+
           // advance past the field name
           parser.nextToken();
 
@@ -583,7 +657,7 @@ public class MetaschemaJsonReader
           }
 
           // mark handled
-          remainingInstances.remove(propertyName);
+          handledInstances[index] = true;
           handled = true;
         }
 
@@ -604,10 +678,17 @@ public class MetaschemaJsonReader
         JsonUtil.assertCurrent(parser, JsonToken.FIELD_NAME, JsonToken.END_OBJECT);
       }
 
+      List<IBoundProperty<?>> remainingInstances = new ArrayList<>(handledInstances.length);
+      for (int i = 0; i < handledInstances.length; i++) {
+        if (!handledInstances[i]) {
+          remainingInstances.add(jsonProperties.getProperty(i));
+        }
+      }
+
       problemHandler.handleMissingInstances(
           definition,
           parent,
-          ObjectUtils.notNull(remainingInstances.values()));
+          remainingInstances);
 
       // advance past the end object
       JsonUtil.assertAndAdvance(parser, JsonToken.END_OBJECT);
@@ -725,7 +806,7 @@ public class MetaschemaJsonReader
     public List<ITEM> readList() throws IOException {
       JsonParser parser = getReader();
 
-      List<ITEM> items = new LinkedList<>();
+      ArrayList<ITEM> items = newItemList();
       switch (parser.currentToken()) {
       case START_ARRAY:
         // this is an array, we need to parse the array wrapper then each item
@@ -733,7 +814,10 @@ public class MetaschemaJsonReader
 
         // parse items
         while (!JsonToken.END_ARRAY.equals(parser.currentToken())) {
-          items.add(readItem());
+          ITEM item = readItem();
+          if (isRetained(item)) {
+            items.add(item);
+          }
         }
 
         // this is the other side of the array wrapper, advance past it
@@ -744,10 +828,13 @@ public class MetaschemaJsonReader
         break;
       default:
         // this is a singleton, just parse the value as a single item
-        items.add(readItem());
+        ITEM item = readItem();
+        if (isRetained(item)) {
+          items.add(item);
+        }
         break;
       }
-      return items;
+      return compactItemList(items);
     }
 
     @Override
@@ -796,7 +883,9 @@ public class MetaschemaJsonReader
                   ex.getLocalizedMessage()),
               ex);
         }
-        items.put(key, item);
+        if (isRetained(item)) {
+          items.put(key, item);
+        }
 
         // the next item will be a FIELD_NAME, or we will encounter an END_OBJECT if all
         // items have been
@@ -815,6 +904,12 @@ public class MetaschemaJsonReader
       IBoundInstanceModel<ITEM> instance = getCollectionInfo().getInstance();
       return instance.readItem(getParentObject(), MetaschemaJsonReader.this);
     }
+
+    private boolean isRetained(@Nullable ITEM item) throws IOException {
+      return item == null
+          || itemReadListener == null
+          || itemReadListener.handleItem(getInstance(), getParentObject(), item);
+    }
   }
 
   private static class MetaschemaData implements IMetaschemaData {
@@ -6,9 +6,12 @@
 package gov.nist.secauto.metaschema.databind.io.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.model.JsonGroupAsBehavior;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.io.IWritingContext;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelFieldComplex;
@@ -31,14 +34,18 @@ import gov.nist.secauto.metaschema.databind.model.info.IItemWriteHandler;
 import gov.nist.secauto.metaschema.databind.model.info.IModelInstanceCollectionInfo;
 
 import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 @SuppressWarnings("PMD.CouplingBetweenObjects")
 public class MetaschemaJsonWriter implements IJsonWritingContext, IItemWriteHandler {
   @NonNull
   private final JsonGenerator generator;
+  @Nullable
+  private final IWritingContext.ItemOverride itemOverride;
 
   /**
    * Construct a new Module-aware JSON writer.
@@ -48,7 +55,24 @@ public class MetaschemaJsonWriter implements IJsonWritingContext, IItemWriteHand
    * @see DefaultJsonProblemHandler
    */
   public MetaschemaJsonWriter(@NonNull JsonGenerator generator) {
+    this(generator, null);
+  }
+
+  /**
+   * Construct a new Module-aware JSON writer, which writes the items provided
+   * by the override in place of the value of the overridden model instance.
+   *
+   * @param generator
+   *          the JSON generator to write with
+   * @param itemOverride
+   *          the items to write in place of the value of a model instance, or
+   *          {@code null} if the values of all instances are written
+   */
+  public MetaschemaJsonWriter(
+      @NonNull JsonGenerator generator,
+      @Nullable IWritingContext.ItemOverride itemOverride) {
     this.generator = generator;
+    this.itemOverride = itemOverride;
   }
 
   @Override
@@ -73,27 +97,37 @@ public class MetaschemaJsonWriter implements IJsonWritingContext, IItemWriteHand
 
   private <T> void writeInstance(
       @NonNull IBoundProperty<T> instance,
+      @NonNull SerializableString name,
       @NonNull IBoundObject parentItem) throws IOException {
     @SuppressWarnings("unchecked")
     T value = (T) instance.getValue(parentItem);
     if (value != null && !value.equals(instance.getResolvedDefaultValue())) {
-      generator.writeFieldName(instance.getJsonName());
+      generator.writeFieldName(name);
       instance.writeItem(value, this);
     }
   }
 
   private <T> void writeModelInstance(
       @NonNull IBoundInstanceModel<T> instance,
+      @NonNull SerializableString name,
       @NonNull Object parentItem) throws IOException {
-    Object value = instance.getValue(parentItem);
-    if (value != null) {
-      // this if is not strictly needed, since isEmpty will return false on a null
-      // value
-      // checking null here potentially avoids the expensive operation of instatiating
-      IModelInstanceCollectionInfo<T> collectionInfo = instance.getCollectionInfo();
-      if (!collectionInfo.isEmpty(value)) {
-        generator.writeFieldName(instance.getJsonName());
-        collectionInfo.writeItems(new ModelInstanceWriteHandler<>(instance), value);
+    if (itemOverride != null && itemOverride.isOverridden(parentItem, instance)) {
+      Iterator<T> items = itemOverride.getItems();
+      if (items.hasNext()) {
+        generator.writeFieldName(name);
+        new ModelInstanceWriteHandler<>(instance).writeItems(items);
+      }
+    } else {
+      Object value = instance.getValue(parentItem);
+      if (value != null) {
+        // this if is not strictly needed, since isEmpty will return false on a null
+        // value
+        // checking null here potentially avoids the expensive operation of instatiating
+        IModelInstanceCollectionInfo<T> collectionInfo = instance.getCollectionInfo();
+        if (!collectionInfo.isEmpty(value)) {
+          generator.writeFieldName(name);
+          collectionInfo.writeItems(new ModelInstanceWriteHandler<>(instance), value);
+        }
       }
     }
   }
@@ -245,13 +279,14 @@ public class MetaschemaJsonWriter implements IJsonWritingContext, IItemWriteHand
   private <T extends IFeatureComplexItemValueHandler> void writeObjectProperties(
       @NonNull IBoundObject parent,
       @NonNull T handler) throws IOException {
-    for (IBoundProperty<?> property : handler.getJsonProperties().values()) {
-      assert property != null;
+    JsonPropertyTable jsonProperties = handler.getJsonPropertyTable();
+    for (int index = 0, size = jsonProperties.size(); index < size; index++) {
+      IBoundProperty<?> property = jsonProperties.getProperty(index);
 
       if (property instanceof IBoundInstanceModel) {
-        writeModelInstance((IBoundInstanceModel<?>) property, parent);
+        writeModelInstance((IBoundInstanceModel<?>) property, jsonProperties.getName(index), parent);
       } else if (property instanceof IBoundInstance) {
-        writeInstance(property, parent);
+        writeInstance(property, jsonProperties.getName(index), parent);
       } else { // IBoundFieldValue
         writeFieldValue((IBoundFieldValue) property, parent);
       }
@@ -366,22 +401,51 @@ public class MetaschemaJsonWriter implements IJsonWritingContext, IItemWriteHand
 
     @Override
     public void writeList(List<ITEM> items) throws IOException {
-      IBoundInstanceModel<ITEM> instance = getCollectionInfo().getInstance();
+      writeItems(ObjectUtils.notNull(items.iterator()));
+    }
 
-      boolean writeArray = false;
-      if (JsonGroupAsBehavior.LIST.equals(instance.getJsonGroupAsBehavior())
-          || JsonGroupAsBehavior.SINGLETON_OR_LIST.equals(instance.getJsonGroupAsBehavior())
-              && items.size() > 1) {
+    /**
+     * Write the items produced by the provided iterator.
+     * <p>
+     * The items are iterated only once, since they may be produced as they are
+     * written.
+     *
+     * @param items
+     *          the iterator providing the items to write
+     * @throws IOException
+     *           if an error occurred while writing
+     */
+    public void writeItems(@NonNull Iterator<ITEM> items) throws IOException {
+      JsonGroupAsBehavior behavior = getInstance().getJsonGroupAsBehavior();
+
+      if (JsonGroupAsBehavior.SINGLETON_OR_LIST.equals(behavior)) {
+        if (items.hasNext()) {
+          ITEM first = ObjectUtils.requireNonNull(items.next());
+          if (items.hasNext()) {
+            // write array, then items
+            generator.writeStartArray();
+            writeItem(first);
+            writeRemaining(items);
+            generator.writeEndArray();
+          } else {
+            // write the singleton item
+            writeItem(first);
+          }
+        }
+      } else if (JsonGroupAsBehavior.LIST.equals(behavior)) {
         // write array, then items
-        writeArray = true;
         generator.writeStartArray();
-      } // only other option is a singleton value, write item
-
-      super.writeList(items);
-
-      if (writeArray) {
-        // write the end array
+        writeRemaining(items);
         generator.writeEndArray();
+      } else {
+        // only other option is a singleton value, write item
+        writeRemaining(items);
+      }
+    }
+
+    private void writeRemaining(@NonNull Iterator<ITEM> items) throws IOException {
+      while (items.hasNext()) {
+        writeItem(ObjectUtils.requireNonNull(items.next()));
       }
     }
 
@@ -151,7 +151,10 @@ public class DefaultXmlDeserializer<CLASS extends IBoundObject>
   private CLASS parseXmlInternal(@NonNull XMLEventReader2 reader)
       throws IOException {
 
-    MetaschemaXmlReader parser = new MetaschemaXmlReader(reader, new DefaultXmlProblemHandler());
+    MetaschemaXmlReader parser = new MetaschemaXmlReader(
+        reader,
+        new DefaultXmlProblemHandler(),
+        getModelItemReadListener());
 
     try {
       return parser.read(rootDefinition);
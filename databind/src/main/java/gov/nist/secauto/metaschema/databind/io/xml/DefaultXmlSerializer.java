@@ -12,6 +12,7 @@ import gov.nist.secauto.metaschema.core.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.io.AbstractSerializer;
+import gov.nist.secauto.metaschema.databind.io.IWritingContext;
 import gov.nist.secauto.metaschema.databind.io.SerializationFeature;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 
@@ -102,12 +103,15 @@ public class DefaultXmlSerializer<CLASS extends IBoundObject>
   }
 
   @Override
-  public void serialize(IBoundObject data, Writer writer) throws IOException {
+  protected void serialize(
+      IBoundObject data,
+      Writer writer,
+      IWritingContext.ItemOverride itemOverride) throws IOException {
     XMLStreamWriter2 streamWriter = newXMLStreamWriter(writer);
     IOException caughtException = null;
     IBoundDefinitionModelAssembly definition = getDefinition();
 
-    MetaschemaXmlWriter xmlGenerator = new MetaschemaXmlWriter(streamWriter);
+    MetaschemaXmlWriter xmlGenerator = new MetaschemaXmlWriter(streamWriter, itemOverride);
 
     boolean serializeRoot = get(SerializationFeature.SERIALIZE_ROOT);
     try {
@@ -11,6 +11,7 @@ import gov.nist.secauto.metaschema.core.model.util.XmlEventUtil;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.io.BindingException;
+import gov.nist.secauto.metaschema.databind.io.IModelItemReadListener;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelFieldComplex;
@@ -35,10 +36,9 @@ import org.apache.logging.log4j.Logger;
 import org.codehaus.stax2.XMLEventReader2;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -63,6 +63,8 @@ public class MetaschemaXmlReader
   private final XMLEventReader2 reader;
   @NonNull
   private final IXmlProblemHandler problemHandler;
+  @Nullable
+  private final IModelItemReadListener itemReadListener;
 
   /**
    * Construct a new Module-aware XML parser using the default problem handler.
@@ -94,8 +96,27 @@ public class MetaschemaXmlReader
   public MetaschemaXmlReader(
       @NonNull XMLEventReader2 reader,
       @NonNull IXmlProblemHandler problemHandler) {
+    this(reader, problemHandler, null);
+  }
+
+  /**
+   * Construct a new Module-aware parser that notifies the provided listener of
+   * each item read for a multi-valued model instance.
+   *
+   * @param reader
+   *          the XML reader to parse with
+   * @param problemHandler
+   *          the problem handler implementation to use
+   * @param itemReadListener
+   *          the listener to notify, or {@code null} if no listener is used
+   */
+  public MetaschemaXmlReader(
+      @NonNull XMLEventReader2 reader,
+      @NonNull IXmlProblemHandler problemHandler,
+      @Nullable IModelItemReadListener itemReadListener) {
     this.reader = reader;
     this.problemHandler = problemHandler;
+    this.itemReadListener = itemReadListener;
   }
 
   @Override
@@ -361,23 +382,22 @@ public class MetaschemaXmlReader
     public Map<String, ITEM> readMap() throws IOException {
       IBoundInstanceModel<?> instance = getCollectionInfo().getInstance();
 
-      return ObjectUtils.notNull(readCollection().stream()
-          .collect(Collectors.toMap(
-              item -> {
-                assert item != null;
+      List<ITEM> items = readCollection();
+      Map<String, ITEM> retval = newItemMap(items.size());
+      for (ITEM item : items) {
+        assert item != null;
 
-                IBoundInstanceFlag jsonKey = instance.getItemJsonKey(item);
-                assert jsonKey != null;
-                return ObjectUtils.requireNonNull(jsonKey.getValue(item)).toString();
-              },
-              Function.identity(),
-              (t, u) -> u,
-              LinkedHashMap::new)));
+        IBoundInstanceFlag jsonKey = instance.getItemJsonKey(item);
+        assert jsonKey != null;
+        // later items replace earlier items with the same key
+        retval.put(ObjectUtils.requireNonNull(jsonKey.getValue(item)).toString(), item);
+      }
+      return retval;
     }
 
     @NonNull
     private List<ITEM> readCollection() throws IOException {
-      List<ITEM> retval = new LinkedList<>();
+      ArrayList<ITEM> retval = newItemList();
       try {
         // consume extra whitespace between elements
         XmlEventUtil.skipWhitespace(reader);
@@ -389,7 +409,11 @@ public class MetaschemaXmlReader
 
           // Consume the start element
           ITEM value = readItem();
-          retval.add(value);
+          if (value == null
+              || itemReadListener == null
+              || itemReadListener.handleItem(getInstance(), getParentObject(), value)) {
+            retval.add(value);
+          }
 
           // consume extra whitespace between elements
           XmlEventUtil.skipWhitespace(reader);
@@ -397,7 +421,7 @@ public class MetaschemaXmlReader
       } catch (XMLStreamException ex) {
         throw new IOException(ex);
       }
-      return retval;
+      return compactItemList(retval);
     }
 
     @Override
@@ -7,6 +7,7 @@ package gov.nist.secauto.metaschema.databind.io.xml;
 
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.io.IWritingContext;
 import gov.nist.secauto.metaschema.databind.io.json.DefaultJsonProblemHandler;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModel;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
@@ -31,16 +32,20 @@ import gov.nist.secauto.metaschema.databind.model.info.IModelInstanceCollectionI
 import org.codehaus.stax2.XMLStreamWriter2;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 
 public class MetaschemaXmlWriter implements IXmlWritingContext {
   @NonNull
   private final XMLStreamWriter2 writer;
+  @Nullable
+  private final IWritingContext.ItemOverride itemOverride;
 
   /**
    * Construct a new Module-aware JSON writer.
@@ -51,7 +56,24 @@ public class MetaschemaXmlWriter implements IXmlWritingContext {
    */
   public MetaschemaXmlWriter(
       @NonNull XMLStreamWriter2 writer) {
+    this(writer, null);
+  }
+
+  /**
+   * Construct a new Module-aware XML writer, which writes the items provided by
+   * the override in place of the value of the overridden model instance.
+   *
+   * @param writer
+   *          the XML stream writer to write with
+   * @param itemOverride
+   *          the items to write in place of the value of a model instance, or
+   *          {@code null} if the values of all instances are written
+   */
+  public MetaschemaXmlWriter(
+      @NonNull XMLStreamWriter2 writer,
+      @Nullable IWritingContext.ItemOverride itemOverride) {
     this.writer = writer;
+    this.itemOverride = itemOverride;
   }
 
   @Override
@@ -88,39 +110,60 @@ public class MetaschemaXmlWriter implements IXmlWritingContext {
       @NonNull IBoundInstanceModel<T> instance,
       @NonNull Object parentItem,
       @NonNull ItemWriter itemWriter) throws IOException {
-    Object value = instance.getValue(parentItem);
-    if (value == null) {
-      return;
+    if (itemOverride != null && itemOverride.isOverridden(parentItem, instance)) {
+      Iterator<T> items = itemOverride.getItems();
+      if (items.hasNext()) {
+        writeModelInstanceItems(instance, itemWriter, handler -> {
+          // the items are iterated only once, since they may be produced as they are
+          // written
+          while (items.hasNext()) {
+            handler.writeItem(ObjectUtils.requireNonNull(items.next()));
+          }
+        });
+      }
+    } else {
+      Object value = instance.getValue(parentItem);
+      if (value != null) {
+        // this if is not strictly needed, since isEmpty will return false on a null
+        // value
+        // checking null here potentially avoids the expensive operation of
+        // instantiating
+        IModelInstanceCollectionInfo<T> collectionInfo = instance.getCollectionInfo();
+        if (!collectionInfo.isEmpty(value)) {
+          writeModelInstanceItems(instance, itemWriter, handler -> collectionInfo.writeItems(handler, value));
+        }
+      }
     }
+  }
 
-    // this if is not strictly needed, since isEmpty will return false on a null
-    // value
-    // checking null here potentially avoids the expensive operation of
-    // instantiating
-    IModelInstanceCollectionInfo<T> collectionInfo = instance.getCollectionInfo();
-    if (!collectionInfo.isEmpty(value)) {
-      QName currentQName = itemWriter.getObjectQName();
-      QName groupAsQName = instance.getEffectiveXmlGroupAsQName();
-      try {
-        if (groupAsQName != null) {
-          // write the grouping element
-          writer.writeStartElement(groupAsQName.getNamespaceURI(), groupAsQName.getLocalPart());
-          currentQName = groupAsQName;
-        }
+  private <T> void writeModelInstanceItems(
+      @NonNull IBoundInstanceModel<T> instance,
+      @NonNull ItemWriter itemWriter,
+      @NonNull ModelInstanceItemsWriter<T> itemsWriter) throws IOException {
+    QName currentQName = itemWriter.getObjectQName();
+    QName groupAsQName = instance.getEffectiveXmlGroupAsQName();
+    try {
+      if (groupAsQName != null) {
+        // write the grouping element
+        writer.writeStartElement(groupAsQName.getNamespaceURI(), groupAsQName.getLocalPart());
+        currentQName = groupAsQName;
+      }
 
-        collectionInfo.writeItems(
-            new ModelInstanceWriteHandler<>(instance, new ItemWriter(currentQName)),
-            value);
+      itemsWriter.accept(new ModelInstanceWriteHandler<>(instance, new ItemWriter(currentQName)));
 
-        if (groupAsQName != null) {
-          writer.writeEndElement();
-        }
-      } catch (XMLStreamException ex) {
-        throw new IOException(ex);
+      if (groupAsQName != null) {
+        writer.writeEndElement();
       }
+    } catch (XMLStreamException ex) {
+      throw new IOException(ex);
     }
   }
 
+  @FunctionalInterface
+  private interface ModelInstanceItemsWriter<ITEM> {
+    void accept(@NonNull ModelInstanceWriteHandler<ITEM> handler) throws IOException;
+  }
+
   private static class ModelInstanceWriteHandler<ITEM>
       extends AbstractModelInstanceWriteHandler<ITEM> {
     @NonNull
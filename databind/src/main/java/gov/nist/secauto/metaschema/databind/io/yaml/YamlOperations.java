@@ -19,6 +19,7 @@ import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
 
@@ -65,10 +66,27 @@ public final class YamlOperations {
   @NonNull
   public static Map<String, Object> parseYaml(URI target) throws IOException {
     try (BufferedInputStream is = new BufferedInputStream(ObjectUtils.notNull(target.toURL().openStream()))) {
-      return (Map<String, Object>) YAML_PARSER.load(is);
+      return parseYaml(is);
     }
   }
 
+  /**
+   * Parse the data represented in YAML in the provided {@code is}, producing an
+   * mapping of field names to Java object values.
+   * <p>
+   * This method will not close the provided {@link InputStream}, since it does
+   * not own the stream.
+   *
+   * @param is
+   *          the YAML content to parse
+   * @return the mapping of field names to Java object values
+   */
+  @SuppressWarnings({ "unchecked", "null" })
+  @NonNull
+  public static Map<String, Object> parseYaml(@NonNull InputStream is) {
+    return (Map<String, Object>) YAML_PARSER.load(is);
+  }
+
   /**
    * Converts the provided YAML {@code map} into JSON.
    *
@@ -5,6 +5,8 @@
 
 package gov.nist.secauto.metaschema.databind.model;
 
+import gov.nist.secauto.metaschema.databind.model.impl.FieldAccessor;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 
@@ -45,44 +47,24 @@ public interface IFeatureJavaField extends IValuedMutable {
     return (Class<?>) getType();
   }
 
+  /**
+   * Get the accessor used to get and set the value of the bound Java field.
+   * <p>
+   * The accessor should be created once, when the binding is created, since it
+   * resolves the field's accessibility.
+   *
+   * @return the field accessor
+   */
+  @NonNull
+  FieldAccessor getFieldAccessor();
+
   @Override
   default Object getValue(@NonNull Object parent) {
-    Field field = getField();
-    boolean accessable = field.canAccess(parent);
-    field.setAccessible(true); // NOPMD - intentional
-    Object retval;
-    try {
-      Object result = field.get(parent);
-      retval = result;
-    } catch (IllegalArgumentException | IllegalAccessException ex) {
-      throw new IllegalArgumentException(
-          String.format("Unable to get the value of field '%s' in class '%s'.", field.getName(),
-              field.getDeclaringClass().getName()),
-          ex);
-    } finally {
-      field.setAccessible(accessable); // NOPMD - intentional
-    }
-    return retval;
+    return getFieldAccessor().getValue(parent);
   }
 
   @Override
   default void setValue(@NonNull Object parentObject, Object value) {
-    Field field = getField();
-    boolean accessable = field.canAccess(parentObject);
-    field.setAccessible(true); // NOPMD - intentional
-    try {
-      field.set(parentObject, value);
-    } catch (IllegalArgumentException | IllegalAccessException ex) {
-      throw new IllegalArgumentException(
-          String.format(
-              "Unable to set the value of field '%s' in class '%s'." +
-                  " Perhaps this is a data type adapter problem on the declared class?",
-              field.getName(),
-              field.getDeclaringClass().getName()),
-          ex);
-    } finally {
-      field.setAccessible(accessable); // NOPMD - intentional
-    }
+    getFieldAccessor().setValue(parentObject, value);
   }
-
 }
@@ -14,6 +14,9 @@ import gov.nist.secauto.metaschema.databind.model.IBoundInstanceFlag;
 import gov.nist.secauto.metaschema.databind.model.IBoundModule;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 
 import javax.xml.namespace.QName;
@@ -40,6 +43,10 @@ public abstract class AbstractBoundDefinitionModelComplex<A extends Annotation>
   private final Method beforeDeserializeMethod;
   @Nullable
   private final Method afterDeserializeMethod;
+  @Nullable
+  private final MethodHandle beforeDeserializeHandle;
+  @Nullable
+  private final MethodHandle afterDeserializeHandle;
 
   protected AbstractBoundDefinitionModelComplex(
       @NonNull Class<? extends IBoundObject> clazz,
@@ -60,6 +67,51 @@ public abstract class AbstractBoundDefinitionModelComplex<A extends Annotation>
         clazz,
         "afterDeserialize",
         Object.class);
+    this.beforeDeserializeHandle = newCallbackHandle(beforeDeserializeMethod);
+    this.afterDeserializeHandle = newCallbackHandle(afterDeserializeMethod);
+  }
+
+  /**
+   * Resolve a deserialization callback method into a method handle that accepts
+   * the target object and the parent object.
+   *
+   * @param method
+   *          the callback method or {@code null} if there is no callback
+   * @return the method handle or {@code null} if there is no callback
+   */
+  @Nullable
+  private static MethodHandle newCallbackHandle(@Nullable Method method) {
+    MethodHandle retval = null;
+    if (method != null) {
+      // the accessible flag allows the method handle to bypass access checks
+      method.setAccessible(true); // NOPMD - intentional
+      try {
+        retval = MethodHandles.lookup().unreflect(method)
+            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+      } catch (IllegalAccessException ex) {
+        throw new IllegalArgumentException(
+            String.format("Unable to access method '%s' in class '%s'.", method.getName(),
+                method.getDeclaringClass().getName()),
+            ex);
+      }
+    }
+    return retval;
+  }
+
+  @SuppressWarnings("PMD.AvoidCatchingThrowable")
+  private static void invokeCallback(
+      @Nullable MethodHandle handle,
+      @NonNull Object targetObject,
+      @Nullable Object parentObject) throws BindingException {
+    if (handle != null) {
+      try {
+        handle.invokeExact(targetObject, parentObject);
+      } catch (Error ex) { // NOPMD - rethrow errors
+        throw ex;
+      } catch (Throwable ex) {
+        throw new BindingException(ex);
+      }
+    }
   }
 
   @Override
@@ -106,6 +158,16 @@ public abstract class AbstractBoundDefinitionModelComplex<A extends Annotation>
     return afterDeserializeMethod;
   }
 
+  @Override
+  public void callBeforeDeserialize(IBoundObject targetObject, IBoundObject parentObject) throws BindingException {
+    invokeCallback(beforeDeserializeHandle, targetObject, parentObject);
+  }
+
+  @Override
+  public void callAfterDeserialize(IBoundObject targetObject, IBoundObject parentObject) throws BindingException {
+    invokeCallback(afterDeserializeHandle, targetObject, parentObject);
+  }
+
   // @Override
   // public String getJsonKeyFlagName() {
   // // definition items never have a JSON key
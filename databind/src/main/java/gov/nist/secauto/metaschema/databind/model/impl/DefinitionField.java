@@ -17,6 +17,7 @@ import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.IBindingContext;
 import gov.nist.secauto.metaschema.databind.io.BindingException;
+import gov.nist.secauto.metaschema.databind.io.json.JsonPropertyTable;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelFieldComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundFieldValue;
 import gov.nist.secauto.metaschema.databind.model.IBoundInstanceFlag;
@@ -58,6 +59,8 @@ public final class DefinitionField
   @NonNull
   private final Lazy<Map<String, IBoundProperty<?>>> jsonProperties;
   @NonNull
+  private final Lazy<JsonPropertyTable> jsonPropertyTable;
+  @NonNull
   private final Lazy<Map<IAttributable.Key, Set<String>>> properties;
 
   /**
@@ -139,6 +142,7 @@ public final class DefinitionField
       Predicate<IBoundInstanceFlag> flagFilter = jsonValueKey == null ? null : flag -> !flag.equals(jsonValueKey);
       return getJsonProperties(flagFilter);
     }));
+    this.jsonPropertyTable = ObjectUtils.notNull(Lazy.lazy(() -> new JsonPropertyTable(getJsonProperties())));
     this.properties = ObjectUtils.notNull(
         Lazy.lazy(() -> CollectionUtil.unmodifiableMap(ObjectUtils.notNull(
             Arrays.stream(annotation.properties())
@@ -202,6 +206,11 @@ public final class DefinitionField
     return ObjectUtils.notNull(jsonProperties.get());
   }
 
+  @Override
+  public JsonPropertyTable getJsonPropertyTable() {
+    return ObjectUtils.notNull(jsonPropertyTable.get());
+  }
+
   @Override
   @Nullable
   public String getFormalName() {
@@ -245,6 +254,8 @@ public final class DefinitionField
     @NonNull
     private final Field javaField;
     @NonNull
+    private final FieldAccessor fieldAccessor;
+    @NonNull
     private final BoundFieldValue annotation;
     @NonNull
     private final IDataTypeAdapter<?> javaTypeAdapter;
@@ -266,6 +277,7 @@ public final class DefinitionField
         @NonNull Class<BoundFieldValue> annotationClass,
         @NonNull IBindingContext bindingContext) {
       this.javaField = javaField;
+      this.fieldAccessor = new FieldAccessor(javaField);
       this.annotation = ModelUtil.getAnnotation(javaField, annotationClass);
       this.javaTypeAdapter = ModelUtil.getDataTypeAdapter(
           this.annotation.typeAdapter(),
@@ -284,6 +296,12 @@ public final class DefinitionField
       return javaField;
     }
 
+    @Override
+    @NonNull
+    public FieldAccessor getFieldAccessor() {
+      return fieldAccessor;
+    }
+
     /**
      * Get the binding Java annotation.
      *
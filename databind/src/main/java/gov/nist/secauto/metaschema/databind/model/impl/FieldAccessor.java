@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.model.impl;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Provides read and write access to the value of a bound Java field.
+ * <p>
+ * The field's accessibility is resolved once, when the accessor is created,
+ * into method handles that are used for all later access. This avoids the
+ * access checks performed by reflective field access on each call.
+ */
+public final class FieldAccessor {
+  @NonNull
+  private static final MethodType GETTER_TYPE = ObjectUtils.notNull(MethodType.methodType(Object.class, Object.class));
+  @NonNull
+  private static final MethodType SETTER_TYPE
+      = ObjectUtils.notNull(MethodType.methodType(void.class, Object.class, Object.class));
+
+  @NonNull
+  private final Field field;
+  @NonNull
+  private final MethodHandle getter;
+  @NonNull
+  private final MethodHandle setter;
+
+  /**
+   * Construct a new accessor for the provided field.
+   *
+   * @param field
+   *          the Java field to access
+   * @throws IllegalArgumentException
+   *           if the field cannot be made accessible
+   */
+  public FieldAccessor(@NonNull Field field) {
+    this.field = field;
+    // the accessible flag allows the method handles to bypass access checks
+    field.setAccessible(true); // NOPMD - intentional
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      this.getter = ObjectUtils.notNull(lookup.unreflectGetter(field).asType(GETTER_TYPE));
+      this.setter = ObjectUtils.notNull(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+    } catch (IllegalAccessException ex) {
+      throw new IllegalArgumentException(
+          String.format("Unable to access field '%s' in class '%s'.", field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
+  }
+
+  /**
+   * Get the Java field this accessor provides access to.
+   *
+   * @return the Java field
+   */
+  @NonNull
+  public Field getField() {
+    return field;
+  }
+
+  /**
+   * Get the value of the field on the provided object.
+   *
+   * @param parent
+   *          the object to get the value from
+   * @return the value of the field
+   * @throws IllegalArgumentException
+   *           if the value could not be retrieved
+   */
+  @SuppressWarnings("PMD.AvoidCatchingThrowable")
+  public Object getValue(@NonNull Object parent) {
+    try {
+      return getter.invokeExact(parent);
+    } catch (Error ex) { // NOPMD - rethrow errors
+      throw ex;
+    } catch (Throwable ex) {
+      throw new IllegalArgumentException(
+          String.format("Unable to get the value of field '%s' in class '%s'.", field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
+  }
+
+  /**
+   * Set the value of the field on the provided object.
+   *
+   * @param parent
+   *          the object to set the value on
+   * @param value
+   *          the value to set
+   * @throws IllegalArgumentException
+   *           if the value could not be set
+   */
+  @SuppressWarnings("PMD.AvoidCatchingThrowable")
+  public void setValue(@NonNull Object parent, Object value) {
+    try {
+      setter.invokeExact(parent, value);
+    } catch (Error ex) { // NOPMD - rethrow errors
+      throw ex;
+    } catch (Throwable ex) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Unable to set the value of field '%s' in class '%s'." +
+                  " Perhaps this is a data type adapter problem on the declared class?",
+              field.getName(),
+              field.getDeclaringClass().getName()),
+          ex);
+    }
+  }
+}
@@ -48,6 +48,8 @@ public class InstanceFlagInline
   @NonNull
   private final Field javaField;
   @NonNull
+  private final FieldAccessor fieldAccessor;
+  @NonNull
   private final BoundFlag annotation;
   @NonNull
   private final IDataTypeAdapter<?> javaTypeAdapter;
@@ -71,6 +73,7 @@ public class InstanceFlagInline
       @NonNull IBoundDefinitionModel<IBoundObject> parent) {
     super(parent);
     this.javaField = javaField;
+    this.fieldAccessor = new FieldAccessor(javaField);
     this.annotation = ModelUtil.getAnnotation(javaField, BoundFlag.class);
     Class<? extends IDataTypeAdapter<?>> adapterClass = ObjectUtils.notNull(getAnnotation().typeAdapter());
     this.javaTypeAdapter = ModelUtil.getDataTypeAdapter(
@@ -105,6 +108,12 @@ public class InstanceFlagInline
     return javaField;
   }
 
+  @Override
+  @NonNull
+  public FieldAccessor getFieldAccessor() {
+    return fieldAccessor;
+  }
+
   /**
    * Get the binding Java annotation.
    *
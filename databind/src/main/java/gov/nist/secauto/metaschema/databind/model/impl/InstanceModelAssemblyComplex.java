@@ -12,6 +12,7 @@ import gov.nist.secauto.metaschema.core.model.IAttributable;
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.io.json.JsonPropertyTable;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 import gov.nist.secauto.metaschema.databind.model.IBoundInstanceFlag;
 import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModelAssembly;
@@ -49,6 +50,8 @@ public final class InstanceModelAssemblyComplex
   @NonNull
   private final Field javaField;
   @NonNull
+  private final FieldAccessor fieldAccessor;
+  @NonNull
   private final BoundAssembly annotation;
   @NonNull
   private final Lazy<IModelInstanceCollectionInfo<IBoundObject>> collectionInfo;
@@ -59,6 +62,8 @@ public final class InstanceModelAssemblyComplex
   @NonNull
   private final Lazy<Map<String, IBoundProperty<?>>> jsonProperties;
   @NonNull
+  private final Lazy<JsonPropertyTable> jsonPropertyTable;
+  @NonNull
   private final Lazy<Map<IAttributable.Key, Set<String>>> properties;
 
   /**
@@ -110,6 +115,7 @@ public final class InstanceModelAssemblyComplex
       @NonNull IBoundDefinitionModelAssembly containingDefinition) {
     super(containingDefinition);
     this.javaField = javaField;
+    this.fieldAccessor = new FieldAccessor(javaField);
     this.annotation = annotation;
     this.groupAs = groupAs;
     this.collectionInfo = ObjectUtils.notNull(Lazy.lazy(() -> IModelInstanceCollectionInfo.of(this)));
@@ -119,6 +125,7 @@ public final class InstanceModelAssemblyComplex
       Predicate<IBoundInstanceFlag> flagFilter = jsonKey == null ? null : flag -> !jsonKey.equals(flag);
       return getDefinition().getJsonProperties(flagFilter);
     }));
+    this.jsonPropertyTable = ObjectUtils.notNull(Lazy.lazy(() -> new JsonPropertyTable(getJsonProperties())));
     this.properties = ObjectUtils.notNull(
         Lazy.lazy(() -> CollectionUtil.unmodifiableMap(ObjectUtils.notNull(
             Arrays.stream(annotation.properties())
@@ -136,6 +143,12 @@ public final class InstanceModelAssemblyComplex
     return javaField;
   }
 
+  @Override
+  @NonNull
+  public FieldAccessor getFieldAccessor() {
+    return fieldAccessor;
+  }
+
   /**
    * Get the binding Java annotation.
    *
@@ -157,6 +170,11 @@ public final class InstanceModelAssemblyComplex
     return ObjectUtils.notNull(jsonProperties.get());
   }
 
+  @Override
+  public JsonPropertyTable getJsonPropertyTable() {
+    return ObjectUtils.notNull(jsonPropertyTable.get());
+  }
+
   @Override
   public IBoundDefinitionModelAssembly getDefinition() {
     return definition;
@@ -59,6 +59,8 @@ public final class InstanceModelChoiceGroup
   @NonNull
   private final Field javaField;
   @NonNull
+  private final FieldAccessor fieldAccessor;
+  @NonNull
   private final BoundChoiceGroup annotation;
   @NonNull
   private final Lazy<IModelInstanceCollectionInfo<IBoundObject>> collectionInfo;
@@ -115,6 +117,7 @@ public final class InstanceModelChoiceGroup
       @NonNull IBoundDefinitionModelAssembly parent) {
     super(parent);
     this.javaField = javaField;
+    this.fieldAccessor = new FieldAccessor(javaField);
     this.annotation = annotation;
     this.groupAs = groupAs;
     this.collectionInfo = ObjectUtils.notNull(Lazy.lazy(() -> IModelInstanceCollectionInfo.of(this)));
@@ -149,6 +152,12 @@ public final class InstanceModelChoiceGroup
     return javaField;
   }
 
+  @Override
+  @NonNull
+  public FieldAccessor getFieldAccessor() {
+    return fieldAccessor;
+  }
+
   /**
    * Get the binding Java annotation.
    *
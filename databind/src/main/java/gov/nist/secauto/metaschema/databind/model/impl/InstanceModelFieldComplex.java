@@ -12,6 +12,7 @@ import gov.nist.secauto.metaschema.core.model.IAttributable;
 import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.io.json.JsonPropertyTable;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelFieldComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundFieldValue;
@@ -51,6 +52,8 @@ public final class InstanceModelFieldComplex
   @NonNull
   private final Field javaField;
   @NonNull
+  private final FieldAccessor fieldAccessor;
+  @NonNull
   private final BoundField annotation;
   @NonNull
   private final Lazy<IModelInstanceCollectionInfo<IBoundObject>> collectionInfo;
@@ -63,6 +66,8 @@ public final class InstanceModelFieldComplex
   @NonNull
   private final Lazy<Map<String, IBoundProperty<?>>> jsonProperties;
   @NonNull
+  private final Lazy<JsonPropertyTable> jsonPropertyTable;
+  @NonNull
   private final Lazy<Map<IAttributable.Key, Set<String>>> properties;
 
   /**
@@ -141,6 +146,7 @@ public final class InstanceModelFieldComplex
       @NonNull IBoundDefinitionModelAssembly parent) {
     super(parent);
     this.javaField = javaField;
+    this.fieldAccessor = new FieldAccessor(javaField);
     this.annotation = annotation;
     this.collectionInfo = ObjectUtils.notNull(Lazy.lazy(() -> IModelInstanceCollectionInfo.of(this)));
     this.groupAs = groupAs;
@@ -173,6 +179,7 @@ public final class InstanceModelFieldComplex
       }
       return getDefinition().getJsonProperties(flagFilter);
     }));
+    this.jsonPropertyTable = ObjectUtils.notNull(Lazy.lazy(() -> new JsonPropertyTable(getJsonProperties())));
     this.properties = ObjectUtils.notNull(
         Lazy.lazy(() -> CollectionUtil.unmodifiableMap(ObjectUtils.notNull(
             Arrays.stream(annotation.properties())
@@ -190,6 +197,12 @@ public final class InstanceModelFieldComplex
     return javaField;
   }
 
+  @Override
+  @NonNull
+  public FieldAccessor getFieldAccessor() {
+    return fieldAccessor;
+  }
+
   /**
    * Get the binding Java annotation.
    *
@@ -226,6 +239,11 @@ public final class InstanceModelFieldComplex
     return ObjectUtils.notNull(jsonProperties.get());
   }
 
+  @Override
+  public JsonPropertyTable getJsonPropertyTable() {
+    return ObjectUtils.notNull(jsonPropertyTable.get());
+  }
+
   @Override
   public IGroupAs getGroupAs() {
     return groupAs;
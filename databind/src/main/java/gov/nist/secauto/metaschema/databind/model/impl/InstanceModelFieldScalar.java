@@ -55,6 +55,8 @@ public final class InstanceModelFieldScalar
   @NonNull
   private final Field javaField;
   @NonNull
+  private final FieldAccessor fieldAccessor;
+  @NonNull
   private final BoundField annotation;
   @NonNull
   private final Lazy<IModelInstanceCollectionInfo<Object>> collectionInfo;
@@ -118,6 +120,7 @@ public final class InstanceModelFieldScalar
       @NonNull IBoundDefinitionModelAssembly parent) {
     super(parent);
     this.javaField = javaField;
+    this.fieldAccessor = new FieldAccessor(javaField);
     this.annotation = annotation;
     this.collectionInfo = ObjectUtils.notNull(Lazy.lazy(() -> IModelInstanceCollectionInfo.of(this)));
     this.groupAs = groupAs;
@@ -161,6 +164,12 @@ public final class InstanceModelFieldScalar
     return javaField;
   }
 
+  @Override
+  @NonNull
+  public FieldAccessor getFieldAccessor() {
+    return fieldAccessor;
+  }
+
   /**
    * Get the binding Java annotation.
    *
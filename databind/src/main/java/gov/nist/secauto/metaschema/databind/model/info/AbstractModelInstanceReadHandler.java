@@ -10,6 +10,11 @@ import gov.nist.secauto.metaschema.databind.model.IBoundInstanceFlag;
 import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
 import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModelNamed;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import edu.umd.cs.findbugs.annotations.NonNull;
 
 public abstract class AbstractModelInstanceReadHandler<ITEM> implements IModelInstanceReadHandler<ITEM> {
@@ -67,4 +72,52 @@ public abstract class AbstractModelInstanceReadHandler<ITEM> implements IModelIn
     }
     return retval;
   }
+
+  /**
+   * Get a new list to read the items of a collection into.
+   * <p>
+   * The list is array-backed, which provides better locality than a linked list
+   * when the items are later traversed.
+   *
+   * @param <T>
+   *          the Java type of the items
+   * @return the new list
+   */
+  @NonNull
+  protected static <T> ArrayList<T> newItemList() {
+    return new ArrayList<>();
+  }
+
+  /**
+   * Release any unused capacity of a list of items, once all items have been
+   * read.
+   *
+   * @param <T>
+   *          the Java type of the items
+   * @param items
+   *          the list of read items
+   * @return the same list
+   */
+  @NonNull
+  protected static <T> List<T> compactItemList(@NonNull ArrayList<T> items) {
+    items.trimToSize();
+    return items;
+  }
+
+  /**
+   * Get a new map to read the items of a keyed collection into, sized to hold
+   * the expected number of items without being resized.
+   *
+   * @param <T>
+   *          the Java type of the items
+   * @param expectedSize
+   *          the expected number of items
+   * @return the new map
+   */
+  @SuppressWarnings("PMD.UseConcurrentHashMap")
+  @NonNull
+  protected static <T> Map<String, T> newItemMap(int expectedSize) {
+    // size the map to stay below the default load factor of 0.75
+    return new LinkedHashMap<>(expectedSize + expectedSize / 3 + 1);
+  }
 }
@@ -9,6 +9,7 @@ import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.model.IMetaschemaData;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.io.BindingException;
+import gov.nist.secauto.metaschema.databind.io.json.JsonPropertyTable;
 import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
 import gov.nist.secauto.metaschema.databind.model.IBoundProperty;
 
@@ -47,6 +48,15 @@ public interface IFeatureComplexItemValueHandler extends IItemValueHandler<IBoun
   @NonNull
   Map<String, IBoundProperty<?>> getJsonProperties();
 
+  /**
+   * Get the indexed read and write plan for the JSON properties provided by
+   * {@link #getJsonProperties()}.
+   *
+   * @return the property table
+   */
+  @NonNull
+  JsonPropertyTable getJsonPropertyTable();
+
   // REFACTOR: flatten implementations?
   @Override
   @NonNull
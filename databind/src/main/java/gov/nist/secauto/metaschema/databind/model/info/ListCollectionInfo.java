@@ -13,7 +13,7 @@ import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
 
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -71,7 +71,7 @@ class ListCollectionInfo<ITEM>
 
   @Override
   public List<ITEM> emptyValue() {
-    return new LinkedList<>();
+    return new ArrayList<>();
   }
 
   @Override
@@ -30,7 +30,7 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.math.BigInteger;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -238,7 +238,7 @@ public class FieldReference implements IBoundObject {
   public boolean addProp(Property item) {
     Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_props == null) {
-      _props = new LinkedList<>();
+      _props = new ArrayList<>();
     }
     return _props.add(value);
   }
@@ -26,7 +26,7 @@ import gov.nist.secauto.metaschema.databind.model.metaschema.IConstraintBase;
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -209,7 +209,7 @@ public class FlagAllowedValues implements IBoundObject, IConstraintBase {
   public boolean addProp(Property item) {
     Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_props == null) {
-      _props = new LinkedList<>();
+      _props = new ArrayList<>();
     }
     return _props.add(value);
   }
@@ -245,7 +245,7 @@ public class FlagAllowedValues implements IBoundObject, IConstraintBase {
   public boolean addEnum(ConstraintValueEnum item) {
     ConstraintValueEnum value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_enums == null) {
-      _enums = new LinkedList<>();
+      _enums = new ArrayList<>();
     }
     return _enums.add(value);
   }
@@ -19,7 +19,7 @@ import gov.nist.secauto.metaschema.databind.model.metaschema.IValueConstraintsBa
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -88,7 +88,7 @@ public class FlagConstraints implements IValueConstraintsBase {
   public boolean addLet(ConstraintLetExpression item) {
     ConstraintLetExpression value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_lets == null) {
-      _lets = new LinkedList<>();
+      _lets = new ArrayList<>();
     }
     return _lets.add(value);
   }
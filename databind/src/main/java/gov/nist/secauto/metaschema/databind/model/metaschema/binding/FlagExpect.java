@@ -27,7 +27,7 @@ import gov.nist.secauto.metaschema.databind.model.metaschema.IConfigurableMessag
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -179,7 +179,7 @@ public class FlagExpect implements IBoundObject, IConfigurableMessageConstraintB
   public boolean addProp(Property item) {
     Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_props == null) {
-      _props = new LinkedList<>();
+      _props = new ArrayList<>();
     }
     return _props.add(value);
   }
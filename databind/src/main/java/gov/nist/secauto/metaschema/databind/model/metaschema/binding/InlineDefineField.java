@@ -32,7 +32,7 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.math.BigInteger;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -346,7 +346,7 @@ public class InlineDefineField implements IBoundObject {
   public boolean addProp(Property item) {
     Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_props == null) {
-      _props = new LinkedList<>();
+      _props = new ArrayList<>();
     }
     return _props.add(value);
   }
@@ -438,7 +438,7 @@ public class InlineDefineField implements IBoundObject {
   public boolean addExample(Example item) {
     Example value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_examples == null) {
-      _examples = new LinkedList<>();
+      _examples = new ArrayList<>();
     }
     return _examples.add(value);
   }
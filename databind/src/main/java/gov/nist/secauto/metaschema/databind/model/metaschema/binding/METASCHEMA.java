@@ -41,7 +41,7 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.math.BigInteger;
 import java.net.URI;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -283,7 +283,7 @@ public class METASCHEMA implements IBoundObject {
   public boolean addImport(Import item) {
     Import value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_imports == null) {
-      _imports = new LinkedList<>();
+      _imports = new ArrayList<>();
     }
     return _imports.add(value);
   }
@@ -318,7 +318,7 @@ public class METASCHEMA implements IBoundObject {
   public boolean addNamespaceBinding(MetapathNamespace item) {
     MetapathNamespace value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_namespaceBindings == null) {
-      _namespaceBindings = new LinkedList<>();
+      _namespaceBindings = new ArrayList<>();
     }
     return _namespaceBindings.add(value);
   }
@@ -594,7 +594,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addProp(Property item) {
       Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_props == null) {
-        _props = new LinkedList<>();
+        _props = new ArrayList<>();
       }
       return _props.add(value);
     }
@@ -686,7 +686,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addExample(Example item) {
       Example value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_examples == null) {
-        _examples = new LinkedList<>();
+        _examples = new ArrayList<>();
       }
       return _examples.add(value);
     }
@@ -1046,7 +1046,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addProp(Property item) {
       Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_props == null) {
-        _props = new LinkedList<>();
+        _props = new ArrayList<>();
       }
       return _props.add(value);
     }
@@ -1138,7 +1138,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addExample(Example item) {
       Example value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_examples == null) {
-        _examples = new LinkedList<>();
+        _examples = new ArrayList<>();
       }
       return _examples.add(value);
     }
@@ -1405,7 +1405,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addProp(Property item) {
       Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_props == null) {
-        _props = new LinkedList<>();
+        _props = new ArrayList<>();
       }
       return _props.add(value);
     }
@@ -1465,7 +1465,7 @@ public class METASCHEMA implements IBoundObject {
     public boolean addExample(Example item) {
       Example value = ObjectUtils.requireNonNull(item, "item cannot be null");
       if (_examples == null) {
-        _examples = new LinkedList<>();
+        _examples = new ArrayList<>();
       }
       return _examples.add(value);
     }
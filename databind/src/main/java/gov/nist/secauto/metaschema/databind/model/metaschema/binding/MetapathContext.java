@@ -17,7 +17,7 @@ import gov.nist.secauto.metaschema.databind.model.annotations.MetaschemaAssembly
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -85,7 +85,7 @@ public class MetapathContext implements IBoundObject {
   public boolean addMetapath(MetaschemaMetapath item) {
     MetaschemaMetapath value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_metapaths == null) {
-      _metapaths = new LinkedList<>();
+      _metapaths = new ArrayList<>();
     }
     return _metapaths.add(value);
   }
@@ -129,7 +129,7 @@ public class MetapathContext implements IBoundObject {
   public boolean addContext(MetapathContext item) {
     MetapathContext value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_contexts == null) {
-      _contexts = new LinkedList<>();
+      _contexts = new ArrayList<>();
     }
     return _contexts.add(value);
   }
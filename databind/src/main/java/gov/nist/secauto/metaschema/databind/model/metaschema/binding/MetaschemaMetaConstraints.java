@@ -28,7 +28,7 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.net.URI;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -121,7 +121,7 @@ public class MetaschemaMetaConstraints implements IBoundObject {
   public boolean addImport(Import item) {
     Import value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_imports == null) {
-      _imports = new LinkedList<>();
+      _imports = new ArrayList<>();
     }
     return _imports.add(value);
   }
@@ -156,7 +156,7 @@ public class MetaschemaMetaConstraints implements IBoundObject {
   public boolean addNamespaceBinding(MetapathNamespace item) {
     MetapathNamespace value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_namespaceBindings == null) {
-      _namespaceBindings = new LinkedList<>();
+      _namespaceBindings = new ArrayList<>();
     }
     return _namespaceBindings.add(value);
   }
@@ -200,7 +200,7 @@ public class MetaschemaMetaConstraints implements IBoundObject {
   public boolean addContext(MetapathContext item) {
     MetapathContext value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_contexts == null) {
-      _contexts = new LinkedList<>();
+      _contexts = new ArrayList<>();
     }
     return _contexts.add(value);
   }
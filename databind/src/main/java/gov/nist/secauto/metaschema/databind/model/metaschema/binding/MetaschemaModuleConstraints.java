@@ -33,7 +33,7 @@ import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
 import java.net.URI;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -142,7 +142,7 @@ public class MetaschemaModuleConstraints implements IBoundObject {
   public boolean addImport(Import item) {
     Import value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_imports == null) {
-      _imports = new LinkedList<>();
+      _imports = new ArrayList<>();
     }
     return _imports.add(value);
   }
@@ -177,7 +177,7 @@ public class MetaschemaModuleConstraints implements IBoundObject {
   public boolean addNamespaceBinding(MetapathNamespace item) {
     MetapathNamespace value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_namespaceBindings == null) {
-      _namespaceBindings = new LinkedList<>();
+      _namespaceBindings = new ArrayList<>();
     }
     return _namespaceBindings.add(value);
   }
@@ -213,7 +213,7 @@ public class MetaschemaModuleConstraints implements IBoundObject {
   public boolean addScope(Scope item) {
     Scope value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_scopes == null) {
-      _scopes = new LinkedList<>();
+      _scopes = new ArrayList<>();
     }
     return _scopes.add(value);
   }
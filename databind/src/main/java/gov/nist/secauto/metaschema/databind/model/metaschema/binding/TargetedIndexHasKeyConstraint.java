@@ -28,7 +28,7 @@ import gov.nist.secauto.metaschema.databind.model.metaschema.ITargetedConstraint
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 @SuppressWarnings({
@@ -205,7 +205,7 @@ public class TargetedIndexHasKeyConstraint
   public boolean addProp(Property item) {
     Property value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_props == null) {
-      _props = new LinkedList<>();
+      _props = new ArrayList<>();
     }
     return _props.add(value);
   }
@@ -241,7 +241,7 @@ public class TargetedIndexHasKeyConstraint
   public boolean addKeyField(KeyConstraintField item) {
     KeyConstraintField value = ObjectUtils.requireNonNull(item, "item cannot be null");
     if (_keyFields == null) {
-      _keyFields = new LinkedList<>();
+      _keyFields = new ArrayList<>();
     }
     return _keyFields.add(value);
   }
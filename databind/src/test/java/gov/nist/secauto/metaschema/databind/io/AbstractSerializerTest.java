@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import gov.nist.secauto.metaschema.core.model.IBoundObject;
+import gov.nist.secauto.metaschema.core.model.MetaschemaException;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.IBindingContext;
+import gov.nist.secauto.metaschema.databind.codegen.AbstractMetaschemaTest;
+import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModel;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+class AbstractSerializerTest
+    extends AbstractMetaschemaTest {
+
+  @ParameterizedTest
+  @EnumSource(Format.class)
+  void testSerializeStreamedItems(Format format) throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newBindingContext();
+
+    bindingContext.loadMetaschema(ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/issue187-metaschema.xml")));
+
+    IBoundLoader loader = new DefaultBoundLoader(bindingContext);
+
+    IBoundObject root = loader.load(ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/issue187-instance.xml")));
+    Class<? extends IBoundObject> clazz = ObjectUtils.notNull(root.getClass());
+
+    ISerializer<? extends IBoundObject> serializer = bindingContext.newSerializer(format, clazz);
+
+    StringWriter expected = new StringWriter();
+    serializer.serialize(root, expected);
+
+    // move the items of the first collection to the producer
+    IBoundDefinitionModelAssembly definition
+        = (IBoundDefinitionModelAssembly) bindingContext.getBoundDefinitionForClass(clazz);
+    assert definition != null;
+    IBoundInstanceModel<?> instance = definition.getModelInstances().iterator().next();
+    List<IBoundObject> items = new ArrayList<>(
+        ObjectUtils.<List<IBoundObject>>asType(ObjectUtils.requireNonNull(instance.getValue(root))));
+    instance.setValue(root, null);
+
+    Class<IBoundObject> itemClass = ObjectUtils.asType(clazz);
+    StringWriter actual = new StringWriter();
+    serializer.serialize(root, itemClass, ObjectUtils.notNull(items.iterator()), actual);
+
+    assertEquals(expected.toString(), actual.toString());
+    // the bound object is not modified
+    assertNull(instance.getValue(root));
+  }
+}
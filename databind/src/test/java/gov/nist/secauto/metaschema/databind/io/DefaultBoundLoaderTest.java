@@ -6,22 +6,39 @@
 package gov.nist.secauto.metaschema.databind.io;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import gov.nist.secauto.metaschema.core.metapath.ISequence;
 import gov.nist.secauto.metaschema.core.metapath.MetapathExpression;
 import gov.nist.secauto.metaschema.core.metapath.item.node.IDocumentNodeItem;
+import gov.nist.secauto.metaschema.core.model.IBoundObject;
 import gov.nist.secauto.metaschema.core.model.MetaschemaException;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
 import gov.nist.secauto.metaschema.databind.IBindingContext;
 import gov.nist.secauto.metaschema.databind.codegen.AbstractMetaschemaTest;
+import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelAssembly;
+import gov.nist.secauto.metaschema.databind.model.IBoundInstanceModelAssembly;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.namespace.QName;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
 
 class DefaultBoundLoaderTest
     extends AbstractMetaschemaTest {
+  private static final String NS = "http://csrc.nist.gov/ns/test/metaschema/stream-test";
 
   @Test
   void testIssue187() throws IOException, MetaschemaException {
@@ -42,4 +59,84 @@ class DefaultBoundLoaderTest
 
     assertEquals(8, result.size());
   }
+
+  @ParameterizedTest
+  @EnumSource(Format.class)
+  void testStream(@NonNull Format format) throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newBindingContext();
+
+    bindingContext.loadMetaschema(ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/stream-metaschema.xml")));
+
+    Class<? extends IBoundObject> libraryClass
+        = ObjectUtils.requireNonNull(bindingContext.getBoundClassForRootJsonName("library"));
+    IBoundDefinitionModelAssembly library
+        = (IBoundDefinitionModelAssembly) ObjectUtils.requireNonNull(
+            bindingContext.getBoundDefinitionForClass(libraryClass));
+    IBoundInstanceModelAssembly shelves
+        = ObjectUtils.requireNonNull(library.getAssemblyInstanceByName(new QName(NS, "shelf")));
+    IBoundInstanceModelAssembly books = ObjectUtils.requireNonNull(
+        shelves.getDefinition().getAssemblyInstanceByName(new QName(NS, "book")));
+    Class<? extends IBoundObject> bookClass = books.getBoundClass();
+
+    IBoundLoader loader = new DefaultBoundLoader(bindingContext);
+
+    Path instance = ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/stream-instance" + format.getDefaultExtension()));
+    List<IBoundObject> items = new LinkedList<>();
+    IBoundObject streamedLibrary = loader.stream(libraryClass, instance, bookClass, items::add);
+
+    // the nested books are streamed in document order
+    assertEquals(
+        List.of("book-1", "book-2", "book-3"),
+        items.stream()
+            .map(item -> getFlagValue(books.getDefinition(), item, "id"))
+            .collect(Collectors.toList()));
+
+    // the shelves are retained, without the streamed books
+    List<?> shelfItems = (List<?>) ObjectUtils.requireNonNull(shelves.getValue(streamedLibrary));
+    assertEquals(2, shelfItems.size());
+    for (Object shelf : shelfItems) {
+      Object value = books.getValue(ObjectUtils.requireNonNull(shelf));
+      assertTrue(value == null || ((List<?>) value).isEmpty());
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(Format.class)
+  void testCollectionsReadAsArrayLists(@NonNull Format format) throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newBindingContext();
+
+    bindingContext.loadMetaschema(ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/stream-metaschema.xml")));
+
+    Class<? extends IBoundObject> libraryClass
+        = ObjectUtils.requireNonNull(bindingContext.getBoundClassForRootJsonName("library"));
+    IBoundDefinitionModelAssembly library
+        = (IBoundDefinitionModelAssembly) ObjectUtils.requireNonNull(
+            bindingContext.getBoundDefinitionForClass(libraryClass));
+    IBoundInstanceModelAssembly shelves
+        = ObjectUtils.requireNonNull(library.getAssemblyInstanceByName(new QName(NS, "shelf")));
+    IBoundInstanceModelAssembly books = ObjectUtils.requireNonNull(
+        shelves.getDefinition().getAssemblyInstanceByName(new QName(NS, "book")));
+
+    IBoundLoader loader = new DefaultBoundLoader(bindingContext);
+
+    IBoundObject loadedLibrary = loader.load(libraryClass, ObjectUtils.notNull(
+        Paths.get("src/test/resources/content/stream-instance" + format.getDefaultExtension())));
+
+    // collections are read into compacted, array-backed lists
+    List<?> shelfItems = assertInstanceOf(ArrayList.class, shelves.getValue(loadedLibrary));
+    assertEquals(2, shelfItems.size());
+    for (Object shelf : shelfItems) {
+      assertInstanceOf(ArrayList.class, books.getValue(ObjectUtils.requireNonNull(shelf)));
+    }
+  }
+
+  private static Object getFlagValue(
+      @NonNull IBoundDefinitionModelAssembly definition,
+      @NonNull Object item,
+      @NonNull String name) {
+    return ObjectUtils.requireNonNull(definition.getJsonProperties(null).get(name)).getValue(item);
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+class ReplayableContentTest {
+  private static final byte[] CONTENT = "{ \"test\": { \"id\": \"theId\" } }".getBytes(StandardCharsets.UTF_8);
+
+  @Test
+  void testContentInMemory() throws IOException {
+    try (ReplayableContent content = ReplayableContent.read(new ByteArrayInputStream(CONTENT))) {
+      assertAll(
+          () -> assertTrue(content.isInMemory()),
+          () -> assertArrayEquals(CONTENT, readAll(content)),
+          // the content can be read again
+          () -> assertArrayEquals(CONTENT, readAll(content)));
+    }
+  }
+
+  @Test
+  void testContentInFile() throws IOException {
+    try (ReplayableContent content = ReplayableContent.read(new ByteArrayInputStream(CONTENT), 8)) {
+      assertAll(
+          () -> assertFalse(content.isInMemory()),
+          () -> assertArrayEquals(CONTENT, readAll(content)),
+          // the content can be read again
+          () -> assertArrayEquals(CONTENT, readAll(content)));
+    }
+  }
+
+  private static byte[] readAll(ReplayableContent content) throws IOException {
+    try (InputStream is = content.newInputStream()) {
+      return is.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.io.json;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import gov.nist.secauto.metaschema.core.model.IBoundObject;
+import gov.nist.secauto.metaschema.core.model.MetaschemaException;
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+import gov.nist.secauto.metaschema.databind.IBindingContext;
+import gov.nist.secauto.metaschema.databind.codegen.AbstractMetaschemaTest;
+import gov.nist.secauto.metaschema.databind.model.IBoundDefinitionModelComplex;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+class MetaschemaJsonReaderTest
+    extends AbstractMetaschemaTest {
+  @NonNull
+  private static final Path CHOICE_GROUP_DIR = ObjectUtils.notNull(
+      Paths.get("src/test/resources/metaschema/choice-group"));
+
+  @Test
+  void testChoiceGroupDiscriminatorFirst() throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newChoiceGroupBindingContext();
+
+    try (JsonParser jsonParser = newParser("discriminator-first.json")) {
+      MetaschemaJsonReader reader = new MetaschemaJsonReader(jsonParser);
+      List<?> items = readItems(bindingContext, reader);
+
+      assertAll(
+          () -> assertEquals(List.of("circle", "square"), getDefinitionNames(bindingContext, items)),
+          () -> assertEquals("circle-1", getPropertyValue(bindingContext, items.get(0), "id")),
+          () -> assertEquals(BigInteger.valueOf(3), getPropertyValue(bindingContext, items.get(0), "radius")),
+          () -> assertEquals(BigInteger.valueOf(4), getPropertyValue(bindingContext, items.get(1), "side")),
+          () -> assertEquals(0, reader.getBufferedChoiceGroupItemCount()));
+    }
+  }
+
+  @Test
+  void testChoiceGroupDiscriminatorAfterProperties() throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newChoiceGroupBindingContext();
+
+    try (JsonParser jsonParser = newParser("discriminator-after-properties.json")) {
+      MetaschemaJsonReader reader = new MetaschemaJsonReader(jsonParser);
+      List<?> items = readItems(bindingContext, reader);
+
+      Object circle = items.get(0);
+      Object center = ObjectUtils.requireNonNull(getPropertyValue(bindingContext, circle, "center"));
+      assertAll(
+          () -> assertEquals(List.of("circle", "square", "square"), getDefinitionNames(bindingContext, items)),
+          // the properties preceding the discriminator, including a nested object, are
+          // replayed
+          () -> assertEquals("circle-1", getPropertyValue(bindingContext, circle, "id")),
+          () -> assertEquals(BigInteger.valueOf(1), getPropertyValue(bindingContext, center, "x")),
+          () -> assertEquals(BigInteger.valueOf(2), getPropertyValue(bindingContext, center, "y")),
+          () -> assertEquals(BigInteger.valueOf(3), getPropertyValue(bindingContext, circle, "radius")),
+          () -> assertEquals("square-1", getPropertyValue(bindingContext, items.get(1), "id")),
+          () -> assertEquals("square-2", getPropertyValue(bindingContext, items.get(2), "id")),
+          () -> assertEquals(BigInteger.valueOf(5), getPropertyValue(bindingContext, items.get(2), "side")),
+          // only the items not starting with the discriminator are buffered
+          () -> assertEquals(2, reader.getBufferedChoiceGroupItemCount()));
+    }
+  }
+
+  @Test
+  void testChoiceGroupMissingDiscriminator() throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newChoiceGroupBindingContext();
+
+    try (JsonParser jsonParser = newParser("missing-discriminator.json")) {
+      MetaschemaJsonReader reader = new MetaschemaJsonReader(jsonParser);
+
+      assertThrows(IllegalArgumentException.class, () -> readItems(bindingContext, reader));
+    }
+  }
+
+  @NonNull
+  private static IBindingContext newChoiceGroupBindingContext() throws IOException, MetaschemaException {
+    IBindingContext bindingContext = newBindingContext();
+    bindingContext.loadMetaschema(ObjectUtils.notNull(CHOICE_GROUP_DIR.resolve("metaschema.xml")));
+    return bindingContext;
+  }
+
+  @NonNull
+  private static JsonParser newParser(@NonNull String fileName) throws IOException {
+    JsonParser retval = new JsonFactory().createParser(CHOICE_GROUP_DIR.resolve(fileName).toFile());
+    // get the first token
+    retval.nextToken();
+    return ObjectUtils.notNull(retval);
+  }
+
+  @NonNull
+  private static List<?> readItems(
+      @NonNull IBindingContext bindingContext,
+      @NonNull MetaschemaJsonReader reader) throws IOException {
+    Class<? extends IBoundObject> clazz = ObjectUtils.requireNonNull(
+        bindingContext.getBoundClassForRootJsonName("shapes"));
+    IBoundDefinitionModelComplex definition = ObjectUtils.requireNonNull(
+        bindingContext.getBoundDefinitionForClass(clazz));
+
+    IBoundObject shapes = reader.readObjectRoot(definition, "shapes");
+    return (List<?>) ObjectUtils.requireNonNull(getPropertyValue(bindingContext, shapes, "items"));
+  }
+
+  @NonNull
+  private static IBoundDefinitionModelComplex getDefinition(
+      @NonNull IBindingContext bindingContext,
+      @NonNull Object item) {
+    return ObjectUtils.requireNonNull(
+        bindingContext.getBoundDefinitionForClass(((IBoundObject) item).getClass()));
+  }
+
+  @NonNull
+  private static List<String> getDefinitionNames(
+      @NonNull IBindingContext bindingContext,
+      @NonNull List<?> items) {
+    return ObjectUtils.notNull(items.stream()
+        .map(item -> getDefinition(bindingContext, ObjectUtils.requireNonNull(item)).getName())
+        .collect(Collectors.toList()));
+  }
+
+  private static Object getPropertyValue(
+      @NonNull IBindingContext bindingContext,
+      @NonNull Object item,
+      @NonNull String propertyName) {
+    return ObjectUtils.requireNonNull(getDefinition(bindingContext, item).getJsonProperties(null).get(propertyName))
+        .getValue(item);
+  }
+}
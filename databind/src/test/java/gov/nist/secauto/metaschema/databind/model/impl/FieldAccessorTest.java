@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.model.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import gov.nist.secauto.metaschema.core.util.ObjectUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class FieldAccessorTest {
+  @SuppressWarnings({ "PMD.ImmutableField", "PMD.UnusedPrivateField" })
+  private static final class Bean {
+    private String name;
+    private List<String> items;
+    private int count;
+  }
+
+  @Test
+  void testPrivateFields() throws NoSuchFieldException {
+    Bean bean = new Bean();
+
+    FieldAccessor name = new FieldAccessor(ObjectUtils.notNull(Bean.class.getDeclaredField("name")));
+    name.setValue(bean, "value");
+    assertEquals("value", name.getValue(bean));
+
+    FieldAccessor items = new FieldAccessor(ObjectUtils.notNull(Bean.class.getDeclaredField("items")));
+    items.setValue(bean, List.of("a", "b"));
+    assertEquals(List.of("a", "b"), items.getValue(bean));
+
+    // primitive values are boxed and unboxed
+    FieldAccessor count = new FieldAccessor(ObjectUtils.notNull(Bean.class.getDeclaredField("count")));
+    count.setValue(bean, 2);
+    assertEquals(2, count.getValue(bean));
+  }
+
+  @Test
+  void testInvalidValue() throws NoSuchFieldException {
+    Bean bean = new Bean();
+    FieldAccessor name = new FieldAccessor(ObjectUtils.notNull(Bean.class.getDeclaredField("name")));
+
+    assertThrows(IllegalArgumentException.class, () -> name.setValue(bean, 1));
+    assertThrows(IllegalArgumentException.class, () -> name.getValue("not a bean"));
+  }
+}
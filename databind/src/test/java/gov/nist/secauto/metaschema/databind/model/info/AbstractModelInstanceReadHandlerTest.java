@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: none
+ * SPDX-License-Identifier: CC0-1.0
+ */
+
+package gov.nist.secauto.metaschema.databind.model.info;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class AbstractModelInstanceReadHandlerTest {
+
+  @Test
+  void testNewItemListIsArrayBacked() {
+    List<String> items = AbstractModelInstanceReadHandler.newItemList();
+    assertInstanceOf(ArrayList.class, items);
+    assertTrue(items.isEmpty());
+  }
+
+  @Test
+  void testCompactItemListKeepsItems() {
+    ArrayList<String> items = AbstractModelInstanceReadHandler.newItemList();
+    items.add("first");
+    items.add("second");
+    items.add("third");
+
+    List<String> compacted = AbstractModelInstanceReadHandler.compactItemList(items);
+
+    // the list is compacted in place, so it remains an array-backed list
+    assertSame(items, compacted);
+    assertEquals(List.of("first", "second", "third"), compacted);
+  }
+
+  @Test
+  void testCompactEmptyItemList() {
+    ArrayList<String> items = AbstractModelInstanceReadHandler.newItemList();
+
+    List<String> compacted = AbstractModelInstanceReadHandler.compactItemList(items);
+
+    assertInstanceOf(ArrayList.class, compacted);
+    assertTrue(compacted.isEmpty());
+  }
+}
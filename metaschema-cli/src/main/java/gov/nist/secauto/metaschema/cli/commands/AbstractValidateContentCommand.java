@@ -28,6 +28,7 @@ import gov.nist.secauto.metaschema.databind.IBindingContext;
 import gov.nist.secauto.metaschema.databind.IBindingContext.ISchemaValidationProvider;
 import gov.nist.secauto.metaschema.databind.io.Format;
 import gov.nist.secauto.metaschema.databind.io.IBoundLoader;
+import gov.nist.secauto.metaschema.databind.io.ReplayableContent;
 import gov.nist.secauto.metaschema.modules.sarif.SarifValidationHandler;
 
 import org.apache.commons.cli.CommandLine;
@@ -35,8 +36,10 @@ import org.apache.commons.cli.Option;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.UnknownHostException;
 import java.nio.file.Path;
@@ -93,6 +96,21 @@ public abstract class AbstractValidateContentCommand
           .longOpt("disable-constraint-validation")
           .desc("do not perform constraint validation")
           .build());
+  @NonNull
+  private static final Option THREADS_OPTION = ObjectUtils.notNull(
+      Option.builder()
+          .longOpt("threads")
+          .hasArg()
+          .argName("COUNT")
+          .desc("the number of threads used for constraint validation")
+          .numberOfArgs(1)
+          .build());
+  @NonNull
+  private static final Option STREAMING_OPTION = ObjectUtils.notNull(
+      Option.builder()
+          .longOpt("streaming")
+          .desc("perform constraint validation while the content is being read")
+          .build());
 
   @Override
   public String getName() {
@@ -108,7 +126,9 @@ public abstract class AbstractValidateContentCommand
         SARIF_OUTPUT_FILE_OPTION,
         SARIF_INCLUDE_PASS_OPTION,
         NO_SCHEMA_VALIDATION_OPTION,
-        NO_CONSTRAINT_VALIDATION_OPTION);
+        NO_CONSTRAINT_VALIDATION_OPTION,
+        THREADS_OPTION,
+        STREAMING_OPTION);
   }
 
   @Override
@@ -236,6 +256,26 @@ public abstract class AbstractValidateContentCommand
       }
     }
 
+    private int parseThreadCount(@NonNull CommandLine commandLine) throws CommandExecutionException {
+      String value = commandLine.getOptionValue(THREADS_OPTION);
+      int retval;
+      try {
+        retval = Integer.parseInt(value);
+      } catch (NumberFormatException ex) {
+        throw new CommandExecutionException(
+            ExitCode.INVALID_ARGUMENTS,
+            String.format("The thread count '%s' is not a valid integer.", value),
+            ex);
+      }
+
+      if (retval < 1) {
+        throw new CommandExecutionException(
+            ExitCode.INVALID_ARGUMENTS,
+            String.format("The thread count '%d' must be at least 1.", retval));
+      }
+      return retval;
+    }
+
     @SuppressWarnings("PMD.CyclomaticComplexity")
     @Nullable
     private IValidationResult validate(
@@ -251,23 +291,46 @@ public abstract class AbstractValidateContentCommand
       IValidationResult validationResult = null;
       try {
         IModule module = bindingContext.registerModule(getModule(commandLine, bindingContext));
-        if (!commandLine.hasOption(NO_SCHEMA_VALIDATION_OPTION)) {
-          // perform schema validation
-          validationResult = getSchemaValidationProvider(module, commandLine, bindingContext)
-              .validateWithSchema(source, asFormat, bindingContext);
+
+        boolean schemaValidation = !commandLine.hasOption(NO_SCHEMA_VALIDATION_OPTION);
+        boolean constraintValidation = !commandLine.hasOption(NO_CONSTRAINT_VALIDATION_OPTION);
+
+        IMutableConfiguration<ValidationFeature<?>> configuration = new DefaultConfiguration<>();
+        if (commandLine.hasOption(SARIF_OUTPUT_FILE_OPTION) && commandLine.hasOption(SARIF_INCLUDE_PASS_OPTION)) {
+          configuration.enableFeature(ValidationFeature.VALIDATE_GENERATE_PASS_FINDINGS);
+        }
+        if (commandLine.hasOption(THREADS_OPTION)) {
+          configuration.set(ValidationFeature.VALIDATE_THREAD_COUNT, parseThreadCount(commandLine));
+        }
+        if (commandLine.hasOption(STREAMING_OPTION)) {
+          configuration.enableFeature(ValidationFeature.VALIDATE_STREAMING);
         }
 
-        if (!commandLine.hasOption(NO_CONSTRAINT_VALIDATION_OPTION)) {
-          IMutableConfiguration<ValidationFeature<?>> configuration = new DefaultConfiguration<>();
-          if (commandLine.hasOption(SARIF_OUTPUT_FILE_OPTION) && commandLine.hasOption(SARIF_INCLUDE_PASS_OPTION)) {
-            configuration.enableFeature(ValidationFeature.VALIDATE_GENERATE_PASS_FINDINGS);
+        // hold the content only if it is parsed for both schema and constraint
+        // validation, unless streaming, which keeps the memory used bounded
+        boolean holdContent = schemaValidation && constraintValidation
+            && !configuration.isFeatureEnabled(ValidationFeature.VALIDATE_STREAMING);
+
+        try (ReplayableContent content = holdContent ? readContent(source) : null) {
+          if (schemaValidation) {
+            // perform schema validation
+            try (InputStream is = newInputStream(source, content)) {
+              validationResult = getSchemaValidationProvider(module, commandLine, bindingContext)
+                  .validateWithSchema(source, asFormat, is, bindingContext);
+            }
           }
 
-          // perform constraint validation
-          IValidationResult constraintValidationResult = bindingContext.validateWithConstraints(source, configuration);
-          validationResult = validationResult == null
-              ? constraintValidationResult
-              : AggregateValidationResult.aggregate(validationResult, constraintValidationResult);
+          if (constraintValidation) {
+            // perform constraint validation
+            IValidationResult constraintValidationResult;
+            try (InputStream is = newInputStream(source, content)) {
+              constraintValidationResult
+                  = bindingContext.validateWithConstraints(source, asFormat, is, configuration);
+            }
+            validationResult = validationResult == null
+                ? constraintValidationResult
+                : AggregateValidationResult.aggregate(validationResult, constraintValidationResult);
+          }
         }
       } catch (FileNotFoundException ex) {
         throw new CommandExecutionException(
@@ -287,6 +350,22 @@ public abstract class AbstractValidateContentCommand
       return validationResult;
     }
 
+    @NonNull
+    private ReplayableContent readContent(@NonNull URI source) throws IOException {
+      try (InputStream is = ObjectUtils.notNull(source.toURL().openStream())) {
+        return ReplayableContent.read(is);
+      }
+    }
+
+    @NonNull
+    private InputStream newInputStream(
+        @NonNull URI source,
+        @Nullable ReplayableContent content) throws IOException {
+      return content == null
+          ? new BufferedInputStream(ObjectUtils.notNull(source.toURL().openStream()))
+          : content.newInputStream();
+    }
+
     private void handleOutput(
         @NonNull URI source,
         @Nullable IValidationResult validationResult,
@@ -12,6 +12,7 @@ import gov.nist.secauto.metaschema.core.configuration.DefaultConfiguration;
 import gov.nist.secauto.metaschema.core.configuration.IMutableConfiguration;
 import gov.nist.secauto.metaschema.core.model.IModule;
 import gov.nist.secauto.metaschema.core.model.constraint.IConstraintSet;
+import gov.nist.secauto.metaschema.core.model.validation.ContentValidatorCache;
 import gov.nist.secauto.metaschema.core.model.validation.JsonSchemaContentValidator;
 import gov.nist.secauto.metaschema.core.model.validation.XmlSchemaContentValidator;
 import gov.nist.secauto.metaschema.core.util.CollectionUtil;
@@ -121,32 +122,54 @@ class ValidateContentUsingModuleCommand
       this.module = module;
     }
 
-    @Override
-    public XmlSchemaContentValidator getXmlSchemas(
-        @NonNull URL targetResource,
-        @NonNull IBindingContext bindingContext) throws IOException, SAXException {
+    /**
+     * Generate a schema for the module.
+     * <p>
+     * The generated schema is used to identify cached validators, since the
+     * module, or any module it imports, may be edited in place without changing
+     * the module's location or version.
+     *
+     * @param format
+     *          the schema format to generate
+     * @return the generated schema
+     * @throws IOException
+     *           if an error occurred while generating the schema
+     */
+    @NonNull
+    private String generateSchema(@NonNull SchemaFormat format) throws IOException {
       IMutableConfiguration<SchemaGenerationFeature<?>> configuration = new DefaultConfiguration<>();
 
       try (StringWriter writer = new StringWriter()) {
-        ISchemaGenerator.generateSchema(module, writer, SchemaFormat.XML, configuration);
-        try (Reader reader = new StringReader(writer.toString())) {
-          return new XmlSchemaContentValidator(
-              ObjectUtils.notNull(List.of(new StreamSource(reader))));
-        }
+        ISchemaGenerator.generateSchema(module, writer, format, configuration);
+        return ObjectUtils.notNull(writer.toString());
       }
     }
 
+    @Override
+    public XmlSchemaContentValidator getXmlSchemas(
+        @NonNull URL targetResource,
+        @NonNull IBindingContext bindingContext) throws IOException, SAXException {
+      String schema = generateSchema(SchemaFormat.XML);
+      return ContentValidatorCache.getValidator(
+          XmlSchemaContentValidator.class,
+          ContentValidatorCache.toContentKey(schema),
+          () -> {
+            try (Reader reader = new StringReader(schema)) {
+              return new XmlSchemaContentValidator(
+                  ObjectUtils.notNull(List.of(new StreamSource(reader))));
+            }
+          });
+    }
+
     @Override
     public JsonSchemaContentValidator getJsonSchema(
         @NonNull JSONObject json,
         @NonNull IBindingContext bindingContext) throws IOException {
-      IMutableConfiguration<SchemaGenerationFeature<?>> configuration = new DefaultConfiguration<>();
-
-      try (StringWriter writer = new StringWriter()) {
-        ISchemaGenerator.generateSchema(module, writer, SchemaFormat.JSON, configuration);
-        return new JsonSchemaContentValidator(
-            new JSONObject(new JSONTokener(writer.toString())));
-      }
+      String schema = generateSchema(SchemaFormat.JSON);
+      return ContentValidatorCache.getValidator(
+          JsonSchemaContentValidator.class,
+          ContentValidatorCache.toContentKey(schema),
+          () -> new JsonSchemaContentValidator(new JSONObject(new JSONTokener(schema))));
     }
   }
 }
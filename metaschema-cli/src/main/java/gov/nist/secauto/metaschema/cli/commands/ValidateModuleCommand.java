@@ -11,6 +11,7 @@ import gov.nist.secauto.metaschema.cli.processor.command.ICommandExecutor;
 import gov.nist.secauto.metaschema.core.model.IModule;
 import gov.nist.secauto.metaschema.core.model.constraint.IConstraintSet;
 import gov.nist.secauto.metaschema.core.model.util.JsonUtil;
+import gov.nist.secauto.metaschema.core.model.validation.ContentValidatorCache;
 import gov.nist.secauto.metaschema.core.model.validation.JsonSchemaContentValidator;
 import gov.nist.secauto.metaschema.core.model.validation.XmlSchemaContentValidator;
 import gov.nist.secauto.metaschema.core.util.ObjectUtils;
@@ -93,30 +94,39 @@ class ValidateModuleCommand
   }
 
   private static final class ValidationProvider implements ISchemaValidationProvider {
+    @NonNull
+    private static final String XML_SCHEMA = "/schema/xml/metaschema-model_schema.xsd";
+    @NonNull
+    private static final String JSON_SCHEMA = "/schema/json/metaschema-model_schema.json";
+
     @SuppressWarnings("resource")
     @Override
     public XmlSchemaContentValidator getXmlSchemas(
         @NonNull URL targetResource,
         @NonNull IBindingContext bindingContext) throws IOException, SAXException {
-      try (InputStream is = this.getClass().getResourceAsStream("/schema/xml/metaschema-model_schema.xsd")) {
-        List<Source> sources = new LinkedList<>();
-        sources.add(new StreamSource(
-            ObjectUtils.requireNonNull(is,
-                "Unable to load '/schema/xml/metaschema.xsd' on the classpath")));
-        return new XmlSchemaContentValidator(sources);
-      }
+      return ContentValidatorCache.getValidator(XmlSchemaContentValidator.class, XML_SCHEMA, () -> {
+        try (InputStream is = ValidationProvider.class.getResourceAsStream(XML_SCHEMA)) {
+          List<Source> sources = new LinkedList<>();
+          sources.add(new StreamSource(
+              ObjectUtils.requireNonNull(is,
+                  "Unable to load '/schema/xml/metaschema.xsd' on the classpath")));
+          return new XmlSchemaContentValidator(sources);
+        }
+      });
     }
 
     @Override
     public JsonSchemaContentValidator getJsonSchema(
         @NonNull JSONObject json,
         @NonNull IBindingContext bindingContext) throws IOException {
-      try (BufferedReader reader = new BufferedReader(
-          new InputStreamReader(
-              this.getClass().getResourceAsStream("/schema/json/metaschema-model_schema.json"),
-              StandardCharsets.UTF_8))) {
-        return new JsonSchemaContentValidator(JsonUtil.toJsonObject(reader));
-      }
+      return ContentValidatorCache.getValidator(JsonSchemaContentValidator.class, JSON_SCHEMA, () -> {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(
+                ValidationProvider.class.getResourceAsStream(JSON_SCHEMA),
+                StandardCharsets.UTF_8))) {
+          return new JsonSchemaContentValidator(JsonUtil.toJsonObject(reader));
+        }
+      });
     }
   }
 }
@@ -14,10 +14,15 @@ import gov.nist.secauto.metaschema.cli.processor.ExitCode;
 import gov.nist.secauto.metaschema.cli.processor.ExitStatus;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -225,4 +230,131 @@ public class CLITest {
               "index-has-key-custom: No default message, custom error message for index-has-key-custom.");
     }
   }
+
+  private static Stream<Arguments> providesParallelValidationContent() {
+    return Stream.of(
+        Arguments.of("src/test/resources/content/215-module.xml", "src/test/resources/content/215.xml",
+            List.of()),
+        // nested assemblies across many items, so subtrees are validated concurrently
+        Arguments.of("src/test/resources/content/parallel-module.xml", "src/test/resources/content/parallel.xml",
+            List.of(
+                "index-items:",
+                "index-has-key-parts:",
+                "is-unique-groups:",
+                "matches-group-id:",
+                "expect-item-value:",
+                "cardinality-items:",
+                "allowed-part-kinds:",
+                "expect-part-ref:")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("providesParallelValidationContent")
+  void testParallelValidationMatchesSequentialOrder(
+      @NonNull String module,
+      @NonNull String content,
+      @NonNull List<String> expectedConstraintIds) {
+    String[] cliArgs = { "validate-content",
+        "-m",
+        module,
+        content,
+        "--disable-schema-validation"
+    };
+
+    List<String> sequentialErrors;
+    try (LogCaptor captor = LogCaptor.forRoot()) {
+      CLI.runCli(cliArgs);
+      sequentialErrors = captor.getErrorLogs();
+    }
+    assertThat(sequentialErrors).isNotEmpty();
+    for (String constraintId : expectedConstraintIds) {
+      assertThat(sequentialErrors).anyMatch(error -> error.contains(constraintId));
+    }
+
+    String[] parallelArgs = Stream.of(cliArgs, new String[] { "--threads", "4" }).flatMap(Stream::of)
+        .toArray(String[]::new);
+    try (LogCaptor captor = LogCaptor.forRoot()) {
+      CLI.runCli(parallelArgs);
+      assertThat(captor.getErrorLogs()).isEqualTo(sequentialErrors);
+    }
+  }
+
+  private static Stream<Arguments> providesStreamingValidationContent() {
+    return Stream.of(
+        // the groups are validated as they are read
+        Arguments.of("src/test/resources/content/streaming-module.xml", false),
+        // a root-level constraint using '//' requires the whole document
+        Arguments.of("src/test/resources/content/streaming-fallback-module.xml", true));
+  }
+
+  @ParameterizedTest
+  @MethodSource("providesStreamingValidationContent")
+  void testStreamingValidationMatchesFullValidation(@NonNull String module, boolean expectFallback) {
+    String[] cliArgs = { "validate-content",
+        "-m",
+        module,
+        "src/test/resources/content/streaming.xml",
+        "--disable-schema-validation"
+    };
+
+    List<String> errors;
+    try (LogCaptor captor = LogCaptor.forRoot()) {
+      CLI.runCli(cliArgs);
+      errors = captor.getErrorLogs();
+    }
+    assertThat(errors).isNotEmpty();
+    // root-level, index, key reference, and nested constraints are all reported
+    for (String constraintId : List.of(
+        "matches-catalog-id:",
+        "expect-title-length:",
+        "index-group-items:",
+        "index-has-key-parts:",
+        "is-unique-items:",
+        "expect-item-value:",
+        "cardinality-items:",
+        "allowed-part-kinds:",
+        "expect-part-ref:")) {
+      assertThat(errors).anyMatch(error -> error.contains(constraintId));
+    }
+
+    String[] streamingArgs = Stream.of(cliArgs, new String[] { "--streaming" }).flatMap(Stream::of)
+        .toArray(String[]::new);
+    try (LogCaptor captor = LogCaptor.forRoot()) {
+      CLI.runCli(streamingArgs);
+      // findings for streamed content are reported first, so only the set of
+      // findings is the same
+      assertThat(captor.getErrorLogs()).containsExactlyInAnyOrderElementsOf(errors);
+
+      boolean fallback = captor.getWarnLogs().stream()
+          .anyMatch(warning -> warning.startsWith(
+              "Streaming validation is not possible for the children of 'catalog'"));
+      assertEquals(expectFallback, fallback);
+    }
+  }
+
+  @Test
+  void testSchemaValidationUsesModuleEditedInPlace(@TempDir Path tempDir) throws IOException {
+    String requiredModule = Files.readString(Paths.get("src/test/resources/content/schema-validation-module.xml"));
+    String optionalModule = requiredModule.replace(
+        "name=\"required\" min-occurs=\"1\"",
+        "name=\"required\" min-occurs=\"0\"");
+    assertThat(optionalModule).isNotEqualTo(requiredModule);
+
+    Path module = tempDir.resolve("module.xml");
+    String[] cliArgs = { "validate-content",
+        "-m",
+        module.toString(),
+        "src/test/resources/content/schema-validation-module-missing-required.xml",
+        "--as=xml",
+        "--disable-constraint-validation"
+    };
+
+    Files.writeString(module, optionalModule);
+    evaluateResult(CLI.runCli(cliArgs), ExitCode.OK);
+
+    // the module's location and version are unchanged, but the schema generated
+    // for it now requires the missing field
+    Files.writeString(module, requiredModule);
+    evaluateResult(CLI.runCli(cliArgs), ExitCode.FAIL);
+  }
 }